@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.util.CompactStringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The {@link CompactStringMap} against the {@link HashMap} it replaces as the backing storage
+ * of the sources.
+ * 
+ * <p>The {@code copy} benchmarks allocate nothing but the copy of the map, so with {@code -prof gc}
+ * their {@code gc.alloc.rate.norm} is the footprint of each map, minus the keys and values 
+ * they share. The {@code get} benchmarks look up every key once, in random order.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactStringMapBenchmark {
+  @Param({"100", "10000", "1000000"})
+  private int entries;
+
+  private String[] keys;
+  private Map<String, String> hashMap;
+  private Map<String, String> compactMap;
+
+  @Setup
+  public void setUp() {
+    keys = new String[entries];
+    hashMap = new HashMap<>();
+
+    for(int i = 0; i < entries; i++){
+      keys[i] = "some.configuration.key" + i;
+      hashMap.put(keys[i], "some configuration value " + i);
+    }
+
+    compactMap = CompactStringMap.copyOf(hashMap);
+    Collections.shuffle(Arrays.asList(keys), new Random(42));
+  }
+
+  @Benchmark
+  public Map<String, String> copyHashMap() {
+    return new HashMap<>(hashMap);
+  }
+
+  @Benchmark
+  public Map<String, String> copyCompactMap() {
+    return CompactStringMap.copyOf(hashMap);
+  }
+
+  @Benchmark
+  public int getHashMap() {
+    return get(hashMap);
+  }
+
+  @Benchmark
+  public int getCompactMap() {
+    return get(compactMap);
+  }
+
+  private int get(Map<String, String> map) {
+    int length = 0;
+
+    for(String key : keys){
+      length += map.get(key).length();
+    }
+
+    return length;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.configurators.BasicConfigurator;
+import org.jconfigurations.configurators.CollectionConfigurator;
+import org.jconfigurations.configurators.CompilingConfigurator;
+import org.jconfigurations.configurators.Configurator;
+import org.jconfigurations.configurators.JConfigurator;
+import org.jconfigurations.configurators.MapConfigurator;
+import org.jconfigurations.configurators.RequiredConfigurator;
+import org.jconfigurations.configurators.SinglePassConfigurator;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.source.MapConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link Configurator#configure(java.lang.Object)} on classes with 1, 10 and 100 annotated fields.
+ * 
+ * <p>The {@code jconfigurator} engine is the {@link JConfigurator}, which uses the configurators
+ * generated at build time for the targets; the others are the framework's reflective
+ * {@link Configurator configurators}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfiguratorBenchmark {
+  @Param({"1", "10", "100"})
+  private int fields;
+
+  @Param({"jconfigurator", "chain", "singlePass", "compiling"})
+  private String engine;
+
+  private Configurator configurator;
+  private Object target;
+
+  @Setup
+  public void setUp() throws ConfigurationException {
+    final ConfigurationSource source = new MapConfigurationSource(Targets.configurations(fields));
+
+    switch(engine){
+      case "jconfigurator":
+        configurator = new JConfigurator(source);
+        break;
+      case "chain":
+        configurator = new RequiredConfigurator(
+                source, 
+                new BasicConfigurator(source, new CollectionConfigurator(source, new MapConfigurator(source)))
+        );
+        break;
+      case "singlePass":
+        configurator = new SinglePassConfigurator(source);
+        break;
+      case "compiling":
+        configurator = new CompilingConfigurator(source);
+        break;
+      default:
+        throw new IllegalArgumentException("unknown engine: " + engine);
+    }
+
+    target = Targets.newTarget(fields);
+    configurator.configure(target);
+  }
+
+  @Benchmark
+  public Object configure() throws ConfigurationException {
+    configurator.configure(target);
+    return target;
+  }
+}
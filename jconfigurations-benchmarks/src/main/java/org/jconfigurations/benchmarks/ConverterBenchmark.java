@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.converters.BigDecimalConfigurationConverter;
+import org.jconfigurations.converters.BigIntegerConfigurationConverter;
+import org.jconfigurations.converters.BooleanConfigurationConverter;
+import org.jconfigurations.converters.DoubleConfigurationConverter;
+import org.jconfigurations.converters.FileConfigurationConverter;
+import org.jconfigurations.converters.FloatConfigurationConverter;
+import org.jconfigurations.converters.IntegerConfigurationConverter;
+import org.jconfigurations.converters.LongConfigurationConverter;
+import org.jconfigurations.converters.StringConfigurationConverter;
+import org.jconfigurations.converters.URLConfigurationConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Each of the framework's built-in {@link org.jconfigurations.converters.ConfigurationConverter converters}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+  private final BigDecimalConfigurationConverter bigDecimalConverter = new BigDecimalConfigurationConverter();
+  private final BigIntegerConfigurationConverter bigIntegerConverter = new BigIntegerConfigurationConverter();
+  private final BooleanConfigurationConverter booleanConverter = new BooleanConfigurationConverter();
+  private final DoubleConfigurationConverter doubleConverter = new DoubleConfigurationConverter();
+  private final FileConfigurationConverter fileConverter = new FileConfigurationConverter();
+  private final FloatConfigurationConverter floatConverter = new FloatConfigurationConverter();
+  private final IntegerConfigurationConverter integerConverter = new IntegerConfigurationConverter();
+  private final LongConfigurationConverter longConverter = new LongConfigurationConverter();
+  private final StringConfigurationConverter stringConverter = new StringConfigurationConverter();
+  private final URLConfigurationConverter urlConverter = new URLConfigurationConverter();
+  private String bigNumber = "1234567890123";
+  private String bool = "true";
+  private String decimal = "3.14159";
+  private String integer = "123456";
+  private String path = "/tmp/jconfigurations/benchmarks";
+  private String url = "https://llorllale.github.io/jconfigurations";
+
+  @Benchmark
+  public BigDecimal bigDecimal() throws ConfigurationException {
+    return bigDecimalConverter.convert(bigNumber);
+  }
+
+  @Benchmark
+  public BigInteger bigInteger() throws ConfigurationException {
+    return bigIntegerConverter.convert(bigNumber);
+  }
+
+  @Benchmark
+  public Boolean booleanValue() throws ConfigurationException {
+    return booleanConverter.convert(bool);
+  }
+
+  @Benchmark
+  public Double doubleValue() throws ConfigurationException {
+    return doubleConverter.convert(decimal);
+  }
+
+  @Benchmark
+  public File file() throws ConfigurationException {
+    return fileConverter.convert(path);
+  }
+
+  @Benchmark
+  public Float floatValue() throws ConfigurationException {
+    return floatConverter.convert(decimal);
+  }
+
+  @Benchmark
+  public Integer integer() throws ConfigurationException {
+    return integerConverter.convert(integer);
+  }
+
+  @Benchmark
+  public Long longValue() throws ConfigurationException {
+    return longConverter.convert(bigNumber);
+  }
+
+  @Benchmark
+  public String string() throws ConfigurationException {
+    return stringConverter.convert(path);
+  }
+
+  @Benchmark
+  public URL url() throws ConfigurationException {
+    return urlConverter.convert(url);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.converters.CollectionConfigurationConverter;
+import org.jconfigurations.converters.ConversionCache;
+import org.jconfigurations.converters.HashMapConfigurationConverter;
+import org.jconfigurations.converters.IntegerConfigurationConverter;
+import org.jconfigurations.converters.ListConfigurationConverter;
+import org.jconfigurations.converters.MapConfigurationConverter;
+import org.jconfigurations.converters.MemoizingConfigurationConverter;
+import org.jconfigurations.converters.StringConfigurationConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link org.jconfigurations.converters.BaseCollectionConfigurationConverter#convert(java.lang.String)} and 
+ * {@link org.jconfigurations.converters.BaseMapConfigurationConverter#convert(java.lang.String)} 
+ * on values with 1 to 1000 elements, using both literal and regular expression delimiters,
+ * and the same conversions when their results are {@link MemoizingConfigurationConverter memoized}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DelimitedConverterBenchmark {
+  @Param({"1", "10", "100", "1000"})
+  private int elements;
+
+  @Param({",", "[,;]"})
+  private String delimiter;
+
+  private ListConfigurationConverter<Integer> listConverter;
+  private HashMapConfigurationConverter<String, Integer> mapConverter;
+  private CollectionConfigurationConverter<Integer> memoizedListConverter;
+  private MapConfigurationConverter<String, Integer> memoizedMapConverter;
+  private String list;
+  private String map;
+
+  @Setup
+  public void setUp() {
+    final String separator = delimiter.equals(",") ? "," : ";";
+    final StringBuilder listValue = new StringBuilder();
+    final StringBuilder mapValue = new StringBuilder();
+
+    for(int i = 0; i < elements; i++){
+      if(i > 0){
+        listValue.append(separator);
+        mapValue.append(separator);
+      }
+
+      listValue.append(i);
+      mapValue.append("key").append(i).append('=').append(i);
+    }
+
+    listConverter = new ListConfigurationConverter<>(new IntegerConfigurationConverter(), delimiter);
+    mapConverter = new HashMapConfigurationConverter<>(
+            new StringConfigurationConverter(), 
+            new IntegerConfigurationConverter(), 
+            delimiter, 
+            "="
+    );
+    final ConversionCache cache = new ConversionCache(16);
+    memoizedListConverter = MemoizingConfigurationConverter.collection(listConverter, cache);
+    memoizedMapConverter = MemoizingConfigurationConverter.map(mapConverter, cache);
+    list = listValue.toString();
+    map = mapValue.toString();
+  }
+
+  @Benchmark
+  public Collection<Integer> collection() throws ConfigurationException {
+    return listConverter.convert(list);
+  }
+
+  @Benchmark
+  public Map<String, Integer> map() throws ConfigurationException {
+    return mapConverter.convert(map);
+  }
+
+  @Benchmark
+  public Collection<Integer> memoizedCollection() throws ConfigurationException {
+    return memoizedListConverter.convert(list);
+  }
+
+  @Benchmark
+  public Map<String, Integer> memoizedMap() throws ConfigurationException {
+    return memoizedMapConverter.convert(map);
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jconfigurations.benchmarks;
+
+import org.jconfigurations.Configuration;
+
+/**
+ * Target class with 1 {@link Configuration} field, one per {@code field<i>} configuration in {@link Targets#configurations(int)}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class Fields1 {
+  @Configuration
+  int field0;
+}
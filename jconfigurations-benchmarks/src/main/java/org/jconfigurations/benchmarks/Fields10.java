@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jconfigurations.benchmarks;
+
+import org.jconfigurations.Configuration;
+
+/**
+ * Target class with 10 {@link Configuration} fields, one per {@code field<i>} configuration in {@link Targets#configurations(int)}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class Fields10 {
+  @Configuration
+  int field0;
+  @Configuration
+  long field1;
+  @Configuration
+  double field2;
+  @Configuration
+  boolean field3;
+  @Configuration
+  String field4;
+  @Configuration
+  int field5;
+  @Configuration
+  long field6;
+  @Configuration
+  double field7;
+  @Configuration
+  boolean field8;
+  @Configuration
+  String field9;
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jconfigurations.benchmarks;
+
+import org.jconfigurations.Configuration;
+
+/**
+ * Target class with 100 {@link Configuration} fields, one per {@code field<i>} configuration in {@link Targets#configurations(int)}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class Fields100 {
+  @Configuration
+  int field0;
+  @Configuration
+  long field1;
+  @Configuration
+  double field2;
+  @Configuration
+  boolean field3;
+  @Configuration
+  String field4;
+  @Configuration
+  int field5;
+  @Configuration
+  long field6;
+  @Configuration
+  double field7;
+  @Configuration
+  boolean field8;
+  @Configuration
+  String field9;
+  @Configuration
+  int field10;
+  @Configuration
+  long field11;
+  @Configuration
+  double field12;
+  @Configuration
+  boolean field13;
+  @Configuration
+  String field14;
+  @Configuration
+  int field15;
+  @Configuration
+  long field16;
+  @Configuration
+  double field17;
+  @Configuration
+  boolean field18;
+  @Configuration
+  String field19;
+  @Configuration
+  int field20;
+  @Configuration
+  long field21;
+  @Configuration
+  double field22;
+  @Configuration
+  boolean field23;
+  @Configuration
+  String field24;
+  @Configuration
+  int field25;
+  @Configuration
+  long field26;
+  @Configuration
+  double field27;
+  @Configuration
+  boolean field28;
+  @Configuration
+  String field29;
+  @Configuration
+  int field30;
+  @Configuration
+  long field31;
+  @Configuration
+  double field32;
+  @Configuration
+  boolean field33;
+  @Configuration
+  String field34;
+  @Configuration
+  int field35;
+  @Configuration
+  long field36;
+  @Configuration
+  double field37;
+  @Configuration
+  boolean field38;
+  @Configuration
+  String field39;
+  @Configuration
+  int field40;
+  @Configuration
+  long field41;
+  @Configuration
+  double field42;
+  @Configuration
+  boolean field43;
+  @Configuration
+  String field44;
+  @Configuration
+  int field45;
+  @Configuration
+  long field46;
+  @Configuration
+  double field47;
+  @Configuration
+  boolean field48;
+  @Configuration
+  String field49;
+  @Configuration
+  int field50;
+  @Configuration
+  long field51;
+  @Configuration
+  double field52;
+  @Configuration
+  boolean field53;
+  @Configuration
+  String field54;
+  @Configuration
+  int field55;
+  @Configuration
+  long field56;
+  @Configuration
+  double field57;
+  @Configuration
+  boolean field58;
+  @Configuration
+  String field59;
+  @Configuration
+  int field60;
+  @Configuration
+  long field61;
+  @Configuration
+  double field62;
+  @Configuration
+  boolean field63;
+  @Configuration
+  String field64;
+  @Configuration
+  int field65;
+  @Configuration
+  long field66;
+  @Configuration
+  double field67;
+  @Configuration
+  boolean field68;
+  @Configuration
+  String field69;
+  @Configuration
+  int field70;
+  @Configuration
+  long field71;
+  @Configuration
+  double field72;
+  @Configuration
+  boolean field73;
+  @Configuration
+  String field74;
+  @Configuration
+  int field75;
+  @Configuration
+  long field76;
+  @Configuration
+  double field77;
+  @Configuration
+  boolean field78;
+  @Configuration
+  String field79;
+  @Configuration
+  int field80;
+  @Configuration
+  long field81;
+  @Configuration
+  double field82;
+  @Configuration
+  boolean field83;
+  @Configuration
+  String field84;
+  @Configuration
+  int field85;
+  @Configuration
+  long field86;
+  @Configuration
+  double field87;
+  @Configuration
+  boolean field88;
+  @Configuration
+  String field89;
+  @Configuration
+  int field90;
+  @Configuration
+  long field91;
+  @Configuration
+  double field92;
+  @Configuration
+  boolean field93;
+  @Configuration
+  String field94;
+  @Configuration
+  int field95;
+  @Configuration
+  long field96;
+  @Configuration
+  double field97;
+  @Configuration
+  boolean field98;
+  @Configuration
+  String field99;
+}
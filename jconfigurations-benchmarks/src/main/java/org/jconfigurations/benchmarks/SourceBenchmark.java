@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.source.JdbcConfigurationSource;
+import org.jconfigurations.source.PropertiesConfigurationSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of the {@link PropertiesConfigurationSource} and the {@link JdbcConfigurationSource}
+ * from large inputs.
+ * 
+ * <p>The JDBC source reads from an in-memory {@link ResultSet} so that the measurements are 
+ * not dominated by the driver.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceBenchmark {
+  @Param({"100", "10000", "100000"})
+  private int entries;
+
+  private Properties properties;
+  private String[] keys;
+  private String[] values;
+
+  @Setup
+  public void setUp() {
+    properties = new Properties();
+    keys = new String[entries];
+    values = new String[entries];
+
+    for(int i = 0; i < entries; i++){
+      keys[i] = "some.configuration.key" + i;
+      values[i] = "some configuration value " + i;
+      properties.setProperty(keys[i], values[i]);
+    }
+  }
+
+  @Benchmark
+  public ConfigurationSource properties() {
+    return new PropertiesConfigurationSource(properties);
+  }
+
+  @Benchmark
+  public ConfigurationSource jdbc() throws SQLException {
+    return new JdbcConfigurationSource(resultSet(keys, values));
+  }
+
+  /*
+   * A forward-only ResultSet with a key and a value column.
+   */
+  private static ResultSet resultSet(String[] keys, String[] values) {
+    final int[] row = {-1};
+
+    return (ResultSet) Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+              switch(method.getName()){
+                case "next":
+                  return ++row[0] < keys.length;
+                case "getString":
+                  return (Integer) args[0] == 1 ? keys[row[0]] : values[row[0]];
+                case "close":
+                  return null;
+                default:
+                  throw new UnsupportedOperationException(method.getName());
+              }
+            }
+    );
+  }
+}
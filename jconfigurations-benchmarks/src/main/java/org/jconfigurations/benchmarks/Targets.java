@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link Fields1}, {@link Fields10} and {@link Fields100} targets and their configurations.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+final class Targets {
+  private static final String[] VALUES = {"1", "2", "3.5", "true", "value"};
+
+  private Targets() {
+  }
+
+  /**
+   * 
+   * @param fields the number of annotated fields (1, 10 or 100)
+   * @return a new target with {@code fields} annotated fields
+   */
+  static Object newTarget(int fields) {
+    switch(fields){
+      case 1: return new Fields1();
+      case 10: return new Fields10();
+      case 100: return new Fields100();
+      default: throw new IllegalArgumentException("unsupported number of fields: " + fields);
+    }
+  }
+
+  /**
+   * 
+   * @param fields the number of annotated fields
+   * @return a value for each of the target's fields
+   */
+  static Map<String, String> configurations(int fields) {
+    final Map<String, String> configurations = new HashMap<>();
+
+    for(int i = 0; i < fields; i++){
+      configurations.put("field" + i, VALUES[i % VALUES.length]);
+    }
+
+    return configurations;
+  }
+}
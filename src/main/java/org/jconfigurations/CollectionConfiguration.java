@@ -16,6 +16,7 @@
 package org.jconfigurations;
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Target;
@@ -40,7 +41,7 @@ import org.jconfigurations.functions.FieldConverterFunction;
  * @see CollectionConfigurator
  */
 @Retention(RUNTIME)
-@Target(FIELD)
+@Target({FIELD, METHOD})
 public @interface CollectionConfiguration {
   /**
    * The configuration value's string representation will be tokenized using 
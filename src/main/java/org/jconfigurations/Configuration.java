@@ -18,6 +18,7 @@ package org.jconfigurations;
 import org.jconfigurations.converters.ConfigurationConverter;
 import org.jconfigurations.converters.NoConfigurationConverter;
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Target;
@@ -35,7 +36,7 @@ import org.jconfigurations.configurators.Configurator;
  * @see Configurator
  */
 @Retention(RUNTIME)
-@Target(FIELD)
+@Target({FIELD, METHOD})
 public @interface Configuration {
   /**
    * <pre>
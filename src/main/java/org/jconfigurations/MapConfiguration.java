@@ -16,6 +16,7 @@
 package org.jconfigurations;
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Target;
@@ -36,7 +37,7 @@ import org.jconfigurations.converters.NoMapConfigurationConverter;
  * @see MapConfigurator
  */
 @Retention(RUNTIME)
-@Target(FIELD)
+@Target({FIELD, METHOD})
 public @interface MapConfiguration {
   /**
    * The delimiter string that separates each key-value pair ("entry") from others.
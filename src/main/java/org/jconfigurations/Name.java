@@ -16,6 +16,7 @@
 package org.jconfigurations;
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import java.lang.annotation.Retention;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Target;
@@ -38,13 +39,16 @@ import org.jconfigurations.source.ConfigurationSource;
    * 
    * ... will listen for a configuration property named {@code webServer.name}.<br><br>
    * 
+   * The methods of interfaces bound with {@link org.jconfigurations.configurators.ConfigurationProxies}
+   * are named the same way, after the method.<br><br>
+   * 
    * It is illegal to specify an empty name and an error will be thrown in such a case.
    * 
    * @author George Aristy
    * @see DefaultFieldNameFunction
    */
 @Retention(RUNTIME)
-@Target(FIELD)
+@Target({FIELD, METHOD})
 public @interface Name {
   /**
    * The configuration's name.
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations;
+
+import static java.lang.annotation.ElementType.FIELD;
+import java.lang.annotation.Retention;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Target;
+import org.jconfigurations.configurators.PrefixConfigurator;
+
+/**
+ * <pre>
+ * Marks a field holding a nested object that is configured from a namespace of keys.
+ * Eg.:
+ * 
+ *   {@literal @}Prefix("db.pool")
+ *    private PoolSettings pool;</pre>
+ * ... will configure {@code pool} as if the configurations named {@code db.pool.*} had 
+ * no prefix, so that a {@code max} field of {@code PoolSettings} is assigned the value 
+ * of {@code db.pool.max}. If the field is {@code null} and there are configurations in the
+ * namespace, it is assigned a new instance created with its type's no-arg constructor.<br><br>
+ * 
+ * It is illegal to specify an empty prefix and an error will be thrown in such a case.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see PrefixConfigurator
+ */
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface Prefix {
+  /**
+   * The namespace, without the trailing {@code '.'}.
+   * @return 
+   */
+  public String value();
+}
@@ -16,6 +16,7 @@
 package org.jconfigurations;
 
 import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
@@ -28,7 +29,7 @@ import org.jconfigurations.configurators.RequiredConfigurator;
  * @see RequiredConfigurator
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(FIELD)
+@Target({FIELD, METHOD})
 public @interface Required {
   
 }
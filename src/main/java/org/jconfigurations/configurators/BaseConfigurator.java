@@ -17,24 +17,30 @@ package org.jconfigurations.configurators;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
-import java.util.Iterator;
 import static java.util.Objects.requireNonNull;
-import java.util.stream.Stream;
 import org.jconfigurations.CollectionConfiguration;
 import org.jconfigurations.Configuration;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.MapConfiguration;
 import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.functions.FieldWriterFunction;
 import org.jconfigurations.source.ConfigurationSource;
 import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
 
 /**
  * Handy abstract class that does the heavy-lifting for {@link #configure(java.lang.Object)}.
  * <br><br>
  * Note that this class does not check the annotations provided in its 
- * {@link #BaseConfigurator(java.lang.Class, org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction) constructor}.
+ * {@link #BaseConfigurator(java.lang.Class, org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction) constructor}.
  * The annotation provided is merely used to filter fields pertaining to the input
  * {@link #configure(java.lang.Object) object}.
+ * <br><br>
+ * The fields of each class, along with their names and converters, are resolved
+ * only the first time an instance of said class is configured. This means that
+ * the {@code fieldNameFunction}, {@code fieldConverterFunction} and {@code fieldWriterFunction} 
+ * are invoked at most once per field, and that the converters and {@link FieldWriter writers} 
+ * they produce are reused for all subsequent instances of the same class.
  *
  * @author George Aristy
  */
@@ -44,6 +50,13 @@ public abstract class BaseConfigurator implements Configurator {
   protected final Configurator configurator;
   protected final ErrorFunction<Field, String> fieldNameFunction;
   protected final ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction;
+  protected final ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction;
+  private final ClassValue<ConfigurationPlan> plans = new ClassValue<ConfigurationPlan>(){
+    @Override
+    protected ConfigurationPlan computeValue(Class<?> type) {
+      return ConfigurationPlan.compile(type, annotation, fieldNameFunction, fieldConverterFunction, fieldWriterFunction);
+    }
+  };
 
   /**
    * 
@@ -53,6 +66,7 @@ public abstract class BaseConfigurator implements Configurator {
    * @param configurator
    * @param fieldNameFunction
    * @param fieldConverterFunction 
+   * @param fieldWriterFunction 
    * @throws NullPointerException if any of the parameters are {@code null}.
    */
   protected BaseConfigurator(
@@ -60,47 +74,44 @@ public abstract class BaseConfigurator implements Configurator {
           ConfigurationSource source, 
           Configurator configurator,
           ErrorFunction<Field, String> fieldNameFunction, 
-          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction
   ) {
     this.annotation = requireNonNull(annotation, "null annotation");
     this.source = requireNonNull(source, "null source");
     this.configurator = requireNonNull(configurator, "null configurator");
     this.fieldNameFunction = requireNonNull(fieldNameFunction, "null fieldNameFunction");
     this.fieldConverterFunction = requireNonNull(fieldConverterFunction, "null fieldConverterFunction");
+    this.fieldWriterFunction = requireNonNull(fieldWriterFunction, "null fieldWriterFunction");
+  }
+
+  /**
+   * Defaults to using the {@link FieldWriterFunction} to produce the fields' 
+   * {@link FieldWriter writers}.
+   * 
+   * @param annotation one of the framework's provided annotations 
+   * (see {@link Configuration}, {@link CollectionConfiguration}, {@link MapConfiguration}).
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @param fieldConverterFunction 
+   * @throws NullPointerException if any of the parameters are {@code null}.
+   */
+  protected BaseConfigurator(
+          Class<? extends Annotation> annotation, 
+          ConfigurationSource source, 
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction, 
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction
+  ) {
+    this(annotation, source, configurator, fieldNameFunction, fieldConverterFunction, new FieldWriterFunction());
   }
 
   @Override
   public void configure(Object object) throws ConfigurationException {
     requireNonNull(object, "null object.");
 
-    Iterator<Field> iter = Stream.of(object.getClass().getDeclaredFields())
-            .filter(f -> f.isAnnotationPresent(annotation))
-            .map(f -> {f.setAccessible(true); return f;})
-            .iterator();
-
-    while(iter.hasNext()){
-      Field field = iter.next();
-      final String propertyName = fieldNameFunction.apply(field);
-
-      if(source.configurations().containsKey(propertyName)){
-        final String propertyValue = source.configurations().get(propertyName);
-        final ConfigurationConverter converter = fieldConverterFunction.apply(field);
-    
-        try{
-          field.set(object, converter.convert(propertyValue));
-        }catch(IllegalArgumentException | IllegalAccessException | ConfigurationException e){
-          throw new ConfigurationException(
-                  String.format(
-                          "Unable to configure field '%s' of type '%s' in object of class '%s'",
-                          field.getName(), 
-                          field.getType().getName(), 
-                          field.getDeclaringClass().getName()
-                  ), 
-                  e
-          );
-        }
-      }
-    }
+    plans.get(object.getClass()).configure(object, source.configurations());
 
     configurator.configure(object);
   }
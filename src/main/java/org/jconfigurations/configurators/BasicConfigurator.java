@@ -23,7 +23,9 @@ import org.jconfigurations.functions.DefaultFieldNameFunction;
 import org.jconfigurations.functions.DefaultTypeConverterFunction;
 import org.jconfigurations.source.ConfigurationSource;
 import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.FieldWriterFunction;
 import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
 
 /**
  * <pre>
@@ -52,15 +54,38 @@ public class BasicConfigurator extends BaseConfigurator {
    * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
    * @param fieldConverterFunction the {@link ErrorFunction function} used to produce an instance of the 
    * appropriate {@link ConfigurationConverter converter} for a given field.
+   * @param fieldWriterFunction the {@link ErrorFunction function} used to produce the 
+   * {@link FieldWriter writer} used to assign values to a given field.
    * @throws NullPointerException if any of the inputs is {@code null}.
    */
+  public BasicConfigurator(
+          ConfigurationSource source, 
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction, 
+          ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, FieldWriter> fieldWriterFunction
+  ) {
+    super(Configuration.class, source, configurator, fieldNameFunction, fieldConverterFunction, fieldWriterFunction);
+  }
+
+  /**
+   * Defaults to using the {@link FieldWriterFunction} to produce the fields' 
+   * {@link FieldWriter writers}.
+   * 
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @param fieldConverterFunction 
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #BasicConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction) 
+   */
   public BasicConfigurator(
           ConfigurationSource source, 
           Configurator configurator,
           ErrorFunction<Field, String> fieldNameFunction, 
           ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction
   ) {
-    super(Configuration.class, source, configurator, fieldNameFunction, fieldConverterFunction);
+    this(source, configurator, fieldNameFunction, fieldConverterFunction, new FieldWriterFunction());
   }
 
   /**
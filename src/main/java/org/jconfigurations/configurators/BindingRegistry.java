@@ -0,0 +1,498 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+import org.jconfigurations.converters.CollectionConfigurationConverter;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.MapConfigurationConverter;
+import org.jconfigurations.functions.CollectionFieldConverterFunction;
+import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.FieldWriterFunction;
+import org.jconfigurations.functions.MapFieldConverterFunction;
+import org.jconfigurations.source.ConfigurationDiff;
+import org.jconfigurations.source.ConfigurationListener;
+import org.jconfigurations.source.ReloadableConfigurationSource;
+import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
+
+/**
+ * <p>A {@link Configurator} that remembers which fields of which objects it has 
+ * {@link #configure(java.lang.Object) configured} from which configuration names, and 
+ * keeps those fields up to date when its {@link ReloadableConfigurationSource source} 
+ * changes.</p>
+ * 
+ * <p>Objects are configured the same way the {@link SinglePassConfigurator} configures them. 
+ * When the source's configurations are replaced, only the fields whose configurations were
+ * added or changed are converted and assigned again; the rest of the fields are left untouched.
+ * Fields whose configurations were removed are reset to {@code null}, {@code 0} or {@code false},
+ * except {@link Required required} fields, which keep their values and are reported as failures.</p>
+ * 
+ * <p>The fields of the nested objects held by {@link Prefix} fields are kept up to date as well.
+ * A nested object that does not exist yet is created and registered as soon as any of its
+ * configurations is added.</p>
+ * 
+ * <p>Configured objects are only referenced weakly and may therefore be garbage-collected. The
+ * registry must be {@link #close() closed} once it is no longer needed, so that the source stops
+ * referencing it.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationDiff
+ */
+public final class BindingRegistry implements Configurator, ConfigurationListener, AutoCloseable {
+  private final ReloadableConfigurationSource source;
+  private final ErrorFunction<Field, String> fieldNameFunction;
+  private final ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction;
+  private final ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction;
+  private final ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction;
+  private final ErrorFunction<Field, FieldWriter> fieldWriterFunction;
+  private final ClassValue<ConfigurationPlan> plans = new ClassValue<ConfigurationPlan>(){
+    @Override
+    protected ConfigurationPlan computeValue(Class<?> type) {
+      return ConfigurationPlan.compile(
+              type,
+              fieldNameFunction,
+              fieldConverterFunction,
+              collectionFieldConverterFunction,
+              mapFieldConverterFunction,
+              fieldWriterFunction
+      );
+    }
+  };
+  private final Object lock = new Object();
+  private final Map<String, Set<Target>> targets = new HashMap<>();
+  private final Set<Target> prefixed = new LinkedHashSet<>();
+  private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+  /**
+   * Fully customizable constructor. The registry registers itself as a 
+   * {@link ConfigurationListener listener} of {@code source}.
+   *
+   * @param source the {@link ReloadableConfigurationSource} that provides the configurations
+   * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
+   * @param fieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link ConfigurationConverter converter} for {@link Configuration} fields.
+   * @param collectionFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link CollectionConfigurationConverter converter} for {@link CollectionConfiguration} fields.
+   * @param mapFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link MapConfigurationConverter converter} for {@link MapConfiguration} fields.
+   * @param fieldWriterFunction the {@link ErrorFunction function} used to produce the
+   * {@link FieldWriter writer} used to assign values to a given field.
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   */
+  public BindingRegistry(
+          ReloadableConfigurationSource source,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction,
+          ErrorFunction<Field, FieldWriter> fieldWriterFunction
+  ) {
+    this.source = requireNonNull(source, "null source");
+    this.fieldNameFunction = requireNonNull(fieldNameFunction, "null fieldNameFunction");
+    this.fieldConverterFunction = requireNonNull(fieldConverterFunction, "null fieldConverterFunction");
+    this.collectionFieldConverterFunction = requireNonNull(collectionFieldConverterFunction, "null collectionFieldConverterFunction");
+    this.mapFieldConverterFunction = requireNonNull(mapFieldConverterFunction, "null mapFieldConverterFunction");
+    this.fieldWriterFunction = requireNonNull(fieldWriterFunction, "null fieldWriterFunction");
+    source.addListener(this);
+  }
+
+  /**
+   * Defaults to using the {@link FieldConverterFunction}, {@link CollectionFieldConverterFunction},
+   * {@link MapFieldConverterFunction} and {@link FieldWriterFunction} to produce the fields' 
+   * converters and writers.
+   *
+   * @param source
+   * @param fieldNameFunction
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #BindingRegistry(org.jconfigurations.source.ReloadableConfigurationSource, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction)
+   */
+  public BindingRegistry(ReloadableConfigurationSource source, ErrorFunction<Field, String> fieldNameFunction) {
+    this(
+            source,
+            fieldNameFunction,
+            new FieldConverterFunction(),
+            new CollectionFieldConverterFunction(),
+            new MapFieldConverterFunction(),
+            new FieldWriterFunction()
+    );
+  }
+
+  /**
+   * Defaults to using the {@link DefaultFieldNameFunction} to resolve the field's
+   * {@link Name name}.
+   *
+   * @param source
+   * @throws NullPointerException if {@code source} is {@code null}.
+   * @see #BindingRegistry(org.jconfigurations.source.ReloadableConfigurationSource, org.jconfigurations.util.ErrorFunction)
+   */
+  public BindingRegistry(ReloadableConfigurationSource source) {
+    this(source, new DefaultFieldNameFunction());
+  }
+
+  /**
+   * Configures {@code object} and registers its fields, and those of its nested objects,
+   * so that they are kept up to date. Configuring the same object more than once has no
+   * further effect on the registry.
+   *
+   * @param object the target object
+   * @throws ConfigurationException if {@code object} could not be configured, in which
+   *     case it is not registered
+   */
+  @Override
+  public void configure(Object object) throws ConfigurationException {
+    requireNonNull(object, "null object.");
+    final ConfigurationPlan plan = plans.get(object.getClass());
+
+    synchronized(lock){
+      plan.configure(object, source.configurations());
+      expunge();
+      final List<Target> found = new ArrayList<>();
+      collect(object, plan, found);
+
+      for(Target target : found){
+        register(target);
+      }
+    }
+  }
+
+  /**
+   * Stops keeping {@code object}'s fields, and those of its nested objects, up to date.
+   *
+   * @param object a previously configured object
+   * @return {@code true} if {@code object} was registered
+   * @throws NullPointerException if {@code object} is {@code null}.
+   */
+  public boolean remove(Object object) {
+    requireNonNull(object, "null object.");
+    final List<Target> found = new ArrayList<>();
+    boolean removed = false;
+
+    synchronized(lock){
+      try{
+        collect(object, plans.get(object.getClass()), found);
+      }catch(ConfigurationException e){
+        //nested objects that cannot be read were never registered
+      }
+
+      for(Target target : found){
+        removed |= unregister(target);
+        target.clear();
+      }
+    }
+
+    return removed;
+  }
+
+  /**
+   * Converts and assigns again the fields whose configurations were added or changed,
+   * and resets those whose configurations were removed. The values are taken from the
+   * source's latest configurations, so that notifications delivered out of order still
+   * leave the fields with the latest values.
+   *
+   * @param previous the previous configurations
+   * @param current the current configurations
+   * @throws IllegalStateException if some of the fields could not be configured, or if
+   *     the configurations of {@link Required required} fields were removed; its cause is
+   *     the first {@link ConfigurationException} and the rest are suppressed. The other
+   *     fields are configured regardless.
+   */
+  @Override
+  public void configurationsChanged(Map<String, String> previous, Map<String, String> current) {
+    final ConfigurationDiff diff = ConfigurationDiff.of(previous, current);
+    IllegalStateException failure = null;
+
+    if(diff.isEmpty()){
+      return;
+    }
+
+    synchronized(lock){
+      expunge();
+      final Map<String, String> configurations = source.configurations();
+
+      for(String name : diff.added()){
+        failure = reconfigure(name, configurations, failure);
+      }
+
+      for(String name : diff.changed()){
+        failure = reconfigure(name, configurations, failure);
+      }
+
+      for(String name : diff.removed()){
+        failure = reconfigure(name, configurations, failure);
+      }
+    }
+
+    if(failure != null){
+      throw failure;
+    }
+  }
+
+  /**
+   *
+   * @return the number of fields of live objects that are kept up to date
+   */
+  public int size() {
+    synchronized(lock){
+      expunge();
+      return targets.values().stream()
+              .mapToInt(named -> (int) named.stream().filter(t -> t.binding instanceof FieldBinding).count())
+              .sum();
+    }
+  }
+
+  /**
+   * Stops listening to the source and forgets all registered objects. Their fields
+   * are no longer kept up to date.
+   */
+  @Override
+  public void close() {
+    source.removeListener(this);
+
+    synchronized(lock){
+      targets.clear();
+      prefixed.clear();
+    }
+  }
+
+  /*
+   * The targets of object's fields and, recursively, of the fields of its nested objects.
+   * Nested objects that do not exist yet are pending targets, keyed by their names and
+   * namespaces.
+   */
+  private void collect(Object object, ConfigurationPlan plan, List<Target> found) throws ConfigurationException {
+    for(FieldBinding binding : plan.bindings()){
+      if(binding.name() != null){
+        found.add(new Target(object, binding, new String[]{binding.name()}, new String[0], collected));
+      }
+    }
+
+    for(NestedBinding binding : plan.nested()){
+      final Object nested = binding.get(object);
+
+      if(nested != null){
+        collect(nested, binding.plan(), found);
+      }else{
+        final List<String> names = binding.names();
+        final List<String> namespaces = binding.namespaces();
+        found.add(new Target(
+                object,
+                binding,
+                names.toArray(new String[names.size()]),
+                namespaces.toArray(new String[namespaces.size()]),
+                collected
+        ));
+      }
+    }
+  }
+
+  private IllegalStateException reconfigure(
+          String name,
+          Map<String, String> configurations,
+          IllegalStateException failure
+  ) {
+    final List<Target> matched = new ArrayList<>();
+    final Set<Target> named = targets.get(name);
+
+    if(named != null){
+      matched.addAll(named);
+    }
+
+    for(Target target : prefixed){
+      if(target.matches(name)){
+        matched.add(target);
+      }
+    }
+
+    for(Target target : matched){
+      final Object object = target.get();
+
+      if(object != null){
+        try{
+          if(target.binding instanceof FieldBinding){
+            update(object, (FieldBinding) target.binding, name, configurations);
+          }else if(configurations.containsKey(name) && unregister(target)){
+            create(object, target, configurations);
+          }
+        }catch(ConfigurationException e){
+          if(failure == null){
+            failure = new IllegalStateException("Unable to reconfigure some fields", e);
+          }else{
+            failure.addSuppressed(e);
+          }
+        }
+      }
+    }
+
+    return failure;
+  }
+
+  private static void update(
+          Object object,
+          FieldBinding binding,
+          String name,
+          Map<String, String> configurations
+  ) throws ConfigurationException {
+    if(configurations.containsKey(name)){
+      binding.configure(object, configurations);
+    }else if(binding.isRequired()){
+      binding.require(object, configurations);
+    }else{
+      binding.reset(object);
+    }
+  }
+
+  /*
+   * Creates the nested object of a pending target and registers its fields instead.
+   */
+  private void create(Object object, Target pending, Map<String, String> configurations) throws ConfigurationException {
+    final NestedBinding binding = (NestedBinding) pending.binding;
+    final List<Target> found = new ArrayList<>();
+
+    try{
+      binding.configure(object, configurations);
+      final Object nested = binding.get(object);
+
+      if(nested != null){
+        collect(nested, binding.plan(), found);
+      }
+    }finally{
+      if(found.isEmpty()){
+        found.add(pending);
+      }
+
+      for(Target target : found){
+        register(target);
+      }
+    }
+  }
+
+  private void register(Target target) {
+    for(int i = 0; i < target.names.length; i++){
+      if(!targets.computeIfAbsent(target.names[i], k -> new LinkedHashSet<>()).add(target)){
+        //already registered under all of its names
+        target.clear();
+        return;
+      }
+    }
+
+    if(target.namespaces.length > 0 && !prefixed.add(target)){
+      target.clear();
+    }
+  }
+
+  private boolean unregister(Target target) {
+    boolean removed = false;
+
+    for(String name : target.names){
+      final Set<Target> named = targets.get(name);
+
+      if(named != null){
+        removed |= named.remove(target);
+
+        if(named.isEmpty()){
+          targets.remove(name);
+        }
+      }
+    }
+
+    if(target.namespaces.length > 0){
+      removed |= prefixed.remove(target);
+    }
+
+    return removed;
+  }
+
+  private void expunge() {
+    Target target;
+
+    while((target = (Target) collected.poll()) != null){
+      unregister(target);
+    }
+  }
+
+  /*
+   * A field of an object, or the pending nested object held by a @Prefix field, together with
+   * the names (and, for lazily compiled nested plans, the namespaces) of its configurations.
+   *
+   * Targets are equal if they refer to the same binding of the same live object, regardless of
+   * the object's own equals(), so that duplicates are found without scanning. Collected targets
+   * are only equal to themselves.
+   */
+  private static final class Target extends WeakReference<Object> {
+    private final Object binding;
+    private final String[] names;
+    private final String[] namespaces;
+    private final int hash;
+
+    private Target(Object object, Object binding, String[] names, String[] namespaces, ReferenceQueue<Object> queue) {
+      super(object, queue);
+      this.binding = binding;
+      this.names = names;
+      this.namespaces = namespaces;
+      this.hash = 31 * System.identityHashCode(object) + System.identityHashCode(binding);
+    }
+
+    private boolean matches(String name) {
+      for(String namespace : namespaces){
+        if(name.startsWith(namespace)){
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj){
+        return true;
+      }
+
+      if(!(obj instanceof Target)){
+        return false;
+      }
+
+      final Target other = (Target) obj;
+      final Object object = get();
+
+      return binding == other.binding && object != null && object == other.get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
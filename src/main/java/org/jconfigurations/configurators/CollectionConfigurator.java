@@ -20,11 +20,13 @@ import org.jconfigurations.CollectionConfiguration;
 import org.jconfigurations.converters.CollectionConfigurationConverter;
 import org.jconfigurations.source.ConfigurationSource;
 import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
 import org.jconfigurations.Name;
 import org.jconfigurations.converters.ConfigurationConverter;
 import org.jconfigurations.functions.CollectionFieldConverterFunction;
 import org.jconfigurations.functions.DefaultCollectionTypeConverterFunction;
 import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldWriterFunction;
 
 /**
  * The {@link CollectionConfigurator} will target all {@link CollectionConfiguration}
@@ -51,15 +53,38 @@ public class CollectionConfigurator extends BaseConfigurator {
    * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
    * @param fieldConverterFunction the {@link ErrorFunction function} used to produce an instance of the 
    * appropriate {@link ConfigurationConverter converter} for a given field.
+   * @param fieldWriterFunction the {@link ErrorFunction function} used to produce the 
+   * {@link FieldWriter writer} used to assign values to a given field.
    * @throws NullPointerException if any of the inputs is {@code null}.
    */
+  public CollectionConfigurator(
+          ConfigurationSource source, 
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction, 
+          ErrorFunction<Field, CollectionConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, FieldWriter> fieldWriterFunction
+  ) {
+    super(CollectionConfiguration.class, source, configurator, fieldNameFunction, fieldConverterFunction, fieldWriterFunction);
+  }
+
+  /**
+   * Defaults to using the {@link FieldWriterFunction} to produce the fields' 
+   * {@link FieldWriter writers}.
+   * 
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @param fieldConverterFunction 
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #CollectionConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction) 
+   */
   public CollectionConfigurator(
           ConfigurationSource source, 
           Configurator configurator,
           ErrorFunction<Field, String> fieldNameFunction, 
           ErrorFunction<Field, CollectionConfigurationConverter> fieldConverterFunction
   ) {
-    super(CollectionConfiguration.class, source, configurator, fieldNameFunction, fieldConverterFunction);
+    this(source, configurator, fieldNameFunction, fieldConverterFunction, new FieldWriterFunction());
   }
 
   /**
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import org.jconfigurations.converters.CollectionConfigurationConverter;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.MapConfigurationConverter;
+import org.jconfigurations.functions.CollectionFieldConverterFunction;
+import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.FieldWriterFunction;
+import org.jconfigurations.functions.MapFieldConverterFunction;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
+
+/**
+ * <p>A {@link Configurator} that is equivalent to the {@link SinglePassConfigurator}, but
+ * that compiles a dedicated routine for each class the first time one of its instances is
+ * {@link #configure(java.lang.Object) configured}.</p>
+ *
+ * <p>The routine is a single {@link MethodHandle} composed out of each field's lookup,
+ * presence check, pre-resolved converter and {@link FieldWriter writer}, in the same
+ * order in which the {@link SinglePassConfigurator} would process them. The JVM turns
+ * such handles into bytecode of its own, so after the first configuration of a class
+ * no reflection takes place and the class' fields are no longer iterated over.</p>
+ *
+ * <p>Compiling takes longer than the {@link SinglePassConfigurator}'s resolution of
+ * the fields, so this {@link Configurator} pays off for classes that are configured
+ * many times over by the same instance.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see SinglePassConfigurator
+ */
+public class CompilingConfigurator implements Configurator {
+  private final ConfigurationSource source;
+  private final Configurator configurator;
+  private final ErrorFunction<Field, String> fieldNameFunction;
+  private final ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction;
+  private final ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction;
+  private final ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction;
+  private final ErrorFunction<Field, FieldWriter> fieldWriterFunction;
+  private final ClassValue<MethodHandle> routines = new ClassValue<MethodHandle>(){
+    @Override
+    protected MethodHandle computeValue(Class<?> type) {
+      return ConfigurationPlan.compile(
+              type,
+              fieldNameFunction,
+              fieldConverterFunction,
+              collectionFieldConverterFunction,
+              mapFieldConverterFunction,
+              fieldWriterFunction
+      ).toMethodHandle();
+    }
+  };
+
+  /**
+   * Fully customizable constructor that allows the user to chain link another
+   * {@link Configurator configurator} in order to compose a multi-featured chain.
+   *
+   * @param source the {@link ConfigurationSource} that provides the configurations
+   * @param configurator another {@link Configurator} to which this instance will hand off the
+   * target {@code object} to once this {@link CompilingConfigurator} has finished
+   * {@link #configure(java.lang.Object) configuring} the {@code object}.
+   * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
+   * @param fieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link ConfigurationConverter converter} for {@link Configuration} fields.
+   * @param collectionFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link CollectionConfigurationConverter converter} for {@link CollectionConfiguration} fields.
+   * @param mapFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link MapConfigurationConverter converter} for {@link MapConfiguration} fields.
+   * @param fieldWriterFunction the {@link ErrorFunction function} used to produce the
+   * {@link FieldWriter writer} used to assign values to a given field.
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   */
+  public CompilingConfigurator(
+          ConfigurationSource source,
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction,
+          ErrorFunction<Field, FieldWriter> fieldWriterFunction
+  ) {
+    this.source = requireNonNull(source, "null source");
+    this.configurator = requireNonNull(configurator, "null configurator");
+    this.fieldNameFunction = requireNonNull(fieldNameFunction, "null fieldNameFunction");
+    this.fieldConverterFunction = requireNonNull(fieldConverterFunction, "null fieldConverterFunction");
+    this.collectionFieldConverterFunction = requireNonNull(collectionFieldConverterFunction, "null collectionFieldConverterFunction");
+    this.mapFieldConverterFunction = requireNonNull(mapFieldConverterFunction, "null mapFieldConverterFunction");
+    this.fieldWriterFunction = requireNonNull(fieldWriterFunction, "null fieldWriterFunction");
+  }
+
+  /**
+   * Defaults to using the {@link FieldWriterFunction} to produce the fields'
+   * {@link FieldWriter writers}.
+   *
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @param fieldConverterFunction
+   * @param collectionFieldConverterFunction
+   * @param mapFieldConverterFunction
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #CompilingConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction)
+   */
+  public CompilingConfigurator(
+          ConfigurationSource source,
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction
+  ) {
+    this(
+            source,
+            configurator,
+            fieldNameFunction,
+            fieldConverterFunction,
+            collectionFieldConverterFunction,
+            mapFieldConverterFunction,
+            new FieldWriterFunction()
+    );
+  }
+
+  /**
+   * Defaults to using the {@link FieldConverterFunction}, {@link CollectionFieldConverterFunction}
+   * and {@link MapFieldConverterFunction} to produce the fields' converters.
+   *
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #CompilingConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction)
+   */
+  public CompilingConfigurator(
+          ConfigurationSource source,
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction
+  ) {
+    this(
+            source,
+            configurator,
+            fieldNameFunction,
+            new FieldConverterFunction(),
+            new CollectionFieldConverterFunction(),
+            new MapFieldConverterFunction()
+    );
+  }
+
+  /**
+   * Defaults to using the {@link DefaultFieldNameFunction} to resolve the field's
+   * {@link Name name}.
+   *
+   * @param source
+   * @param configurator
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #CompilingConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction)
+   */
+  public CompilingConfigurator(ConfigurationSource source, Configurator configurator){
+    this(source, configurator, new DefaultFieldNameFunction());
+  }
+
+  /**
+   * Defaults to using the {@link NoOpConfigurator} as the next link in the
+   * {@link Configurator} chain.
+   *
+   * @param source
+   * @throws NullPointerException if {@code source} is {@code null}.
+   * @see #CompilingConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator)
+   */
+  public CompilingConfigurator(ConfigurationSource source){
+    this(source, new NoOpConfigurator());
+  }
+
+  @Override
+  public void configure(Object object) throws ConfigurationException {
+    requireNonNull(object, "null object.");
+
+    final MethodHandle routine = routines.get(object.getClass());
+    final Map<String, String> configurations = source.configurations();
+
+    try{
+      routine.invokeExact(object, configurations);
+    }catch(ConfigurationException | RuntimeException | Error e){
+      throw e;
+    }catch(Throwable t){
+      throw new ConfigurationException(t);
+    }
+
+    configurator.configure(object);
+  }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
+
+/**
+ * The reflective work required to configure instances of a class, performed only once:
+ * the class' fields marked with the framework's annotations are looked up, made 
+ * accessible and {@link FieldBinding bound} to their names, converters and writers.
+ *
+ * <p>When a plan is {@link #configure(java.lang.Object, java.util.Map) applied} to an
+ * object, all {@link Required required} configurations are checked first and only then
+ * are the fields assigned. Fields are assigned in the same order that the framework's
+ * chain of {@link RequiredConfigurator}, {@link BasicConfigurator}, {@link CollectionConfigurator}
+ * and {@link MapConfigurator} would assign them.</p>
+ *
+ * <p>Plans are meant to be cached per class with a {@link ClassValue} so that
+ * the classes they refer to can still be unloaded.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see BaseConfigurator
+ * @see SinglePassConfigurator
+ */
+final class ConfigurationPlan {
+  private final FieldBinding[] required;
+  private final FieldBinding[] bindings;
+  private final NestedBinding[] nested;
+
+  private ConfigurationPlan(List<FieldBinding> required, List<FieldBinding> bindings, List<NestedBinding> nested) {
+    this.required = required.toArray(new FieldBinding[required.size()]);
+    this.bindings = bindings.toArray(new FieldBinding[bindings.size()]);
+    this.nested = nested.toArray(new NestedBinding[nested.size()]);
+  }
+
+  /**
+   * A plan that only checks that {@link Required required} configurations are present.
+   *
+   * @param type the class whose declared fields will be bound
+   * @param fieldNameFunction resolves each field's name
+   * @return the plan for {@code type}
+   * @see RequiredConfigurator
+   */
+  static ConfigurationPlan compileRequired(Class<?> type, ErrorFunction<Field, String> fieldNameFunction) {
+    final List<FieldBinding> required = new ArrayList<>();
+
+    for(Field field : type.getDeclaredFields()){
+      if(field.isAnnotationPresent(Required.class)){
+        required.add(FieldBinding.compile(field, fieldNameFunction, null, null));
+      }
+    }
+
+    return new ConfigurationPlan(required, Collections.emptyList(), Collections.emptyList());
+  }
+
+  /**
+   * A plan that assigns values to the fields marked with {@code annotation}.
+   *
+   * @param type the class whose declared fields will be bound
+   * @param annotation only fields marked with this annotation will be bound
+   * @param fieldNameFunction resolves each field's name
+   * @param fieldConverterFunction resolves each field's converter
+   * @param fieldWriterFunction resolves each field's writer
+   * @return the plan for {@code type}
+   * @see BaseConfigurator
+   */
+  static ConfigurationPlan compile(
+          Class<?> type,
+          Class<? extends Annotation> annotation,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction
+  ) {
+    final List<FieldBinding> bindings = new ArrayList<>();
+
+    for(Field field : type.getDeclaredFields()){
+      if(field.isAnnotationPresent(annotation)){
+        bindings.add(FieldBinding.compile(field, fieldNameFunction, fieldConverterFunction, fieldWriterFunction));
+      }
+    }
+
+    return new ConfigurationPlan(Collections.emptyList(), bindings, Collections.emptyList());
+  }
+
+  /**
+   * A plan that takes care of all of the framework's annotations in a single pass
+   * over {@code type}'s fields.
+   *
+   * <p>The plans of the types of {@link Prefix} fields are compiled along with it, recursively,
+   * with the prefixes prepended to the names of their fields, so that the whole tree of nested
+   * objects is configured from the same configurations. A field whose type is already being
+   * compiled higher up in the tree is compiled lazily, once any configuration in its namespace
+   * is present.</p>
+   *
+   * @param type the class whose declared fields will be bound
+   * @param fieldNameFunction resolves each field's name
+   * @param fieldConverterFunction resolves the converters of {@link Configuration} fields
+   * @param collectionFieldConverterFunction resolves the converters of {@link CollectionConfiguration} fields
+   * @param mapFieldConverterFunction resolves the converters of {@link MapConfiguration} fields
+   * @param fieldWriterFunction resolves each field's writer
+   * @return the plan for {@code type}
+   * @see SinglePassConfigurator
+   */
+  static ConfigurationPlan compile(
+          Class<?> type,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> mapFieldConverterFunction,
+          ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction
+  ) {
+    return compile(
+            type,
+            fieldNameFunction,
+            fieldConverterFunction,
+            collectionFieldConverterFunction,
+            mapFieldConverterFunction,
+            fieldWriterFunction,
+            "",
+            Collections.emptySet()
+    );
+  }
+
+  /*
+   * The names of the fields of nested objects are resolved with the namespaces of all of their 
+   * enclosing objects prepended.
+   */
+  private static ConfigurationPlan compile(
+          Class<?> type,
+          ErrorFunction<Field, String> unqualifiedNameFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> mapFieldConverterFunction,
+          ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction,
+          String namespace,
+          Set<Class<?>> ancestors
+  ) {
+    final ErrorFunction<Field, String> fieldNameFunction = namespace.isEmpty() 
+            ? unqualifiedNameFunction 
+            : f -> namespace + unqualifiedNameFunction.apply(f);
+    final List<FieldBinding> required = new ArrayList<>();
+    final List<FieldBinding> basics = new ArrayList<>();
+    final List<FieldBinding> collections = new ArrayList<>();
+    final List<FieldBinding> maps = new ArrayList<>();
+    final List<NestedBinding> nested = new ArrayList<>();
+    final Set<Class<?>> path = new HashSet<>(ancestors);
+    path.add(type);
+
+    for(Field field : type.getDeclaredFields()){
+      if(field.isAnnotationPresent(Required.class)){
+        required.add(FieldBinding.compile(field, fieldNameFunction, null, null));
+      }
+
+      if(field.isAnnotationPresent(Configuration.class)){
+        basics.add(FieldBinding.compile(field, fieldNameFunction, fieldConverterFunction, fieldWriterFunction));
+      }
+
+      if(field.isAnnotationPresent(CollectionConfiguration.class)){
+        collections.add(FieldBinding.compile(field, fieldNameFunction, collectionFieldConverterFunction, fieldWriterFunction));
+      }
+
+      if(field.isAnnotationPresent(MapConfiguration.class)){
+        maps.add(FieldBinding.compile(field, fieldNameFunction, mapFieldConverterFunction, fieldWriterFunction));
+      }
+
+      if(field.isAnnotationPresent(Prefix.class) && !Modifier.isStatic(field.getModifiers())){
+        field.setAccessible(true);
+        final String prefix = field.getAnnotation(Prefix.class).value();
+
+        if(prefix.isEmpty()){
+          nested.add(NestedBinding.failed(field, new ConfigurationException(
+                  String.format("Empty prefix for field '%s' in class '%s'", field.getName(), type.getName())
+          )));
+        }else{
+          final String qualified = namespace + (prefix.endsWith(".") ? prefix : prefix + '.');
+          final Supplier<ConfigurationPlan> compiler = () -> compile(
+                  field.getType(),
+                  unqualifiedNameFunction,
+                  fieldConverterFunction,
+                  collectionFieldConverterFunction,
+                  mapFieldConverterFunction,
+                  fieldWriterFunction,
+                  qualified,
+                  path
+          );
+
+          nested.add(path.contains(field.getType()) 
+                  ? NestedBinding.lazy(field, qualified, compiler) 
+                  : NestedBinding.of(field, compiler.get()));
+        }
+      }
+    }
+
+    final List<FieldBinding> bindings = new ArrayList<>(basics);
+    bindings.addAll(collections);
+    bindings.addAll(maps);
+
+    return new ConfigurationPlan(required, bindings, nested);
+  }
+
+  /**
+   * Checks the {@link Required required} configurations and then assigns values
+   * to the bound fields.
+   *
+   * @param object the target object
+   * @param configurations the configurations
+   * @throws ConfigurationException
+   * @see FieldBinding#require(java.lang.Object, java.util.Map)
+   * @see FieldBinding#configure(java.lang.Object, java.util.Map)
+   */
+  void configure(Object object, Map<String, String> configurations) throws ConfigurationException {
+    for(FieldBinding binding : required){
+      binding.require(object, configurations);
+    }
+
+    for(FieldBinding binding : bindings){
+      binding.configure(object, configurations);
+    }
+
+    for(NestedBinding binding : nested){
+      binding.configure(object, configurations);
+    }
+  }
+
+  /**
+   * 
+   * @return the bindings of the fields that are assigned by this plan, in order, not 
+   *     including those of nested objects
+   */
+  List<FieldBinding> bindings() {
+    return Collections.unmodifiableList(Arrays.asList(bindings));
+  }
+
+  /**
+   * 
+   * @return the bindings of the {@link Prefix} fields of this plan, in order
+   */
+  List<NestedBinding> nested() {
+    return Collections.unmodifiableList(Arrays.asList(nested));
+  }
+
+  /**
+   * 
+   * @return the resolved names of all of the fields bound by this plan and its nested plans
+   */
+  List<String> names() {
+    final List<String> names = new ArrayList<>();
+
+    for(FieldBinding binding : required){
+      if(binding.name() != null){
+        names.add(binding.name());
+      }
+    }
+
+    for(FieldBinding binding : bindings){
+      if(binding.name() != null){
+        names.add(binding.name());
+      }
+    }
+
+    for(NestedBinding binding : nested){
+      names.addAll(binding.names());
+    }
+
+    return names;
+  }
+
+  /**
+   * 
+   * @return the namespaces of the lazily compiled plans nested in this plan, whose 
+   *     names are not known until they are compiled
+   */
+  List<String> namespaces() {
+    final List<String> namespaces = new ArrayList<>();
+
+    for(NestedBinding binding : nested){
+      namespaces.addAll(binding.namespaces());
+    }
+
+    return namespaces;
+  }
+
+  /**
+   * Composes the bindings of this plan into a single {@code (Object, Map)void}
+   * {@link MethodHandle} that does the same as {@link #configure(java.lang.Object, java.util.Map)}
+   * in a straight line, without iterating over the bindings.
+   *
+   * @return the handle
+   * @see CompilingConfigurator
+   */
+  MethodHandle toMethodHandle() {
+    MethodHandle handle = FieldBinding.skip();
+
+    for(int i = nested.length - 1; i >= 0; i--){
+      handle = MethodHandles.foldArguments(handle, nested[i].configurer());
+    }
+
+    for(int i = bindings.length - 1; i >= 0; i--){
+      handle = MethodHandles.foldArguments(handle, bindings[i].configurer());
+    }
+
+    for(int i = required.length - 1; i >= 0; i--){
+      handle = MethodHandles.foldArguments(handle, required[i].requirer());
+    }
+
+    return handle;
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import static java.util.Objects.requireNonNull;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Name;
+import org.jconfigurations.source.ConfigurationSource;
+
+/**
+ * <pre>
+ * Binds interfaces whose methods are configurations to a {@link ConfigurationSource}. Eg.:
+ * 
+ *    public interface DatabaseSettings {
+ *     {@literal @}Name("db.url")
+ *      String dbUrl();
+ *      int maxConnections();
+ *    }
+ * 
+ *    DatabaseSettings settings = ConfigurationProxies.create(DatabaseSettings.class, source);</pre>
+ * 
+ * ... where each method looks up and converts its configuration (see {@link Name}) the first time
+ * it is called, and returns the same value afterwards.<br><br>
+ * 
+ * The implementations are generated at build time by the {@link org.jconfigurations.processor.ConfiguratorProcessor}
+ * as plain classes, so calls do not go through reflection nor {@link java.lang.reflect.Proxy}. Each
+ * implementation's constructor is looked up once per interface.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public final class ConfigurationProxies {
+  /**
+   * The suffix appended to the names of the generated implementations, which are in the same
+   * package as their interfaces.
+   */
+  public static final String SUFFIX = "_JConfigurationProxy";
+  private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>(){
+    @Override
+    protected MethodHandle computeValue(Class<?> type) {
+      final String name = type.getName();
+      final int separator = name.lastIndexOf('.');
+      final String proxy = name.substring(0, separator + 1) + name.substring(separator + 1).replace('$', '_') + SUFFIX;
+
+      try{
+        return MethodHandles.publicLookup()
+                .findConstructor(
+                        Class.forName(proxy, true, type.getClassLoader()), 
+                        MethodType.methodType(void.class, ConfigurationSource.class)
+                )
+                .asType(MethodType.methodType(Object.class, ConfigurationSource.class));
+      }catch(ClassNotFoundException | NoSuchMethodException | IllegalAccessException e){
+        return MethodHandles.dropArguments(
+                MethodHandles.throwException(Object.class, ConfigurationException.class).bindTo(
+                        new ConfigurationException(String.format("No configuration proxy generated for interface '%s'", name), e)
+                ),
+                0,
+                ConfigurationSource.class
+        );
+      }
+    }
+  };
+
+  private ConfigurationProxies() {
+  }
+
+  /**
+   * 
+   * @param <T> the type of the interface
+   * @param type the interface
+   * @param source the {@link ConfigurationSource} that provides the configurations
+   * @return a new instance of the implementation generated for {@code type}
+   * @throws ConfigurationException if no implementation was generated for {@code type}
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   */
+  public static <T> T create(Class<T> type, ConfigurationSource source) throws ConfigurationException {
+    requireNonNull(type, "null type");
+    requireNonNull(source, "null source");
+
+    try{
+      return type.cast((Object) CONSTRUCTORS.get(type).invokeExact(source));
+    }catch(ConfigurationException | RuntimeException | Error e){
+      throw e;
+    }catch(Throwable e){
+      throw new ConfigurationException(String.format("Unable to create configuration proxy for interface '%s'", type.getName()), e);
+    }
+  }
+}
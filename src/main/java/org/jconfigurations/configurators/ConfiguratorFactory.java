@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.ServiceLoader;
+import org.jconfigurations.source.ConfigurationSource;
+
+/**
+ * <pre>
+ * Service interface for {@link Configurator configurators} dedicated to a single class, typically
+ * generated at build time by the {@link org.jconfigurations.processor.ConfiguratorProcessor}.
+ * 
+ * Implementations are discovered by the {@link JConfigurator} through the {@link ServiceLoader}, 
+ * and are used instead of the reflective {@link Configurator configurators} for objects whose 
+ * class is exactly {@link #type()}.
+ * </pre>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see JConfigurator
+ */
+public interface ConfiguratorFactory {
+  /**
+   * 
+   * @return the class whose instances are configured by the {@link Configurator configurators}
+   * created by this factory.
+   */
+  public Class<?> type();
+
+  /**
+   * 
+   * @param source the {@link ConfigurationSource} that provides the configurations
+   * @return a {@link Configurator} for instances of {@link #type()}
+   * @throws NullPointerException if {@code source} is {@code null}.
+   */
+  public Configurator create(ConfigurationSource source);
+}
@@ -0,0 +1,675 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+import org.jconfigurations.converters.CollectionConfigurationConverter;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.MapConfigurationConverter;
+import org.jconfigurations.converters.ToBooleanConfigurationConverter;
+import org.jconfigurations.converters.ToDoubleConfigurationConverter;
+import org.jconfigurations.converters.ToFloatConfigurationConverter;
+import org.jconfigurations.converters.ToIntConfigurationConverter;
+import org.jconfigurations.converters.ToLongConfigurationConverter;
+import org.jconfigurations.functions.CollectionFieldConverterFunction;
+import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.MapFieldConverterFunction;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.util.ErrorFunction;
+
+/**
+ * <p>Creates objects directly from the configurations of a {@link ConfigurationSource} by
+ * invoking their classes' canonical constructors with the converted values, so that their
+ * fields can be {@code final} instead of being assigned after construction.</p>
+ *
+ * <p>The canonical constructor of a record is the one that takes all of its components. For
+ * any other class, it is the declared constructor whose parameters are the fields marked with 
+ * {@link Configuration}, {@link CollectionConfiguration}, {@link MapConfiguration} or {@link Prefix},
+ * in any order. Parameters are matched to fields by name if the class is compiled with {@code -parameters};
+ * otherwise they are matched by type, and no two of those fields can have the same type. Each parameter is named,
+ * converted and {@link Required required} according to the annotations of its field, just like
+ * the {@link SinglePassConfigurator} would do it. Parameters whose configurations are not present
+ * receive {@code null}, {@code 0} or {@code false}, as do record components without annotations.
+ * {@link Prefix} parameters are created in turn from the configurations in their namespaces, or
+ * receive {@code null} if there are none. A {@link Prefix} parameter whose type is already on the path
+ * from the root class is compiled lazily, one level at a time, once a configuration in its namespace
+ * is present.</p>
+ *
+ * <p>The lookups, the conversions and the constructor are composed into a single
+ * {@link MethodHandle} per class, which is cached with a {@link ClassValue}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationPlan
+ */
+public class ConstructorBinder {
+  private static final MethodHandle MAP_GET;
+  private static final MethodHandle CONVERT;
+  private static final MethodHandle CONVERT_INT;
+  private static final MethodHandle CONVERT_LONG;
+  private static final MethodHandle CONVERT_FLOAT;
+  private static final MethodHandle CONVERT_DOUBLE;
+  private static final MethodHandle CONVERT_BOOLEAN;
+  private static final MethodHandle IS_PRESENT;
+  private static final MethodHandle IS_ANY_PRESENT;
+  private static final MethodHandle CREATE_LAZILY;
+  private static final MethodHandle MISSING;
+  private static final MethodHandle FAIL;
+  /*
+   * Records were introduced in Java 16; their components are looked up reflectively so that
+   * the framework still runs on Java 8.
+   */
+  private static final Method IS_RECORD;
+  private static final Method GET_RECORD_COMPONENTS;
+  private static final Method GET_COMPONENT_NAME;
+
+  static {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    try{
+      MAP_GET = lookup.findVirtual(Map.class, "get", MethodType.methodType(Object.class, Object.class));
+      CONVERT = lookup.findVirtual(ConfigurationConverter.class, "convert", MethodType.methodType(Object.class, String.class));
+      CONVERT_INT = lookup.findVirtual(ToIntConfigurationConverter.class, "convertInt", MethodType.methodType(int.class, String.class));
+      CONVERT_LONG = lookup.findVirtual(ToLongConfigurationConverter.class, "convertLong", MethodType.methodType(long.class, String.class));
+      CONVERT_FLOAT = lookup.findVirtual(ToFloatConfigurationConverter.class, "convertFloat", MethodType.methodType(float.class, String.class));
+      CONVERT_DOUBLE = lookup.findVirtual(ToDoubleConfigurationConverter.class, "convertDouble", MethodType.methodType(double.class, String.class));
+      CONVERT_BOOLEAN = lookup.findVirtual(ToBooleanConfigurationConverter.class, "convertBoolean", MethodType.methodType(boolean.class, String.class));
+      IS_PRESENT = lookup.findStatic(
+              ConstructorBinder.class,
+              "isPresent",
+              MethodType.methodType(boolean.class, String.class, String.class, Map.class)
+      );
+      IS_ANY_PRESENT = lookup.findStatic(
+              ConstructorBinder.class,
+              "isAnyPresent",
+              MethodType.methodType(boolean.class, String[].class, String[].class, Map.class)
+      );
+      CREATE_LAZILY = lookup.findVirtual(
+              Lazy.class,
+              "create",
+              MethodType.methodType(Object.class, Map.class)
+      );
+      MISSING = lookup.findStatic(
+              ConstructorBinder.class,
+              "missing",
+              MethodType.methodType(Object.class, String.class, String.class, String.class, Map.class)
+      );
+      FAIL = lookup.findStatic(
+              ConstructorBinder.class,
+              "fail",
+              MethodType.methodType(Object.class, String.class, Throwable.class)
+      );
+    }catch(NoSuchMethodException | IllegalAccessException e){
+      throw new ExceptionInInitializerError(e);
+    }
+
+    Method isRecord = null;
+    Method getRecordComponents = null;
+    Method getComponentName = null;
+
+    try{
+      isRecord = Class.class.getMethod("isRecord");
+      getRecordComponents = Class.class.getMethod("getRecordComponents");
+      getComponentName = Class.forName("java.lang.reflect.RecordComponent").getMethod("getName");
+    }catch(NoSuchMethodException | ClassNotFoundException e){
+      //no records before Java 16
+    }
+
+    IS_RECORD = isRecord;
+    GET_RECORD_COMPONENTS = getRecordComponents;
+    GET_COMPONENT_NAME = getComponentName;
+  }
+
+  private final ConfigurationSource source;
+  private final ErrorFunction<Field, String> fieldNameFunction;
+  private final ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction;
+  private final ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction;
+  private final ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction;
+  private final ClassValue<Factory> factories = new ClassValue<Factory>(){
+    @Override
+    protected Factory computeValue(Class<?> type) {
+      return compile(type, "", Collections.emptySet());
+    }
+  };
+
+  /**
+   * Fully customizable constructor.
+   *
+   * @param source the {@link ConfigurationSource} that provides the configurations
+   * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
+   * @param fieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link ConfigurationConverter converter} for {@link Configuration} fields.
+   * @param collectionFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link CollectionConfigurationConverter converter} for {@link CollectionConfiguration} fields.
+   * @param mapFieldConverterFunction the {@link ErrorFunction function} used to produce the
+   * {@link MapConfigurationConverter converter} for {@link MapConfiguration} fields.
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   */
+  public ConstructorBinder(
+          ConfigurationSource source,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, CollectionConfigurationConverter> collectionFieldConverterFunction,
+          ErrorFunction<Field, MapConfigurationConverter> mapFieldConverterFunction
+  ) {
+    this.source = requireNonNull(source, "null source");
+    this.fieldNameFunction = requireNonNull(fieldNameFunction, "null fieldNameFunction");
+    this.fieldConverterFunction = requireNonNull(fieldConverterFunction, "null fieldConverterFunction");
+    this.collectionFieldConverterFunction = requireNonNull(collectionFieldConverterFunction, "null collectionFieldConverterFunction");
+    this.mapFieldConverterFunction = requireNonNull(mapFieldConverterFunction, "null mapFieldConverterFunction");
+  }
+
+  /**
+   * Defaults to using the {@link FieldConverterFunction}, {@link CollectionFieldConverterFunction}
+   * and {@link MapFieldConverterFunction} to produce the fields' converters.
+   *
+   * @param source
+   * @param fieldNameFunction
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #ConstructorBinder(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction)
+   */
+  public ConstructorBinder(ConfigurationSource source, ErrorFunction<Field, String> fieldNameFunction) {
+    this(
+            source,
+            fieldNameFunction,
+            new FieldConverterFunction(),
+            new CollectionFieldConverterFunction(),
+            new MapFieldConverterFunction()
+    );
+  }
+
+  /**
+   * Defaults to using the {@link DefaultFieldNameFunction} to resolve the field's
+   * {@link Name name}.
+   *
+   * @param source
+   * @throws NullPointerException if {@code source} is {@code null}.
+   * @see #ConstructorBinder(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.util.ErrorFunction)
+   */
+  public ConstructorBinder(ConfigurationSource source) {
+    this(source, new DefaultFieldNameFunction());
+  }
+
+  /**
+   * Creates a new instance of {@code type} with its canonical constructor.
+   *
+   * @param <T> the type of the instance
+   * @param type the class of the instance
+   * @return the new instance
+   * @throws ConfigurationException if {@code type} has no canonical constructor, if a
+   *     {@link Required required} configuration is missing, if a value could not be 
+   *     converted, or if the constructor failed
+   * @throws NullPointerException if {@code type} is {@code null}.
+   */
+  public <T> T create(Class<T> type) throws ConfigurationException {
+    requireNonNull(type, "null type");
+
+    final Map<String, String> configurations = source.configurations();
+
+    try{
+      return type.cast((Object) factories.get(type).handle.invokeExact(configurations));
+    }catch(ConfigurationException | Error e){
+      throw e;
+    }catch(Throwable e){
+      throw new ConfigurationException(String.format("Unable to create instance of class '%s'", type.getName()), e);
+    }
+  }
+
+  /*
+   * The names of the fields of nested objects are resolved with the namespaces of all of their 
+   * enclosing objects prepended.
+   */
+  private Factory compile(Class<?> type, String namespace, Set<Class<?>> ancestors) {
+    final ErrorFunction<Field, String> nameFunction = namespace.isEmpty() 
+            ? fieldNameFunction 
+            : f -> namespace + fieldNameFunction.apply(f);
+    final Set<Class<?>> path = new HashSet<>(ancestors);
+    path.add(type);
+    final List<Field> fields;
+    final MethodHandle constructor;
+
+    try{
+      fields = parameters(type);
+      final Constructor<?> canonical = canonical(type, fields);
+      canonical.setAccessible(true);
+      constructor = MethodHandles.lookup().unreflectConstructor(canonical);
+    }catch(ConfigurationException e){
+      return Factory.failed(e);
+    }catch(NoSuchMethodException | IllegalAccessException | RuntimeException e){
+      return Factory.failed(new ConfigurationException(
+              String.format("No canonical constructor found in class '%s'", type.getName()), 
+              e
+      ));
+    }
+
+    final List<String> names = new ArrayList<>();
+    final List<String> namespaces = new ArrayList<>();
+    final MethodHandle[] arguments = new MethodHandle[fields.size()];
+
+    for(int i = 0; i < arguments.length; i++){
+      final Field field = fields.get(i);
+
+      if(field.isAnnotationPresent(Prefix.class)){
+        arguments[i] = nested(type, field, namespace, path, names, namespaces);
+      }else{
+        arguments[i] = argument(type, field, nameFunction, names);
+      }
+    }
+
+    // (Map configurations, Map configurations, ...)Object
+    final MethodHandle filtered = MethodHandles.filterArguments(constructor, 0, arguments)
+            .asType(MethodType.methodType(Object.class, Collections.nCopies(arguments.length, Map.class)));
+
+    return new Factory(
+            MethodHandles.permuteArguments(filtered, MethodType.methodType(Object.class, Map.class), new int[arguments.length]),
+            names,
+            namespaces,
+            false
+    );
+  }
+
+  /*
+   * A (Map)T handle that produces the converted value of the field's configuration.
+   */
+  private MethodHandle argument(Class<?> type, Field field, ErrorFunction<Field, String> nameFunction, List<String> names) {
+    final Class<?> parameter = field.getType();
+    final ErrorFunction<Field, ? extends ConfigurationConverter> converterFunction = converterFunction(field);
+
+    if(converterFunction == null){
+      return MethodHandles.dropArguments(defaultValue(parameter), 0, Map.class);
+    }
+
+    final String name;
+
+    try{
+      name = nameFunction.apply(field);
+    }catch(ConfigurationException e){
+      return raise(e, parameter, Map.class);
+    }
+
+    names.add(name);
+
+    // (String value, Map configurations)T
+    MethodHandle present;
+
+    try{
+      present = MethodHandles.dropArguments(conversion(field, converterFunction.apply(field)), 1, Map.class);
+    }catch(ConfigurationException e){
+      present = raise(e, parameter, String.class, Map.class);
+    }
+
+    final MethodHandle absent = field.isAnnotationPresent(Required.class)
+            ? MethodHandles.insertArguments(MISSING, 0, field.getName(), type.getName()).asType(MethodType.methodType(parameter, String.class, Map.class))
+            : MethodHandles.dropArguments(defaultValue(parameter), 0, String.class, Map.class);
+    final MethodHandle guarded = MethodHandles.guardWithTest(
+            MethodHandles.insertArguments(IS_PRESENT, 0, name),
+            present,
+            absent
+    );
+
+    return MethodHandles.foldArguments(
+            guarded, 
+            MethodHandles.insertArguments(MAP_GET, 1, name).asType(MethodType.methodType(String.class, Map.class))
+    );
+  }
+
+  /*
+   * A (Map)T handle that creates the nested object of a @Prefix field if any of its
+   * configurations is present. The namespaces of lazily compiled levels, whose names are
+   * not known yet, are collected along with the names.
+   */
+  private MethodHandle nested(
+          Class<?> type, 
+          Field field, 
+          String namespace, 
+          Set<Class<?>> path, 
+          List<String> names, 
+          List<String> namespaces
+  ) {
+    final Class<?> parameter = field.getType();
+    final String prefix = field.getAnnotation(Prefix.class).value();
+
+    if(prefix.isEmpty()){
+      return raise(
+              new ConfigurationException(String.format("Empty prefix for field '%s' in class '%s'", field.getName(), type.getName())),
+              parameter,
+              Map.class
+      );
+    }
+
+    final String qualified = namespace + (prefix.endsWith(".") ? prefix : prefix + '.');
+
+    if(path.contains(parameter)){
+      namespaces.add(qualified);
+
+      return MethodHandles.guardWithTest(
+              MethodHandles.insertArguments(IS_ANY_PRESENT, 0, new String[0], new String[]{qualified}),
+              CREATE_LAZILY.bindTo(new Lazy(() -> compile(parameter, qualified, path)))
+                      .asType(MethodType.methodType(parameter, Map.class)),
+              MethodHandles.dropArguments(defaultValue(parameter), 0, Map.class)
+      );
+    }
+
+    final Factory factory = compile(parameter, qualified, path);
+
+    if(factory.failed){
+      return factory.handle.asType(MethodType.methodType(parameter, Map.class));
+    }
+
+    names.addAll(factory.names);
+    namespaces.addAll(factory.namespaces);
+
+    return MethodHandles.guardWithTest(
+            MethodHandles.insertArguments(
+                    IS_ANY_PRESENT, 
+                    0, 
+                    factory.names.toArray(new String[factory.names.size()]),
+                    factory.namespaces.toArray(new String[factory.namespaces.size()])
+            ),
+            factory.handle.asType(MethodType.methodType(parameter, Map.class)),
+            MethodHandles.dropArguments(defaultValue(parameter), 0, Map.class)
+    );
+  }
+
+  private ErrorFunction<Field, ? extends ConfigurationConverter> converterFunction(Field field) {
+    if(field.isAnnotationPresent(Configuration.class)){
+      return fieldConverterFunction;
+    }else if(field.isAnnotationPresent(CollectionConfiguration.class)){
+      return collectionFieldConverterFunction;
+    }else if(field.isAnnotationPresent(MapConfiguration.class)){
+      return mapFieldConverterFunction;
+    }
+
+    return null;
+  }
+
+  /*
+   * A (String)T handle that converts values with the converter, without boxing them if it 
+   * is specialized for the field's primitive type.
+   */
+  private static MethodHandle conversion(Field field, ConfigurationConverter converter) {
+    final Class<?> parameter = field.getType();
+    final MethodHandle convert;
+
+    if(parameter == int.class && FieldBinding.isSpecialized(converter, ToIntConfigurationConverter.class)){
+      convert = CONVERT_INT.bindTo(converter);
+    }else if(parameter == long.class && FieldBinding.isSpecialized(converter, ToLongConfigurationConverter.class)){
+      convert = CONVERT_LONG.bindTo(converter);
+    }else if(parameter == float.class && FieldBinding.isSpecialized(converter, ToFloatConfigurationConverter.class)){
+      convert = CONVERT_FLOAT.bindTo(converter);
+    }else if(parameter == double.class && FieldBinding.isSpecialized(converter, ToDoubleConfigurationConverter.class)){
+      convert = CONVERT_DOUBLE.bindTo(converter);
+    }else if(parameter == boolean.class && FieldBinding.isSpecialized(converter, ToBooleanConfigurationConverter.class)){
+      convert = CONVERT_BOOLEAN.bindTo(converter);
+    }else{
+      convert = CONVERT.bindTo(converter).asType(MethodType.methodType(parameter, String.class));
+    }
+
+    final String message = String.format(
+            "Unable to configure field '%s' of type '%s' in object of class '%s'",
+            field.getName(),
+            parameter.getName(),
+            field.getDeclaringClass().getName()
+    );
+
+    return wrap(wrap(wrap(convert, ConfigurationException.class, message), ClassCastException.class, message), NullPointerException.class, message);
+  }
+
+  /*
+   * The record's components or the class' annotated fields, in order.
+   */
+  private static List<Field> parameters(Class<?> type) throws NoSuchMethodException {
+    final List<Field> fields = new ArrayList<>();
+
+    if(isRecord(type)){
+      try{
+        for(Object component : (Object[]) GET_RECORD_COMPONENTS.invoke(type)){
+          final Field field = type.getDeclaredField((String) GET_COMPONENT_NAME.invoke(component));
+          field.setAccessible(true);
+          fields.add(field);
+        }
+      }catch(NoSuchFieldException | IllegalAccessException | InvocationTargetException e){
+        throw (NoSuchMethodException) new NoSuchMethodException(type.getName() + ".<init>").initCause(e);
+      }
+
+      return fields;
+    }
+
+    for(Field field : type.getDeclaredFields()){
+      if(!Modifier.isStatic(field.getModifiers())
+              && (field.isAnnotationPresent(Configuration.class)
+              || field.isAnnotationPresent(CollectionConfiguration.class)
+              || field.isAnnotationPresent(MapConfiguration.class)
+              || field.isAnnotationPresent(Prefix.class))){
+        fields.add(field);
+      }
+    }
+
+    return fields;
+  }
+
+  /*
+   * The constructor that takes the record's components in order or, for any other class, the 
+   * one whose parameters are the annotated fields in any order; the fields are sorted in the 
+   * order of its parameters. The fields are matched by name if the class was compiled with 
+   * -parameters, and by type otherwise.
+   */
+  private static Constructor<?> canonical(Class<?> type, List<Field> fields) throws NoSuchMethodException, ConfigurationException {
+    if(isRecord(type)){
+      final Class<?>[] types = new Class<?>[fields.size()];
+
+      for(int i = 0; i < types.length; i++){
+        types[i] = fields.get(i).getType();
+      }
+
+      return type.getDeclaredConstructor(types);
+    }
+
+    for(Constructor<?> constructor : type.getDeclaredConstructors()){
+      if(constructor.getParameterCount() == fields.size()){
+        final List<Field> matched = match(type, constructor.getParameters(), fields);
+
+        if(matched != null){
+          fields.clear();
+          fields.addAll(matched);
+          return constructor;
+        }
+      }
+    }
+
+    throw new NoSuchMethodException(type.getName() + ".<init>");
+  }
+
+  /*
+   * The fields in the order of the parameters, or null if they do not match. Parameters without
+   * names cannot tell apart fields of the same type, whose values could otherwise be silently swapped.
+   */
+  private static List<Field> match(Class<?> type, Parameter[] parameters, List<Field> fields) throws ConfigurationException {
+    final List<Field> matched = new ArrayList<>();
+
+    for(Parameter parameter : parameters){
+      Field match = null;
+
+      for(Field field : fields){
+        if(field.getType() == parameter.getType()
+                && (!parameter.isNamePresent() || field.getName().equals(parameter.getName()))){
+          if(match != null){
+            throw new ConfigurationException(String.format(
+                    "Ambiguous canonical constructor in class '%s': fields '%s' and '%s' have the same type; " 
+                            + "compile the class with -parameters so that they are matched by name",
+                    type.getName(),
+                    match.getName(),
+                    field.getName()
+            ));
+          }
+
+          match = field;
+        }
+      }
+
+      if(match == null || matched.contains(match)){
+        return null;
+      }
+
+      matched.add(match);
+    }
+
+    return matched;
+  }
+
+  private static boolean isRecord(Class<?> type) {
+    try{
+      return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+    }catch(IllegalAccessException | InvocationTargetException e){
+      return false;
+    }
+  }
+
+  /*
+   * A ()T handle that returns null, 0 or false.
+   */
+  private static MethodHandle defaultValue(Class<?> type) {
+    return MethodHandles.constant(type, type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null);
+  }
+
+  private static MethodHandle raise(ConfigurationException error, Class<?> type, Class<?>... parameters) {
+    return MethodHandles.dropArguments(
+            MethodHandles.throwException(type, ConfigurationException.class).bindTo(error),
+            0,
+            parameters
+    );
+  }
+
+  private static MethodHandle wrap(MethodHandle target, Class<? extends Throwable> exception, String message) {
+    return MethodHandles.catchException(
+            target,
+            exception,
+            MethodHandles.dropArguments(
+                    MethodHandles.insertArguments(FAIL, 0, message).asType(MethodType.methodType(target.type().returnType(), exception)),
+                    1,
+                    target.type().parameterList()
+            )
+    );
+  }
+
+  private static boolean isPresent(String name, String value, Map<?, ?> configurations) {
+    return value != null || configurations.containsKey(name);
+  }
+
+  private static boolean isAnyPresent(String[] names, String[] namespaces, Map<?, ?> configurations) {
+    for(String name : names){
+      if(configurations.containsKey(name)){
+        return true;
+      }
+    }
+
+    if(namespaces.length > 0){
+      for(Object name : configurations.keySet()){
+        for(String namespace : namespaces){
+          if(((String) name).startsWith(namespace)){
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private static Object missing(String fieldName, String className, String value, Map<?, ?> configurations) throws ConfigurationException {
+    throw new ConfigurationException(
+            String.format(
+                    "Required configuration not found for field '%s' in object of class '%s'",
+                    fieldName,
+                    className
+            )
+    );
+  }
+
+  private static Object fail(String message, Throwable cause) throws ConfigurationException {
+    throw new ConfigurationException(message, cause);
+  }
+
+  /*
+   * A (Map)Object handle that creates instances of a class, and the names of all of the 
+   * configurations it reads.
+   */
+  private static final class Factory {
+    private final MethodHandle handle;
+    private final List<String> names;
+    private final List<String> namespaces;
+    private final boolean failed;
+
+    private Factory(MethodHandle handle, List<String> names, List<String> namespaces, boolean failed) {
+      this.handle = handle;
+      this.names = names;
+      this.namespaces = namespaces;
+      this.failed = failed;
+    }
+
+    private static Factory failed(ConfigurationException error) {
+      return new Factory(raise(error, Object.class, Map.class), Collections.emptyList(), Collections.emptyList(), true);
+    }
+  }
+
+  /*
+   * The factory of a @Prefix parameter whose type is already on the path, compiled the first
+   * time it is needed; compiling twice in a race is harmless.
+   */
+  private static final class Lazy {
+    private final Supplier<Factory> compiler;
+    private volatile Factory factory;
+
+    private Lazy(Supplier<Factory> compiler) {
+      this.compiler = compiler;
+    }
+
+    Object create(Map<?, ?> configurations) throws Throwable {
+      Factory compiled = factory;
+
+      if(compiled == null){
+        compiled = factory = compiler.get();
+      }
+
+      return (Object) compiled.handle.invokeExact((Map) configurations);
+    }
+  }
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Map;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Required;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.ToBooleanConfigurationConverter;
+import org.jconfigurations.converters.ToDoubleConfigurationConverter;
+import org.jconfigurations.converters.ToFloatConfigurationConverter;
+import org.jconfigurations.converters.ToIntConfigurationConverter;
+import org.jconfigurations.converters.ToLongConfigurationConverter;
+import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
+
+/**
+ * A field of some class together with its resolved name, {@link ConfigurationConverter converter}
+ * and {@link FieldWriter writer}.
+ *
+ * <p>Errors raised while resolving the name, the converter or the writer are kept and thrown
+ * later, at the exact same point where the field would otherwise have raised them
+ * during {@link Configurator#configure(java.lang.Object) configuration}.</p>
+ *
+ * <p>Values of {@code int}, {@code long}, {@code float}, {@code double} and {@code boolean}
+ * fields whose converters are specialized for the field's type (eg. {@link ToIntConfigurationConverter})
+ * are converted and assigned without boxing them.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationPlan
+ */
+final class FieldBinding {
+  private static final MethodHandle MAP_GET;
+  private static final MethodHandle MAP_CONTAINS_KEY;
+  private static final MethodHandle CONVERT;
+  private static final MethodHandle SET;
+  private static final MethodHandle CONVERT_INT;
+  private static final MethodHandle SET_INT;
+  private static final MethodHandle CONVERT_LONG;
+  private static final MethodHandle SET_LONG;
+  private static final MethodHandle CONVERT_FLOAT;
+  private static final MethodHandle SET_FLOAT;
+  private static final MethodHandle CONVERT_DOUBLE;
+  private static final MethodHandle SET_DOUBLE;
+  private static final MethodHandle CONVERT_BOOLEAN;
+  private static final MethodHandle SET_BOOLEAN;
+  private static final MethodHandle IS_PRESENT;
+  private static final MethodHandle MISSING;
+  private static final MethodHandle FAIL;
+  private static final MethodHandle SKIP;
+
+  static {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    try{
+      MAP_GET = lookup.findVirtual(Map.class, "get", MethodType.methodType(Object.class, Object.class));
+      MAP_CONTAINS_KEY = lookup.findVirtual(Map.class, "containsKey", MethodType.methodType(boolean.class, Object.class));
+      CONVERT = lookup.findVirtual(ConfigurationConverter.class, "convert", MethodType.methodType(Object.class, String.class));
+      SET = lookup.findVirtual(FieldWriter.class, "set", MethodType.methodType(void.class, Object.class, Object.class));
+      CONVERT_INT = lookup.findVirtual(ToIntConfigurationConverter.class, "convertInt", MethodType.methodType(int.class, String.class));
+      SET_INT = lookup.findVirtual(FieldWriter.class, "setInt", MethodType.methodType(void.class, Object.class, int.class));
+      CONVERT_LONG = lookup.findVirtual(ToLongConfigurationConverter.class, "convertLong", MethodType.methodType(long.class, String.class));
+      SET_LONG = lookup.findVirtual(FieldWriter.class, "setLong", MethodType.methodType(void.class, Object.class, long.class));
+      CONVERT_FLOAT = lookup.findVirtual(ToFloatConfigurationConverter.class, "convertFloat", MethodType.methodType(float.class, String.class));
+      SET_FLOAT = lookup.findVirtual(FieldWriter.class, "setFloat", MethodType.methodType(void.class, Object.class, float.class));
+      CONVERT_DOUBLE = lookup.findVirtual(ToDoubleConfigurationConverter.class, "convertDouble", MethodType.methodType(double.class, String.class));
+      SET_DOUBLE = lookup.findVirtual(FieldWriter.class, "setDouble", MethodType.methodType(void.class, Object.class, double.class));
+      CONVERT_BOOLEAN = lookup.findVirtual(ToBooleanConfigurationConverter.class, "convertBoolean", MethodType.methodType(boolean.class, String.class));
+      SET_BOOLEAN = lookup.findVirtual(FieldWriter.class, "setBoolean", MethodType.methodType(void.class, Object.class, boolean.class));
+      IS_PRESENT = lookup.findStatic(
+              FieldBinding.class,
+              "isPresent",
+              MethodType.methodType(boolean.class, String.class, String.class, Map.class)
+      );
+      MISSING = lookup.findStatic(
+              FieldBinding.class,
+              "missing",
+              MethodType.methodType(void.class, String.class, Object.class, Map.class)
+      );
+      FAIL = lookup.findStatic(
+              FieldBinding.class,
+              "fail",
+              MethodType.methodType(void.class, String.class, Throwable.class)
+      );
+      SKIP = lookup.findStatic(
+              FieldBinding.class,
+              "skip",
+              MethodType.methodType(void.class, Object.class, Map.class)
+      );
+    }catch(NoSuchMethodException | IllegalAccessException e){
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Field field;
+  private final String name;
+  private final ConfigurationException nameError;
+  private final ConfigurationConverter converter;
+  private final FieldWriter writer;
+  private final Class<?> primitive;
+  private final ConfigurationException bindingError;
+
+  private FieldBinding(
+          Field field,
+          String name,
+          ConfigurationException nameError,
+          ConfigurationConverter converter,
+          FieldWriter writer,
+          ConfigurationException bindingError
+  ) {
+    this.field = field;
+    this.name = name;
+    this.nameError = nameError;
+    this.converter = converter;
+    this.writer = writer;
+    this.primitive = converter != null ? specialization(field.getType(), converter) : null;
+    this.bindingError = bindingError;
+  }
+
+  /**
+   * Makes {@code field} accessible and resolves its name, converter and writer.
+   *
+   * @param field the field
+   * @param fieldNameFunction resolves the field's name
+   * @param fieldConverterFunction resolves the field's converter, or {@code null} if
+   *     the field is never going to be {@link #configure(java.lang.Object, java.util.Map) configured}
+   * @param fieldWriterFunction resolves the field's writer, or {@code null} if
+   *     the field is never going to be {@link #configure(java.lang.Object, java.util.Map) configured}
+   * @return the binding
+   */
+  static FieldBinding compile(
+          Field field,
+          ErrorFunction<Field, String> fieldNameFunction,
+          ErrorFunction<Field, ? extends ConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, ? extends FieldWriter> fieldWriterFunction
+  ) {
+    field.setAccessible(true);
+
+    final String name;
+
+    try{
+      name = fieldNameFunction.apply(field);
+    }catch(ConfigurationException e){
+      return new FieldBinding(field, null, e, null, null, null);
+    }
+
+    if(fieldConverterFunction == null || fieldWriterFunction == null){
+      return new FieldBinding(field, name, null, null, null, null);
+    }
+
+    try{
+      return new FieldBinding(
+              field,
+              name,
+              null,
+              fieldConverterFunction.apply(field),
+              fieldWriterFunction.apply(field),
+              null
+      );
+    }catch(ConfigurationException e){
+      return new FieldBinding(field, name, null, null, null, e);
+    }
+  }
+
+  /**
+   * 
+   * @return the field's resolved name, or {@code null} if it could not be resolved
+   */
+  String name() {
+    return name;
+  }
+
+  /**
+   * Assigns the converted value of this field's configuration to {@code object}'s field,
+   * if said configuration is present in {@code configurations}.
+   *
+   * @param object the target object
+   * @param configurations the configurations
+   * @throws ConfigurationException if the field's name, converter or writer could not be resolved,
+   *     or if the value could not be converted and assigned
+   */
+  void configure(Object object, Map<String, String> configurations) throws ConfigurationException {
+    if(nameError != null){
+      throw nameError;
+    }
+
+    final String value = configurations.get(name);
+
+    if(value != null || configurations.containsKey(name)){
+      if(bindingError != null){
+        throw bindingError;
+      }
+
+      try{
+        assign(object, value);
+      }catch(IllegalArgumentException | IllegalAccessException | ConfigurationException e){
+        throw new ConfigurationException(
+                String.format(
+                        "Unable to configure field '%s' of type '%s' in object of class '%s'",
+                        field.getName(),
+                        field.getType().getName(),
+                        field.getDeclaringClass().getName()
+                ),
+                e
+        );
+      }
+    }
+  }
+
+  /**
+   * 
+   * @return {@code true} if the field is marked with {@link Required}
+   */
+  boolean isRequired() {
+    return field.isAnnotationPresent(Required.class);
+  }
+
+  /**
+   * Assigns {@code null}, {@code 0} or {@code false} to {@code object}'s field, as if 
+   * it had never been configured.
+   *
+   * @param object the target object
+   * @throws ConfigurationException if the field's name or writer could not be resolved,
+   *     or if the value could not be assigned
+   */
+  void reset(Object object) throws ConfigurationException {
+    if(nameError != null){
+      throw nameError;
+    }
+
+    if(bindingError != null){
+      throw bindingError;
+    }
+
+    final Class<?> type = field.getType();
+
+    try{
+      writer.set(object, type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null);
+    }catch(IllegalArgumentException | IllegalAccessException e){
+      throw new ConfigurationException(
+              String.format(
+                      "Unable to configure field '%s' of type '%s' in object of class '%s'",
+                      field.getName(),
+                      field.getType().getName(),
+                      field.getDeclaringClass().getName()
+              ),
+              e
+      );
+    }
+  }
+
+  /**
+   * Checks that this field's configuration is present in {@code configurations}.
+   *
+   * @param object the target object
+   * @param configurations the configurations
+   * @throws ConfigurationException if the field's name could not be resolved, or
+   *     if its configuration is not present
+   */
+  void require(Object object, Map<String, String> configurations) throws ConfigurationException {
+    if(nameError != null){
+      throw nameError;
+    }
+
+    if(!configurations.containsKey(name)){
+      throw new ConfigurationException(
+              String.format(
+                      "Required configuration not found for field '%s' in object of class '%s'",
+                      field.getName(),
+                      object.getClass().getName()
+              )
+      );
+    }
+  }
+
+  /**
+   * A {@code (Object, Map)void} {@link MethodHandle} that does the same as
+   * {@link #configure(java.lang.Object, java.util.Map)}.
+   *
+   * @return the handle
+   */
+  MethodHandle configurer() {
+    if(nameError != null){
+      return raise(nameError, Object.class, Map.class);
+    }
+
+    final MethodHandle write;
+
+    if(bindingError != null){
+      write = raise(bindingError, String.class, Object.class, Map.class);
+    }else{
+      final String message = String.format(
+              "Unable to configure field '%s' of type '%s' in object of class '%s'",
+              field.getName(),
+              field.getType().getName(),
+              field.getDeclaringClass().getName()
+      );
+      // (Object object, String value)void
+      MethodHandle assign = MethodHandles.filterArguments(setter().bindTo(writer), 1, conversion().bindTo(converter));
+      assign = wrap(assign, ConfigurationException.class, message);
+      assign = wrap(assign, IllegalArgumentException.class, message);
+      assign = wrap(assign, IllegalAccessException.class, message);
+      write = MethodHandles.permuteArguments(
+              assign,
+              MethodType.methodType(void.class, String.class, Object.class, Map.class),
+              1, 0
+      );
+    }
+
+    // (String value, Object object, Map configurations)void
+    final MethodHandle guarded = MethodHandles.guardWithTest(
+            MethodHandles.dropArguments(MethodHandles.insertArguments(IS_PRESENT, 0, name), 1, Object.class),
+            write,
+            MethodHandles.dropArguments(SKIP, 0, String.class)
+    );
+    final MethodHandle lookup = MethodHandles.dropArguments(
+            MethodHandles.insertArguments(MAP_GET, 1, name).asType(MethodType.methodType(String.class, Map.class)),
+            0,
+            Object.class
+    );
+
+    return MethodHandles.foldArguments(guarded, lookup);
+  }
+
+  /**
+   * A {@code (Object, Map)void} {@link MethodHandle} that does the same as
+   * {@link #require(java.lang.Object, java.util.Map)}.
+   *
+   * @return the handle
+   */
+  MethodHandle requirer() {
+    if(nameError != null){
+      return raise(nameError, Object.class, Map.class);
+    }
+
+    return MethodHandles.guardWithTest(
+            MethodHandles.dropArguments(MethodHandles.insertArguments(MAP_CONTAINS_KEY, 1, name), 0, Object.class),
+            SKIP,
+            MethodHandles.insertArguments(MISSING, 0, field.getName())
+    );
+  }
+
+  /**
+   * A {@code (Object, Map)void} {@link MethodHandle} that does nothing.
+   *
+   * @return the handle
+   */
+  static MethodHandle skip() {
+    return SKIP;
+  }
+
+  private void assign(Object object, String value) throws IllegalAccessException, ConfigurationException {
+    if(primitive == null){
+      writer.set(object, converter.convert(value));
+    }else if(primitive == int.class){
+      writer.setInt(object, ((ToIntConfigurationConverter) converter).convertInt(value));
+    }else if(primitive == long.class){
+      writer.setLong(object, ((ToLongConfigurationConverter) converter).convertLong(value));
+    }else if(primitive == double.class){
+      writer.setDouble(object, ((ToDoubleConfigurationConverter) converter).convertDouble(value));
+    }else if(primitive == boolean.class){
+      writer.setBoolean(object, ((ToBooleanConfigurationConverter) converter).convertBoolean(value));
+    }else{
+      writer.setFloat(object, ((ToFloatConfigurationConverter) converter).convertFloat(value));
+    }
+  }
+
+  private MethodHandle setter() {
+    if(primitive == null){
+      return SET;
+    }else if(primitive == int.class){
+      return SET_INT;
+    }else if(primitive == long.class){
+      return SET_LONG;
+    }else if(primitive == double.class){
+      return SET_DOUBLE;
+    }else if(primitive == boolean.class){
+      return SET_BOOLEAN;
+    }else{
+      return SET_FLOAT;
+    }
+  }
+
+  private MethodHandle conversion() {
+    if(primitive == null){
+      return CONVERT;
+    }else if(primitive == int.class){
+      return CONVERT_INT;
+    }else if(primitive == long.class){
+      return CONVERT_LONG;
+    }else if(primitive == double.class){
+      return CONVERT_DOUBLE;
+    }else if(primitive == boolean.class){
+      return CONVERT_BOOLEAN;
+    }else{
+      return CONVERT_FLOAT;
+    }
+  }
+
+  /*
+   * The primitive type of the field if its converter can convert values to that
+   * type without boxing them, null otherwise.
+   */
+  private static Class<?> specialization(Class<?> type, ConfigurationConverter converter) {
+    if(type == int.class && isSpecialized(converter, ToIntConfigurationConverter.class)
+            || type == long.class && isSpecialized(converter, ToLongConfigurationConverter.class)
+            || type == float.class && isSpecialized(converter, ToFloatConfigurationConverter.class)
+            || type == double.class && isSpecialized(converter, ToDoubleConfigurationConverter.class)
+            || type == boolean.class && isSpecialized(converter, ToBooleanConfigurationConverter.class)){
+      return type;
+    }
+
+    return null;
+  }
+
+  /*
+   * Whether converter implements the specialized interface and still inherits its convert(String),
+   * which delegates to the unboxed method. Subclasses of the built-in converters that only override
+   * convert(String) must be converted through it.
+   */
+  static boolean isSpecialized(ConfigurationConverter converter, Class<? extends ConfigurationConverter> specialized) {
+    if(!specialized.isInstance(converter)){
+      return false;
+    }
+
+    try{
+      return converter.getClass().getMethod("convert", String.class).getDeclaringClass() == specialized;
+    }catch(NoSuchMethodException e){
+      return false;
+    }
+  }
+
+  private static MethodHandle raise(ConfigurationException error, Class<?>... parameters) {
+    return MethodHandles.dropArguments(
+            MethodHandles.throwException(void.class, ConfigurationException.class).bindTo(error),
+            0,
+            parameters
+    );
+  }
+
+  private static MethodHandle wrap(MethodHandle target, Class<? extends Throwable> exception, String message) {
+    return MethodHandles.catchException(
+            target,
+            exception,
+            MethodHandles.dropArguments(
+                    MethodHandles.insertArguments(FAIL, 0, message).asType(MethodType.methodType(void.class, exception)),
+                    1,
+                    target.type().parameterList()
+            )
+    );
+  }
+
+  private static boolean isPresent(String name, String value, Map<?, ?> configurations) {
+    return value != null || configurations.containsKey(name);
+  }
+
+  private static void missing(String fieldName, Object object, Map<?, ?> configurations) throws ConfigurationException {
+    throw new ConfigurationException(
+            String.format(
+                    "Required configuration not found for field '%s' in object of class '%s'",
+                    fieldName,
+                    object.getClass().getName()
+            )
+    );
+  }
+
+  private static void fail(String message, Throwable cause) throws ConfigurationException {
+    throw new ConfigurationException(message, cause);
+  }
+
+  private static void skip(Object object, Map<?, ?> configurations) {
+  }
+}
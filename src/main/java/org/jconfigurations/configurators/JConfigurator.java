@@ -15,6 +15,13 @@
  */
 package org.jconfigurations.configurators;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.source.ConfigurationSource;
 
@@ -25,36 +32,104 @@ import org.jconfigurations.source.ConfigurationSource;
  * become available.
  * 
  * This {@link Configurator} delegates calls to its {@link #configure(java.lang.Object)} method to an internal
- * chain of {@link Configurator configurators} that is guaranteed to contain all of the framework's features.
+ * {@link Configurator} that is guaranteed to contain all of the framework's features. Currently this is the
+ * {@link SinglePassConfigurator}, which is equivalent to chaining all of the framework's {@link Configurator configurators}.
+ * 
+ * Each class' fields, names and converters are resolved once, the first time an instance of 
+ * the class is configured, so the same {@link JConfigurator} instance should be reused across 
+ * {@link #configure(java.lang.Object)} calls.
+ * 
+ * Classes for which a {@link ConfiguratorFactory} is registered with the {@link ServiceLoader} 
+ * of their class loader (eg. by the {@link org.jconfigurations.processor.ConfiguratorProcessor}) are 
+ * instead configured by the factory's {@link Configurator}, without any reflection. Each class loader's 
+ * providers are discovered only once, and providers that fail to load (eg. stale entries left in
+ * the index after a class was removed) are ignored.
  * </pre>
  * 
  * @author George Aristy
  */
 public class JConfigurator implements Configurator {
+  /*
+   * The names of the factories of each class, by class loader. Only names are kept, so that the 
+   * class loaders can still be unloaded.
+   */
+  private static final Map<ClassLoader, Map<String, String>> PROVIDERS = new WeakHashMap<>();
+  private static final ClassValue<ConfiguratorFactory> FACTORIES = new ClassValue<ConfiguratorFactory>(){
+    @Override
+    protected ConfiguratorFactory computeValue(Class<?> type) {
+      return factory(type);
+    }
+  };
+  private final ConfigurationSource source;
   private final Configurator configurator;
+  private final ClassValue<Configurator> configurators = new ClassValue<Configurator>(){
+    @Override
+    protected Configurator computeValue(Class<?> type) {
+      final ConfiguratorFactory factory = FACTORIES.get(type);
+
+      return factory == null ? configurator : factory.create(source);
+    }
+  };
 
   /**
    * 
    * @param source 
+   * @throws NullPointerException if {@code source} is {@code null}.
    */
   public JConfigurator(ConfigurationSource source) {
-    this.configurator = 
-            new RequiredConfigurator(
-                    source, 
-                    new BasicConfigurator(
-                            source,
-                            new CollectionConfigurator(
-                                    source,
-                                    new MapConfigurator(
-                                            source
-                                    )
-                            )
-                    )
-            );
+    this.configurator = new SinglePassConfigurator(source);
+    this.source = source;
   }
 
   @Override
   public void configure(Object object) throws ConfigurationException {
-    configurator.configure(object);
+    requireNonNull(object, "null object.");
+
+    configurators.get(object.getClass()).configure(object);
+  }
+
+  private static ConfiguratorFactory factory(Class<?> type) {
+    final ClassLoader loader = type.getClassLoader() == null ? ClassLoader.getSystemClassLoader() : type.getClassLoader();
+    final String name = providers(loader).get(type.getName());
+
+    if(name == null){
+      return null;
+    }
+
+    try{
+      final ConfiguratorFactory factory = (ConfiguratorFactory) Class.forName(name, true, loader).getDeclaredConstructor().newInstance();
+
+      return factory.type() == type ? factory : null;
+    }catch(ReflectiveOperationException | ClassCastException | LinkageError e){
+      return null;
+    }
+  }
+
+  private static Map<String, String> providers(ClassLoader loader) {
+    synchronized(PROVIDERS){
+      Map<String, String> providers = PROVIDERS.get(loader);
+
+      if(providers == null){
+        providers = new HashMap<>();
+        final Iterator<ConfiguratorFactory> iterator = ServiceLoader.load(ConfiguratorFactory.class, loader).iterator();
+
+        while(true){
+          try{
+            if(!iterator.hasNext()){
+              break;
+            }
+
+            final ConfiguratorFactory factory = iterator.next();
+            providers.put(factory.type().getName(), factory.getClass().getName());
+          }catch(ServiceConfigurationError e){
+            //a provider that cannot be loaded, skipped
+          }
+        }
+
+        PROVIDERS.put(loader, providers);
+      }
+
+      return providers;
+    }
   }
-}
\ No newline at end of file
+}
@@ -23,8 +23,10 @@ import org.jconfigurations.converters.MapConfigurationConverter;
 import org.jconfigurations.functions.DefaultFieldNameFunction;
 import org.jconfigurations.functions.DefaultMapTypeConverterFunction;
 import org.jconfigurations.functions.MapFieldConverterFunction;
+import org.jconfigurations.functions.FieldWriterFunction;
 import org.jconfigurations.source.ConfigurationSource;
 import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
 
 /**
  * The {@link MapConfigurator} will target all {@literal @}{@link MapConfiguration}
@@ -49,15 +51,38 @@ public class MapConfigurator extends BaseConfigurator {
    * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
    * @param fieldConverterFunction the {@link ErrorFunction function} used to produce an instance of the 
    * appropriate {@link ConfigurationConverter converter} for a given field.
+   * @param fieldWriterFunction the {@link ErrorFunction function} used to produce the 
+   * {@link FieldWriter writer} used to assign values to a given field.
    * @throws NullPointerException if any of the parameters is {@code null}.
    */
   public MapConfigurator(
           ConfigurationSource source, 
-          Configurator configurator, 
+          Configurator configurator,
+          ErrorFunction<Field, String> fieldNameFunction, 
+          ErrorFunction<Field, MapConfigurationConverter> fieldConverterFunction,
+          ErrorFunction<Field, FieldWriter> fieldWriterFunction
+  ) {
+    super(MapConfiguration.class, source, configurator, fieldNameFunction, fieldConverterFunction, fieldWriterFunction);
+  }
+
+  /**
+   * Defaults to using the {@link FieldWriterFunction} to produce the fields' 
+   * {@link FieldWriter writers}.
+   * 
+   * @param source
+   * @param configurator
+   * @param fieldNameFunction
+   * @param fieldConverterFunction 
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   * @see #MapConfigurator(org.jconfigurations.source.ConfigurationSource, org.jconfigurations.configurators.Configurator, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction, org.jconfigurations.util.ErrorFunction) 
+   */
+  public MapConfigurator(
+          ConfigurationSource source, 
+          Configurator configurator,
           ErrorFunction<Field, String> fieldNameFunction, 
           ErrorFunction<Field, MapConfigurationConverter> fieldConverterFunction
   ) {
-    super(MapConfiguration.class, source, configurator, fieldNameFunction, fieldConverterFunction);
+    this(source, configurator, fieldNameFunction, fieldConverterFunction, new FieldWriterFunction());
   }
 
   /**
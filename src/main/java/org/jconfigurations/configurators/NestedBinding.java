@@ -0,0 +1,302 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Prefix;
+
+/**
+ * A field marked with {@link Prefix}, bound to the {@link ConfigurationPlan plan} of 
+ * its type, which was compiled with the prefix prepended to the names of its fields.
+ *
+ * <p>The nested object is read from the field; if it is {@code null} and any of the
+ * configurations of the nested plan is present, it is created with its type's no-arg
+ * constructor and assigned to the field first.</p>
+ *
+ * <p>The plan of a field whose type is already on the path from the root class is
+ * compiled lazily, one level at a time, the first time that any configuration in the 
+ * field's namespace is present; until then the field is left alone.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationPlan
+ */
+final class NestedBinding {
+  private static final MethodHandle INVOKE;
+  private static final MethodHandle CONFIGURE;
+
+  static {
+    try{
+      INVOKE = MethodHandles.lookup().findStatic(
+              NestedBinding.class,
+              "invoke",
+              MethodType.methodType(void.class, NestedBinding.class, MethodHandle.class, Object.class, Map.class)
+      );
+      CONFIGURE = MethodHandles.lookup().findVirtual(
+              NestedBinding.class,
+              "configure",
+              MethodType.methodType(void.class, Object.class, Map.class)
+      );
+    }catch(NoSuchMethodException | IllegalAccessException e){
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Field field;
+  private final Supplier<ConfigurationPlan> compiler;
+  private volatile ConfigurationPlan plan;
+  private final String[] names;
+  private final String[] namespaces;
+  private final Constructor<?> constructor;
+  private final ConfigurationException constructorError;
+  private final ConfigurationException error;
+
+  private NestedBinding(
+          Field field, 
+          ConfigurationPlan plan, 
+          Supplier<ConfigurationPlan> compiler, 
+          String namespace, 
+          ConfigurationException error
+  ) {
+    this.field = field;
+    this.plan = plan;
+    this.compiler = compiler;
+    this.error = error;
+
+    if(plan == null && compiler == null){
+      this.names = new String[0];
+      this.namespaces = new String[0];
+      this.constructor = null;
+      this.constructorError = null;
+    }else{
+      if(plan != null){
+        final List<String> all = plan.names();
+        final List<String> lazy = plan.namespaces();
+        this.names = all.toArray(new String[all.size()]);
+        this.namespaces = lazy.toArray(new String[lazy.size()]);
+      }else{
+        this.names = new String[0];
+        this.namespaces = new String[]{namespace};
+      }
+
+      Constructor<?> found = null;
+      ConfigurationException failure = null;
+
+      try{
+        found = field.getType().getDeclaredConstructor();
+        found.setAccessible(true);
+      }catch(NoSuchMethodException | SecurityException e){
+        failure = failure(e);
+      }
+
+      this.constructor = found;
+      this.constructorError = failure;
+    }
+  }
+
+  /**
+   * 
+   * @param field the field, already made accessible
+   * @param plan the plan of the field's type
+   * @return the binding
+   */
+  static NestedBinding of(Field field, ConfigurationPlan plan) {
+    return new NestedBinding(field, plan, null, null, null);
+  }
+
+  /**
+   * 
+   * @param field the field, already made accessible
+   * @param namespace the namespace of the field's configurations, ending with a dot
+   * @param compiler compiles the plan of the field's type, the first time that any
+   *     configuration in {@code namespace} is present
+   * @return the binding
+   */
+  static NestedBinding lazy(Field field, String namespace, Supplier<ConfigurationPlan> compiler) {
+    return new NestedBinding(field, null, compiler, namespace, null);
+  }
+
+  /**
+   * 
+   * @param field the field
+   * @param error the reason the field's plan could not be compiled, thrown whenever
+   *     the field is configured
+   * @return the binding
+   */
+  static NestedBinding failed(Field field, ConfigurationException error) {
+    return new NestedBinding(field, null, null, null, error);
+  }
+
+  /**
+   * 
+   * @return the names of all the configurations of the nested plan, including those of its own nested plans
+   */
+  List<String> names() {
+    return Arrays.asList(names);
+  }
+
+  /**
+   * 
+   * @return the namespaces of the lazily compiled plans nested in this binding, whose 
+   *     names are not known in advance
+   */
+  List<String> namespaces() {
+    return Arrays.asList(namespaces);
+  }
+
+  /**
+   * Configures the nested object held by {@code object}'s field.
+   *
+   * @param object the target object
+   * @param configurations the configurations
+   * @throws ConfigurationException if the nested plan could not be compiled, if the nested
+   *     object could not be created, or if it could not be configured
+   */
+  void configure(Object object, Map<String, String> configurations) throws ConfigurationException {
+    final Object nested = resolve(object, configurations);
+
+    if(nested != null){
+      plan().configure(nested, configurations);
+    }
+  }
+
+  /**
+   * A {@code (Object, Map)void} {@link MethodHandle} that does the same as
+   * {@link #configure(java.lang.Object, java.util.Map)}, configuring the nested object 
+   * with the nested plan's {@link ConfigurationPlan#toMethodHandle() handle}.
+   *
+   * @return the handle
+   */
+  MethodHandle configurer() {
+    if(compiler != null){
+      //the plan does not exist yet
+      return CONFIGURE.bindTo(this);
+    }
+
+    return MethodHandles.insertArguments(INVOKE, 0, this, plan != null ? plan.toMethodHandle() : FieldBinding.skip());
+  }
+
+  /**
+   * 
+   * @return the plan of the field's type, compiled now if it is compiled lazily
+   * @throws ConfigurationException if the plan could not be compiled
+   */
+  ConfigurationPlan plan() throws ConfigurationException {
+    if(error != null){
+      throw error;
+    }
+
+    ConfigurationPlan compiled = plan;
+
+    if(compiled == null){
+      //compiling twice in a race is harmless
+      compiled = plan = compiler.get();
+    }
+
+    return compiled;
+  }
+
+  /**
+   * 
+   * @param object the target object
+   * @return the nested object currently held by {@code object}'s field, or {@code null}
+   * @throws ConfigurationException if the field could not be read
+   */
+  Object get(Object object) throws ConfigurationException {
+    try{
+      return field.get(object);
+    }catch(IllegalAccessException | IllegalArgumentException e){
+      throw failure(e);
+    }
+  }
+
+  private Object resolve(Object object, Map<String, String> configurations) throws ConfigurationException {
+    if(error != null){
+      throw error;
+    }
+
+    try{
+      Object nested = field.get(object);
+
+      if(nested == null && isPresent(configurations)){
+        if(constructorError != null){
+          throw constructorError;
+        }
+
+        nested = constructor.newInstance();
+        field.set(object, nested);
+      }
+
+      return nested;
+    }catch(ReflectiveOperationException | IllegalArgumentException e){
+      throw failure(e);
+    }
+  }
+
+  private boolean isPresent(Map<String, String> configurations) {
+    for(String name : names){
+      if(configurations.containsKey(name)){
+        return true;
+      }
+    }
+
+    if(namespaces.length > 0){
+      for(String name : configurations.keySet()){
+        for(String namespace : namespaces){
+          if(name.startsWith(namespace)){
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private ConfigurationException failure(Throwable cause) {
+    return new ConfigurationException(
+            String.format(
+                    "Unable to configure field '%s' of type '%s' in object of class '%s'",
+                    field.getName(),
+                    field.getType().getName(),
+                    field.getDeclaringClass().getName()
+            ),
+            cause
+    );
+  }
+
+  private static void invoke(
+          NestedBinding binding, 
+          MethodHandle routine, 
+          Object object, 
+          Map<String, String> configurations
+  ) throws Throwable {
+    final Object nested = binding.resolve(object, configurations);
+
+    if(nested != null){
+      routine.invokeExact(nested, configurations);
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>A {@link Configurator} that can {@link #configureAll(java.util.Collection) configure} 
+ * large batches of objects in parallel with another {@link Configurator}.</p>
+ * 
+ * <p>Objects are grouped by class. The first object of each group is configured on its own, 
+ * so that the class' plan is compiled only once, and the rest of the group is then split 
+ * among the threads of a {@link ForkJoinPool}. All objects are configured even if some of 
+ * them fail; the failures are reported together.</p>
+ * 
+ * <p>The {@link Configurator} must be safe to use from several threads, as are all of the 
+ * framework's configurators.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ParallelConfigurator implements Configurator {
+  private final Configurator configurator;
+  private final ForkJoinPool pool;
+
+  /**
+   * 
+   * @param configurator the {@link Configurator} that configures each object
+   * @param pool the pool that runs the configurations
+   * @throws NullPointerException if any of the inputs is {@code null}.
+   */
+  public ParallelConfigurator(Configurator configurator, ForkJoinPool pool) {
+    this.configurator = requireNonNull(configurator, "null configurator");
+    this.pool = requireNonNull(pool, "null pool");
+  }
+
+  /**
+   * Defaults to the {@link ForkJoinPool#commonPool() common pool}.
+   * 
+   * @param configurator
+   * @throws NullPointerException if {@code configurator} is {@code null}.
+   * @see #ParallelConfigurator(org.jconfigurations.configurators.Configurator, java.util.concurrent.ForkJoinPool) 
+   */
+  public ParallelConfigurator(Configurator configurator) {
+    this(configurator, ForkJoinPool.commonPool());
+  }
+
+  @Override
+  public void configure(Object object) throws ConfigurationException {
+    configurator.configure(object);
+  }
+
+  /**
+   * Configures all {@code objects}, in parallel.
+   * 
+   * @param objects the objects to configure
+   * @throws ConfigurationException if any of the objects could not be configured, with each 
+   * object's error {@link Throwable#getSuppressed() suppressed}.
+   * @throws NullPointerException if {@code objects} or any of its elements is {@code null}.
+   */
+  public void configureAll(Collection<?> objects) throws ConfigurationException {
+    final Map<Class<?>, List<Object>> groups = new LinkedHashMap<>();
+
+    for(Object object : requireNonNull(objects, "null objects")){
+      groups.computeIfAbsent(requireNonNull(object, "null object.").getClass(), c -> new ArrayList<>()).add(object);
+    }
+
+    final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    final List<Group> tasks = new ArrayList<>(groups.size());
+
+    for(List<Object> group : groups.values()){
+      tasks.add(new Group(group, failures));
+    }
+
+    pool.invoke(new RecursiveAction(){
+      @Override
+      protected void compute() {
+        invokeAll(tasks);
+      }
+    });
+
+    if(!failures.isEmpty()){
+      final ConfigurationException error = new ConfigurationException(
+              String.format("Unable to configure %d of %d objects", failures.size(), objects.size())
+      );
+      failures.forEach(error::addSuppressed);
+
+      throw error;
+    }
+  }
+
+  /**
+   * Same as {@link #configureAll(java.util.Collection)}, for the elements of {@code objects}.
+   * 
+   * @param objects the objects to configure
+   * @throws ConfigurationException if any of the objects could not be configured
+   * @throws NullPointerException if {@code objects} or any of its elements is {@code null}.
+   */
+  public void configureAll(Stream<?> objects) throws ConfigurationException {
+    configureAll(requireNonNull(objects, "null objects").collect(Collectors.toList()));
+  }
+
+  private void configure(Object object, Queue<Throwable> failures) {
+    try{
+      configurator.configure(object);
+    }catch(ConfigurationException | RuntimeException e){
+      failures.add(e);
+    }
+  }
+
+  /*
+   * Configures the first object of a group of objects of the same class, then the rest in parallel.
+   */
+  private final class Group extends RecursiveAction {
+    private final List<Object> objects;
+    private final Queue<Throwable> failures;
+
+    private Group(List<Object> objects, Queue<Throwable> failures) {
+      this.objects = objects;
+      this.failures = failures;
+    }
+
+    @Override
+    protected void compute() {
+      configure(objects.get(0), failures);
+
+      if(objects.size() > 1){
+        final int threshold = Math.max(1, objects.size() / (pool.getParallelism() * 4));
+        new Slice(objects, 1, objects.size(), threshold, failures).compute();
+      }
+    }
+  }
+
+  private final class Slice extends RecursiveAction {
+    private final List<Object> objects;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final Queue<Throwable> failures;
+
+    private Slice(List<Object> objects, int from, int to, int threshold, Queue<Throwable> failures) {
+      this.objects = objects;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+      this.failures = failures;
+    }
+
+    @Override
+    protected void compute() {
+      if(to - from <= threshold){
+        for(int i = from; i < to; i++){
+          configure(objects.get(i), failures);
+        }
+      }else{
+        final int middle = (from + to) >>> 1;
+        invokeAll(
+                new Slice(objects, from, middle, threshold, failures), 
+                new Slice(objects, middle, to, threshold, failures)
+        );
+      }
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.source.PrefixIndexedConfigurationSource;
+
+/**
+ * <p>A {@link Configurator} that configures the nested objects held by fields marked 
+ * with {@link Prefix} from the {@link PrefixIndexedConfigurationSource#subset(java.lang.String) subset}
+ * of the configurations in their namespace.</p>
+ * 
+ * <p>Objects are first configured by the {@link Configurator} that the {@code configuratorFunction}
+ * creates for the {@link PrefixIndexedConfigurationSource source}; then each of their {@link Prefix}
+ * fields is configured in the same way, recursively, by a {@link PrefixConfigurator} for its namespace. 
+ * The subsets and their configurators are created once per namespace.</p>
+ * 
+ * <p>It is meant for configurators that do not handle {@link Prefix} fields themselves, such as
+ * the chain of {@link RequiredConfigurator}, {@link BasicConfigurator}, {@link CollectionConfigurator}
+ * and {@link MapConfigurator}. The {@link SinglePassConfigurator} and the {@link CompilingConfigurator}
+ * configure nested objects on their own, straight from the prefixed names.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class PrefixConfigurator implements Configurator {
+  private final PrefixIndexedConfigurationSource source;
+  private final Function<? super ConfigurationSource, ? extends Configurator> configuratorFunction;
+  private final Configurator configurator;
+  private final ConcurrentMap<String, PrefixConfigurator> namespaces = new ConcurrentHashMap<>();
+  private final ClassValue<List<Field>> fields = new ClassValue<List<Field>>(){
+    @Override
+    protected List<Field> computeValue(Class<?> type) {
+      final List<Field> prefixed = new ArrayList<>();
+
+      for(Field field : type.getDeclaredFields()){
+        if(field.isAnnotationPresent(Prefix.class) && !Modifier.isStatic(field.getModifiers())){
+          field.setAccessible(true);
+          prefixed.add(field);
+        }
+      }
+
+      return prefixed;
+    }
+  };
+
+  /**
+   * 
+   * @param source the {@link PrefixIndexedConfigurationSource} that provides the configurations
+   * @param configuratorFunction creates the {@link Configurator} for {@code source} and for each 
+   * of its namespaces
+   * @throws NullPointerException if any of the inputs is {@code null}, or if {@code configuratorFunction}
+   * produces a {@code null} {@link Configurator}.
+   */
+  public PrefixConfigurator(
+          PrefixIndexedConfigurationSource source, 
+          Function<? super ConfigurationSource, ? extends Configurator> configuratorFunction
+  ) {
+    this.source = requireNonNull(source, "null source");
+    this.configuratorFunction = requireNonNull(configuratorFunction, "null configuratorFunction");
+    this.configurator = requireNonNull(configuratorFunction.apply(source), "null configurator");
+  }
+
+  /**
+   * Defaults to configuring objects with the chain of {@link RequiredConfigurator}, {@link BasicConfigurator}, 
+   * {@link CollectionConfigurator} and {@link MapConfigurator}.
+   * 
+   * @param source
+   * @throws NullPointerException if {@code source} is {@code null}.
+   * @see #PrefixConfigurator(org.jconfigurations.source.PrefixIndexedConfigurationSource, java.util.function.Function) 
+   */
+  public PrefixConfigurator(PrefixIndexedConfigurationSource source) {
+    this(
+            source, 
+            s -> new RequiredConfigurator(
+                    s, 
+                    new BasicConfigurator(s, new CollectionConfigurator(s, new MapConfigurator(s)))
+            )
+    );
+  }
+
+  @Override
+  public void configure(Object object) throws ConfigurationException {
+    requireNonNull(object, "null object.");
+
+    configurator.configure(object);
+
+    for(Field field : fields.get(object.getClass())){
+      final String prefix = field.getAnnotation(Prefix.class).value();
+
+      if(prefix.isEmpty()){
+        throw new ConfigurationException(
+                String.format(
+                        "Empty prefix for field '%s' in object of class '%s'", 
+                        field.getName(), 
+                        object.getClass().getName()
+                )
+        );
+      }
+
+      final PrefixConfigurator nested = namespaces.computeIfAbsent(
+              prefix, 
+              p -> new PrefixConfigurator(source.subset(p), configuratorFunction)
+      );
+
+      try{
+        Object value = field.get(object);
+
+        if(value == null){
+          if(nested.source.configurations().isEmpty()){
+            continue;
+          }
+
+          final Constructor<?> constructor = field.getType().getDeclaredConstructor();
+          constructor.setAccessible(true);
+          value = constructor.newInstance();
+          field.set(object, value);
+        }
+
+        nested.configure(value);
+      }catch(ReflectiveOperationException | IllegalArgumentException | SecurityException e){
+        throw new ConfigurationException(
+                String.format(
+                        "Unable to configure field '%s' of type '%s' in object of class '%s'",
+                        field.getName(),
+                        field.getType().getName(),
+                        field.getDeclaringClass().getName()
+                ),
+                e
+        );
+      }
+    }
+  }
+}
@@ -16,9 +16,7 @@
 package org.jconfigurations.configurators;
 
 import java.lang.reflect.Field;
-import java.util.Iterator;
 import java.util.Objects;
-import java.util.stream.Stream;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.Name;
 import org.jconfigurations.source.ConfigurationSource;
@@ -41,6 +39,12 @@ public class RequiredConfigurator implements Configurator {
   private final ConfigurationSource source;
   private final Configurator configurator;
   private final ErrorFunction<Field, String> fieldNameFunction;
+  private final ClassValue<ConfigurationPlan> plans = new ClassValue<ConfigurationPlan>(){
+    @Override
+    protected ConfigurationPlan computeValue(Class<?> type) {
+      return ConfigurationPlan.compileRequired(type, fieldNameFunction);
+    }
+  };
 
   /**
    * 
@@ -87,24 +91,7 @@ public class RequiredConfigurator implements Configurator {
   public void configure(Object object) throws ConfigurationException {
     Objects.requireNonNull(object, "null object.");
 
-    Iterator<Field> iter = Stream.of(object.getClass().getDeclaredFields())
-            .filter(f -> f.isAnnotationPresent(Required.class))
-            .iterator();
-
-    while(iter.hasNext()){
-      Field f = iter.next();
-      final String name = fieldNameFunction.apply(f);
-
-      if(!source.configurations().containsKey(name)){
-        throw new ConfigurationException(
-                String.format(
-                        "Required configuration not found for field '%s' in object of class '%s'",
-                        f.getName(), 
-                        object.getClass().getName()
-                )
-        );
-      }
-    }
+    plans.get(object.getClass()).configure(object, source.configurations());
 
     configurator.configure(object);
   }
@@ -24,6 +24,11 @@
  * 
  * {@link org.jconfigurations.configurators.Configurator Configurators} provided by the framework can be chained together to combine features that act on 
  * combinations of annotations. The special {@link org.jconfigurations.configurators.NoOpConfigurator} is used to end these chains.
+ * 
+ * The exception to this rule is the {@link org.jconfigurations.configurators.SinglePassConfigurator}, which is equivalent to the chain of all 
+ * the framework's {@link org.jconfigurations.configurators.Configurator configurators} but only walks over each class' fields once, 
+ * and the {@link org.jconfigurations.configurators.CompilingConfigurator}, which goes further by compiling a dedicated 
+ * routine for each class.
  * </pre>
  */
 package org.jconfigurations.configurators;
\ No newline at end of file
@@ -19,6 +19,7 @@ import java.util.Collection;
 import static java.util.Objects.requireNonNull;
 import java.util.regex.PatternSyntaxException;
 import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.Delimiter;
 
 /**
  * Handy abstract class that implementations of {@link CollectionConfigurationConverter} 
@@ -36,6 +37,7 @@ public abstract class BaseCollectionConfigurationConverter<T> implements Collect
   protected final ConfigurationConverter<T> elementConverter;
   protected final String delimiter;
   private final Class<? extends Collection> collectionType;
+  private final Delimiter tokenizer;
 
   /**
    * 
@@ -44,7 +46,8 @@ public abstract class BaseCollectionConfigurationConverter<T> implements Collect
    * to convert each substring to the appropriate type.
    * @param delimiter the delimiter to use to tokenize the configuration's 
    * {@link #convert(java.lang.String) value}. The configuration string will be 
-   * tokenized using the standard {@link String#split(java.lang.String)} method.
+   * tokenized the same way the standard {@link String#split(java.lang.String)} method
+   * would tokenize it (see {@link Delimiter}).
    * @param collectionType the implementation class - must have an accessible no-arg 
    * constructor.
    * @throws NullPointerException if any of the parameters is {@code null}.
@@ -57,6 +60,7 @@ public abstract class BaseCollectionConfigurationConverter<T> implements Collect
     this.elementConverter = requireNonNull(elementConverter, "null elementConverter");
     this.delimiter = requireNonNull(delimiter, "null delimiter");
     this.collectionType = requireNonNull(collectionType, "null collectionType");
+    this.tokenizer = new Delimiter(delimiter);
   }
 
   @Override
@@ -65,9 +69,10 @@ public abstract class BaseCollectionConfigurationConverter<T> implements Collect
 
     try{
       final Collection<T> collection = collectionType.newInstance();
+      final Delimiter.Tokenizer tokens = tokenizer.tokenize(value);
   
-      for(String v : value.split(delimiter)){
-        collection.add(elementConverter.convert(v));
+      while(tokens.hasNext()){
+        collection.add(elementConverter.convert(tokens.next()));
       }
 
       return collection;
@@ -18,6 +18,7 @@ package org.jconfigurations.converters;
 import java.util.Map;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.util.Delimiter;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -38,6 +39,8 @@ public abstract class BaseMapConfigurationConverter<K, V> implements MapConfigur
   protected final String entryDelimiter;
   protected final String keyValueSeparator;
   protected final Class<? extends Map> mapImplClass;
+  private final Delimiter entryTokenizer;
+  private final Delimiter keyValueTokenizer;
 
   /**
    * 
@@ -60,6 +63,8 @@ public abstract class BaseMapConfigurationConverter<K, V> implements MapConfigur
     this.entryDelimiter = requireNonNull(entryDelimiter, "null entryDelimiter");
     this.keyValueSeparator = requireNonNull(keyValueSeparator, "null keyValueSeparator");
     this.mapImplClass = requireNonNull(mapImplClass, "null mapImplClass");
+    this.entryTokenizer = new Delimiter(entryDelimiter);
+    this.keyValueTokenizer = new Delimiter(keyValueSeparator);
   }
 
   @Override
@@ -67,18 +72,26 @@ public abstract class BaseMapConfigurationConverter<K, V> implements MapConfigur
     requireNonNull(value, "null value");
 
     final Map<K, V> map = instantiate(mapImplClass);
+    final Delimiter.Tokenizer entries = entryTokenizer.tokenize(value);
+    Delimiter.Tokenizer keyValue = null;
 
-    for(String entry : value.split(entryDelimiter)){
-      final String[] keyValue = entry.split(keyValueSeparator);
-      final String k = keyValue[0];
-      final String v;
+    while(entries.hasNext()){
+      final String entry = entries.next();
+      keyValue = keyValue == null ? keyValueTokenizer.tokenize(entry) : keyValue.reset(entry);
 
-      if(keyValue.length > 1){
-        v = keyValue[1];
-      }else{
-        v = null;
+      if(!keyValue.hasNext()){
+        throw new ConfigurationException(
+                String.format(
+                        "Malformed entry '%s' has no key before the key-value separator '%s'.",
+                        entry,
+                        keyValueSeparator
+                )
+        );
       }
 
+      final String k = keyValue.next();
+      final String v = keyValue.hasNext() ? keyValue.next() : null;
+
       map.put(
               keyConverter.convert(k),
               v != null ? valueConverter.convert(v) : null
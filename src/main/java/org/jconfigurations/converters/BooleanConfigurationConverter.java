@@ -21,8 +21,9 @@ import org.jconfigurations.ConfigurationException;
  *
  * @author George Aristy
  */
-public class BooleanConfigurationConverter implements ConfigurationConverter<Boolean> {
-  public Boolean convert(String value) throws ConfigurationException {
+public class BooleanConfigurationConverter implements ToBooleanConfigurationConverter {
+  @Override
+  public boolean convertBoolean(String value) throws ConfigurationException {
     try{
       return Boolean.parseBoolean(value);
     }catch(Exception e){
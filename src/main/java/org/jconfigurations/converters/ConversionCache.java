@@ -0,0 +1,252 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>A bounded, thread-safe cache of the results of {@link ConfigurationConverter converters}, keyed 
+ * by the identity of the converter together with the value it converted.</p>
+ * 
+ * <p>The entries are split among up to 16 independent stripes of at least 64 entries each, every 
+ * one guarded by its own lock and holding at most its share of the cache's maximum size. When a 
+ * stripe is full, its least recently used entry is evicted; caches of less than 128 entries have a 
+ * single stripe and are therefore strictly LRU. Values are converted outside of the locks, so two 
+ * threads that miss the same entry at the same time may both convert it. Failed conversions and 
+ * {@code null} results are not cached.</p>
+ * 
+ * <p>Cached results are never handed out as they are, unless they are immutable:</p>
+ * <ul>
+ * <li>{@link ArrayList}s, {@link LinkedList}s, {@link ArrayDeque}s, {@link HashSet}s, {@link TreeSet}s, 
+ * {@link HashMap}s, {@link TreeMap}s (and their subclasses) and arrays are returned as shallow copies,</li>
+ * <li>any other {@link List}, {@link Set}, {@link Collection} or {@link Map} is returned as an 
+ * unmodifiable view,</li>
+ * <li>any other result is shared.</li>
+ * </ul>
+ * 
+ * <p>Copies are shallow: the elements of collections, maps and arrays are always shared. Therefore 
+ * converters must produce immutable values and immutable elements, as the framework's own converters 
+ * do with their built-in element types; a collection of arrays or of mutable objects would be shared
+ * by every field and object that is assigned the same value.</p>
+ * 
+ * <p>Entries reference their converters, and through them the converters' classes. A cache therefore 
+ * keeps the class loaders of the converters it holds from being unloaded until their entries are 
+ * evicted or the cache is {@link #clear() cleared}. This applies in particular to the {@link #shared() shared}
+ * cache, which lives as long as the framework's classes; applications that are redeployed within the
+ * same container should use caches of their own.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see MemoizingConfigurationConverter
+ */
+public final class ConversionCache {
+  private static final int STRIPES = 16;
+  private static final int STRIPE_SIZE = 64;
+  private static final ConversionCache SHARED = new ConversionCache(4096);
+  private final Stripe[] stripes;
+
+  /**
+   * 
+   * @param maximumSize the maximum number of cached results
+   * @throws IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  public ConversionCache(int maximumSize) {
+    if(maximumSize < 1){
+      throw new IllegalArgumentException(String.format("Invalid maximum size %d", maximumSize));
+    }
+
+    final int count = Math.min(Integer.highestOneBit(Math.max(1, maximumSize / STRIPE_SIZE)), STRIPES);
+    this.stripes = new Stripe[count];
+
+    for(int i = 0; i < count; i++){
+      stripes[i] = new Stripe(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+  }
+
+  /**
+   * 
+   * @return the cache used by default by {@link MemoizingConfigurationConverter}s, holding up to 
+   *     4096 results
+   */
+  public static ConversionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the cached result of converting {@code value} with {@code converter}, converting
+   * and caching it first if needed.
+   * 
+   * @param <T> the type of the result
+   * @param converter the converter
+   * @param value the value to convert; {@code null} values are converted but not cached
+   * @return the result, or a copy or view of it
+   * @throws ConfigurationException if {@code converter} fails to convert {@code value}
+   * @throws NullPointerException if {@code converter} is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T convert(ConfigurationConverter<T> converter, String value) throws ConfigurationException {
+    requireNonNull(converter, "null converter");
+
+    if(value == null){
+      return converter.convert(value);
+    }
+
+    final Key key = new Key(converter, value);
+    final Stripe stripe = stripes[(key.hash ^ (key.hash >>> 16)) & (stripes.length - 1)];
+    Object result;
+
+    synchronized(stripe){
+      result = stripe.get(key);
+    }
+
+    if(result == null){
+      result = converter.convert(value);
+
+      if(result == null){
+        return null;
+      }
+
+      synchronized(stripe){
+        stripe.put(key, result);
+      }
+    }
+
+    return (T) copy(result);
+  }
+
+  /**
+   * 
+   * @return the number of cached results
+   */
+  public int size() {
+    int size = 0;
+
+    for(Stripe stripe : stripes){
+      synchronized(stripe){
+        size += stripe.size();
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Removes all of the cached results.
+   */
+  public void clear() {
+    for(Stripe stripe : stripes){
+      synchronized(stripe){
+        stripe.clear();
+      }
+    }
+  }
+
+  private static Object copy(Object result) {
+    if(result instanceof ArrayList){
+      return ((ArrayList<?>) result).clone();
+    }else if(result instanceof HashSet){
+      return ((HashSet<?>) result).clone();
+    }else if(result instanceof HashMap){
+      return ((HashMap<?, ?>) result).clone();
+    }else if(result instanceof TreeSet){
+      return ((TreeSet<?>) result).clone();
+    }else if(result instanceof TreeMap){
+      return ((TreeMap<?, ?>) result).clone();
+    }else if(result instanceof LinkedList){
+      return ((LinkedList<?>) result).clone();
+    }else if(result instanceof ArrayDeque){
+      return ((ArrayDeque<?>) result).clone();
+    }else if(result instanceof List){
+      return Collections.unmodifiableList((List<?>) result);
+    }else if(result instanceof Set){
+      return Collections.unmodifiableSet((Set<?>) result);
+    }else if(result instanceof Collection){
+      return Collections.unmodifiableCollection((Collection<?>) result);
+    }else if(result instanceof Map){
+      return Collections.unmodifiableMap((Map<?, ?>) result);
+    }else if(result.getClass().isArray()){
+      final int length = Array.getLength(result);
+      final Object copy = Array.newInstance(result.getClass().getComponentType(), length);
+      System.arraycopy(result, 0, copy, 0, length);
+      return copy;
+    }
+
+    return result;
+  }
+
+  private static final class Key {
+    private final ConfigurationConverter<?> converter;
+    private final String value;
+    private final int hash;
+
+    private Key(ConfigurationConverter<?> converter, String value) {
+      this.converter = converter;
+      this.value = value;
+      this.hash = 31 * System.identityHashCode(converter) + value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj){
+        return true;
+      }else if(!(obj instanceof Key)){
+        return false;
+      }
+
+      final Key other = (Key) obj;
+
+      return converter == other.converter && value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /*
+   * A LinkedHashMap in access order evicts its least recently used entry.
+   */
+  private static final class Stripe extends LinkedHashMap<Key, Object> {
+    private static final long serialVersionUID = 1L;
+    private final int capacity;
+
+    private Stripe(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+      return size() > capacity;
+    }
+  }
+}
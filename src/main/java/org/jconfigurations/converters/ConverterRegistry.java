@@ -0,0 +1,190 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import java.util.Arrays;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.ErrorSupplier;
+
+/**
+ * <p>A thread-safe registry of {@link ConfigurationConverter converter} instances, keyed by 
+ * the converter's class together with its constructor parameters (eg. the delimiter and the 
+ * element converter of a {@link CollectionConfigurationConverter}).</p>
+ * 
+ * <p>Each combination of class and parameters is instantiated at most once, and the instance 
+ * is shared by everyone that requests it. Converters are therefore expected to be stateless, 
+ * as all of the framework's converters are.</p>
+ * 
+ * <p>The {@link #shared() shared} registry is used by default by the framework's functions. 
+ * Converters are kept with a {@link ClassValue} of their class, or of the class of one of their
+ * parameters if it was loaded by a descendant of the converter class' loader (eg. a collection 
+ * converter of the framework with an element converter of an application). Therefore converters 
+ * do not keep the class loaders of their classes from being unloaded, except when the parameters 
+ * come from unrelated class loaders. Dedicated registries can be created and passed to the functions, 
+ * or {@link #clear() cleared}, in order to limit the converters' lifetime further.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see org.jconfigurations.functions.FieldConverterFunction
+ * @see org.jconfigurations.functions.CollectionFieldConverterFunction
+ * @see org.jconfigurations.functions.MapFieldConverterFunction
+ */
+public final class ConverterRegistry {
+  private static final ConverterRegistry SHARED = new ConverterRegistry();
+  private volatile ClassValue<ConcurrentMap<Key, ConfigurationConverter>> converters = converters();
+
+  /**
+   * 
+   * @return the registry shared by the framework's functions by default
+   */
+  public static ConverterRegistry shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the converter of the given {@code type} and {@code parameters}, creating it with 
+   * {@code factory} if it hasn't been created yet.
+   * 
+   * <p>{@code factory} must not use this registry.</p>
+   * 
+   * @param <C> the converter's type
+   * @param type the converter's class
+   * @param factory creates the converter; invoked at most once per combination of {@code type} 
+   *     and {@code parameters}
+   * @param parameters the parameters that the converter is created with; they must implement 
+   *     {@link Object#equals(java.lang.Object)} and {@link Object#hashCode()}, or be instances
+   *     obtained from this registry
+   * @return the converter
+   * @throws ConfigurationException if {@code factory} fails to create the converter
+   * @throws NullPointerException if {@code type}, {@code factory} or {@code parameters} is {@code null}, 
+   *     or if {@code factory} returns {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  public <C extends ConfigurationConverter> C get(
+          Class<? extends C> type, 
+          ErrorSupplier<? extends C> factory, 
+          Object... parameters
+  ) throws ConfigurationException {
+    requireNonNull(factory, "null factory");
+    final Key key = new Key(requireNonNull(type, "null type"), requireNonNull(parameters, "null parameters"));
+    final ConcurrentMap<Key, ConfigurationConverter> owned = converters.get(owner(type, parameters));
+    final ConfigurationConverter converter = owned.get(key);
+
+    if(converter != null){
+      return (C) converter;
+    }
+
+    try{
+      return (C) owned.computeIfAbsent(key, k -> {
+        try{
+          return requireNonNull(factory.get(), "null converter");
+        }catch(ConfigurationException e){
+          throw new FactoryException(e);
+        }
+      });
+    }catch(FactoryException e){
+      throw (ConfigurationException) e.getCause();
+    }
+  }
+
+  /**
+   * Forgets all of the converters, which are created again when they are next requested. 
+   * Converters already obtained from this registry remain usable.
+   */
+  public void clear() {
+    converters = converters();
+  }
+
+  private static ClassValue<ConcurrentMap<Key, ConfigurationConverter>> converters() {
+    return new ClassValue<ConcurrentMap<Key, ConfigurationConverter>>(){
+      @Override
+      protected ConcurrentMap<Key, ConfigurationConverter> computeValue(Class<?> type) {
+        return new ConcurrentHashMap<>();
+      }
+    };
+  }
+
+  /*
+   * The class, among the converter's and its parameters', whose class loader is a descendant of
+   * all of the others' loaders, so that the entry goes away along with the most short-lived of them.
+   */
+  private static Class<?> owner(Class<?> type, Object[] parameters) {
+    Class<?> owner = type;
+
+    for(Object parameter : parameters){
+      if(parameter != null && isAncestor(owner.getClassLoader(), parameter.getClass().getClassLoader())){
+        owner = parameter.getClass();
+      }
+    }
+
+    return owner;
+  }
+
+  private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+    if(ancestor == loader){
+      return false;
+    }
+
+    for(ClassLoader l = loader; l != null; l = l.getParent()){
+      if(l == ancestor){
+        return true;
+      }
+    }
+
+    return ancestor == null;
+  }
+
+  private static final class Key {
+    private final Class<?> type;
+    private final Object[] parameters;
+    private final int hash;
+
+    private Key(Class<?> type, Object[] parameters) {
+      this.type = type;
+      this.parameters = parameters.clone();
+      this.hash = 31 * type.hashCode() + Arrays.hashCode(parameters);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if(this == obj){
+        return true;
+      }else if(!(obj instanceof Key)){
+        return false;
+      }
+
+      final Key other = (Key) obj;
+
+      return type == other.type && Arrays.equals(parameters, other.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  private static final class FactoryException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private FactoryException(ConfigurationException cause) {
+      super(cause);
+    }
+  }
+}
@@ -21,9 +21,9 @@ import org.jconfigurations.ConfigurationException;
  *
  * @author George Aristy
  */
-public class DoubleConfigurationConverter implements ConfigurationConverter<Double> {
+public class DoubleConfigurationConverter implements ToDoubleConfigurationConverter {
   @Override
-  public Double convert(String value) throws ConfigurationException {
+  public double convertDouble(String value) throws ConfigurationException {
     try{
       return Double.parseDouble(value);
     }catch(Exception e){
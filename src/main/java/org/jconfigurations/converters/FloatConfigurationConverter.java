@@ -21,9 +21,9 @@ import org.jconfigurations.ConfigurationException;
  *
  * @author George Aristy
  */
-public class FloatConfigurationConverter implements ConfigurationConverter<Float> {
+public class FloatConfigurationConverter implements ToFloatConfigurationConverter {
   @Override
-  public Float convert(String value) throws ConfigurationException {
+  public float convertFloat(String value) throws ConfigurationException {
     try{
       return Float.parseFloat(value);
     }catch(Exception e){
@@ -21,9 +21,9 @@ import org.jconfigurations.ConfigurationException;
  *
  * @author George Aristy
  */
-public class IntegerConfigurationConverter implements ConfigurationConverter<Integer> {
+public class IntegerConfigurationConverter implements ToIntConfigurationConverter {
   @Override
-  public Integer convert(String value) throws ConfigurationException {
+  public int convertInt(String value) throws ConfigurationException {
     try{
       return Integer.parseInt(value);
     }catch(Exception e){
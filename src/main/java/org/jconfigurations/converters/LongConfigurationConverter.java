@@ -21,9 +21,9 @@ import org.jconfigurations.ConfigurationException;
  *
  * @author George Aristy
  */
-public class LongConfigurationConverter implements ConfigurationConverter<Long> {
+public class LongConfigurationConverter implements ToLongConfigurationConverter {
   @Override
-  public Long convert(String value) throws ConfigurationException {
+  public long convertLong(String value) throws ConfigurationException {
     try{
       return Long.parseLong(value);
     }catch(Exception e){
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import static java.util.Objects.requireNonNull;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>A {@link ConfigurationConverter} that remembers the results of another converter in a 
+ * {@link ConversionCache}, so that the same value is converted only once no matter how many
+ * fields or objects it is assigned to.</p>
+ * 
+ * <p>Results are keyed by the identity of the wrapped converter. Converters obtained from the
+ * {@link ConverterRegistry} are shared by all of the fields that have the same converter parameters, 
+ * so wrapping them lets all of those fields share the cached results too. Collection and map
+ * converters are wrapped with {@link #collection(org.jconfigurations.converters.CollectionConfigurationConverter, org.jconfigurations.converters.ConversionCache) collection}
+ * and {@link #map(org.jconfigurations.converters.MapConfigurationConverter, org.jconfigurations.converters.ConversionCache) map}:</p>
+ * <pre>
+ *    final CollectionFieldConverterFunction collections = new CollectionFieldConverterFunction();
+ *    final MapFieldConverterFunction maps = new MapFieldConverterFunction();
+ *    new SinglePassConfigurator(
+ *        source, 
+ *        new NoOpConfigurator(), 
+ *        new DefaultFieldNameFunction(),
+ *        new FieldConverterFunction(),
+ *        f -&gt; MemoizingConfigurationConverter.collection(collections.apply(f), ConversionCache.shared()),
+ *        f -&gt; MemoizingConfigurationConverter.map(maps.apply(f), ConversionCache.shared())
+ *    );</pre>
+ * 
+ * <p>Only converters whose results are immutable, down to the elements of collections, maps and
+ * arrays, should be wrapped. Mutable collections, maps and arrays are copied before they are handed
+ * out, but only shallowly: their elements are shared by every field and object that is assigned
+ * the same value, so eg. a {@code List<int[]>} or a list of mutable objects must not be cached.</p>
+ * 
+ * <p>The {@link ConversionCache#shared() shared} cache used by default keeps the wrapped converters,
+ * and their class loaders, reachable until their entries are evicted; use a dedicated 
+ * {@link ConversionCache} where class loaders must be unloaded, eg. in containers.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the type of the results
+ * @see ConversionCache
+ */
+public class MemoizingConfigurationConverter<T> implements ConfigurationConverter<T> {
+  private final ConfigurationConverter<T> converter;
+  private final ConversionCache cache;
+
+  /**
+   * 
+   * @param converter the converter whose results are cached
+   * @param cache the cache
+   * @throws NullPointerException if either {@code converter} or {@code cache} is {@code null}.
+   */
+  public MemoizingConfigurationConverter(ConfigurationConverter<T> converter, ConversionCache cache) {
+    this.converter = requireNonNull(converter, "null converter");
+    this.cache = requireNonNull(cache, "null cache");
+  }
+
+  /**
+   * Defaults to using the {@link ConversionCache#shared() shared} cache.
+   * 
+   * @param converter 
+   * @throws NullPointerException if {@code converter} is {@code null}.
+   * @see #MemoizingConfigurationConverter(org.jconfigurations.converters.ConfigurationConverter, org.jconfigurations.converters.ConversionCache)
+   */
+  public MemoizingConfigurationConverter(ConfigurationConverter<T> converter) {
+    this(converter, ConversionCache.shared());
+  }
+
+  /**
+   * 
+   * @param <T> the type of the elements
+   * @param converter the converter whose results are cached
+   * @param cache the cache
+   * @return a {@link CollectionConfigurationConverter} that remembers the results of {@code converter}
+   * @throws NullPointerException if either {@code converter} or {@code cache} is {@code null}.
+   */
+  public static <T> CollectionConfigurationConverter<T> collection(
+          CollectionConfigurationConverter<T> converter, 
+          ConversionCache cache
+  ) {
+    requireNonNull(converter, "null converter");
+    requireNonNull(cache, "null cache");
+
+    return value -> cache.convert(converter, value);
+  }
+
+  /**
+   * 
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @param converter the converter whose results are cached
+   * @param cache the cache
+   * @return a {@link MapConfigurationConverter} that remembers the results of {@code converter}
+   * @throws NullPointerException if either {@code converter} or {@code cache} is {@code null}.
+   */
+  public static <K, V> MapConfigurationConverter<K, V> map(MapConfigurationConverter<K, V> converter, ConversionCache cache) {
+    requireNonNull(converter, "null converter");
+    requireNonNull(cache, "null cache");
+
+    return value -> cache.convert(converter, value);
+  }
+
+  @Override
+  public T convert(String value) throws ConfigurationException {
+    return cache.convert(converter, value);
+  }
+}
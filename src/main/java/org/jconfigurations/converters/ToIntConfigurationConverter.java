@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * A {@link ConfigurationConverter} that is able to convert configuration values into 
+ * {@code int} values without boxing them. {@link org.jconfigurations.configurators.Configurator Configurators} 
+ * use {@link #convertInt(java.lang.String)} when assigning values to {@code int} fields.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see IntegerConfigurationConverter
+ */
+@FunctionalInterface
+public interface ToIntConfigurationConverter extends ConfigurationConverter<Integer> {
+  /**
+   * Converts {@code value} into a {@code int}.
+   * 
+   * @param value
+   * @return
+   * @throws ConfigurationException if {@code value} cannot be converted to a {@code int}.
+   */
+  public int convertInt(String value) throws ConfigurationException;
+
+  /**
+   * Same as {@link #convertInt(java.lang.String)}, but boxed.
+   * 
+   * @param value
+   * @return
+   * @throws ConfigurationException if {@code value} cannot be converted to a {@code int}.
+   */
+  @Override
+  public default Integer convert(String value) throws ConfigurationException {
+    return convertInt(value);
+  }
+}
@@ -25,6 +25,7 @@ import org.jconfigurations.CollectionConfiguration;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.converters.CollectionConfigurationConverter;
 import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.ConverterRegistry;
 import org.jconfigurations.converters.NoCollectionConfigurationConverter;
 import org.jconfigurations.converters.NoConfigurationConverter;
 import org.jconfigurations.util.ErrorFunction;
@@ -40,7 +41,9 @@ import org.jconfigurations.util.GenericTypesExtractor;
  * {@link CollectionFieldConverterFunction} requires that implementations of 
  * {@link CollectionConfigurationConverter} provide an accessible 2-arg 
  * constructor for a {@link ConfigurationConverter} and the 
- * {@link CollectionConfiguration#delimiter() delimiter}.
+ * {@link CollectionConfiguration#delimiter() delimiter}. Converters are obtained from
+ * a {@link ConverterRegistry}, so each combination of converter class, element converter 
+ * and delimiter is instantiated only once.
  *
  * @author George Aristy
  * @see DefaultCollectionTypeConverterFunction
@@ -50,19 +53,38 @@ public class CollectionFieldConverterFunction
 {
   private final Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction;
   private final Function<Class<?>, Class<? extends CollectionConfigurationConverter>> collectionTypeConverterFunction;
+  private final ConverterRegistry registry;
 
   /**
    * 
    * @param typeConverterFunction
    * @param defaultCollectionTypeConverterFunction 
+   * @param registry the {@link ConverterRegistry registry} that the converters are obtained from
    * @throws NullPointerException if any of the parameters is {@code null}.
    */
   public CollectionFieldConverterFunction(
           Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction,
-          Function<Class<?>, Class<? extends CollectionConfigurationConverter>> defaultCollectionTypeConverterFunction
+          Function<Class<?>, Class<? extends CollectionConfigurationConverter>> defaultCollectionTypeConverterFunction,
+          ConverterRegistry registry
   ) {
     this.typeConverterFunction = requireNonNull(typeConverterFunction, "null typeConverterFunction");
     this.collectionTypeConverterFunction = requireNonNull(defaultCollectionTypeConverterFunction, "null defaultCollectionTypeConverterFunction");
+    this.registry = requireNonNull(registry, "null registry");
+  }
+
+  /**
+   * Defaults to the {@link ConverterRegistry#shared() shared} {@link ConverterRegistry registry}.
+   * 
+   * @param typeConverterFunction
+   * @param defaultCollectionTypeConverterFunction 
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   * @see #CollectionFieldConverterFunction(java.util.function.Function, java.util.function.Function, org.jconfigurations.converters.ConverterRegistry) 
+   */
+  public CollectionFieldConverterFunction(
+          Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction,
+          Function<Class<?>, Class<? extends CollectionConfigurationConverter>> defaultCollectionTypeConverterFunction
+  ) {
+    this(typeConverterFunction, defaultCollectionTypeConverterFunction, ConverterRegistry.shared());
   }
 
   /**
@@ -96,77 +118,99 @@ public class CollectionFieldConverterFunction
   @Override
   public CollectionConfigurationConverter apply(Field field) throws ConfigurationException {
     if(!field.isAnnotationPresent(CollectionConfiguration.class)){
-      return new NoCollectionConfigurationConverter();
+      return registry.get(NoCollectionConfigurationConverter.class, NoCollectionConfigurationConverter::new);
     }else{
-      CollectionConfiguration fieldConfig = field.getAnnotation(CollectionConfiguration.class);
+      final CollectionConfiguration fieldConfig = field.getAnnotation(CollectionConfiguration.class);
+      final Class<? extends CollectionConfigurationConverter> collectionConverterClass;
+
+      if(!NoCollectionConfigurationConverter.class.equals(fieldConfig.converter())){
+        collectionConverterClass = fieldConfig.converter();
+      }else{
+        collectionConverterClass = collectionTypeConverterFunction.apply(field.getType());
+      }
+
+      final Constructor<? extends CollectionConfigurationConverter> constructor;
 
       try{
-        final Class<? extends CollectionConfigurationConverter> collectionConverterClass;
-  
-        if(!NoCollectionConfigurationConverter.class.equals(fieldConfig.converter())){
-          collectionConverterClass = fieldConfig.converter();
-        }else{
-          collectionConverterClass = collectionTypeConverterFunction.apply(field.getType());
-        }
-
-        final Constructor<? extends CollectionConfigurationConverter> constructor 
-                = collectionConverterClass.getConstructor(ConfigurationConverter.class, String.class);
+        constructor = collectionConverterClass.getConstructor(ConfigurationConverter.class, String.class);
         constructor.setAccessible(true);
-  
-        Class<?> genericType = new GenericTypesExtractor(field).getGenericTypes()
-                .stream()
-                .findFirst()
-                .orElse(String.class);  //default to String.class in case of raw type
-
-        Class<? extends ConfigurationConverter> elementConverterClass = null;
-        final ConfigurationConverter elementConverter;
-
-        try{
-          if(NoConfigurationConverter.class.equals(fieldConfig.elementConverter())){
-            elementConverterClass = typeConverterFunction.apply(genericType);
-            elementConverter = elementConverterClass.newInstance();
-          }else{
-            elementConverterClass = fieldConfig.elementConverter();
-            elementConverter = elementConverterClass.newInstance();
-          }
-        }catch(InstantiationException | IllegalAccessException e){
-          throw new ConfigurationException(
-                  String.format(
-                          "Error creating an instance of elementConverter of type '%s' for use with collectionConverter of type '%s' for field '%s' in class '%s'",
-                          elementConverterClass.getName(),
-                          constructor.getDeclaringClass().getName(),
-                          field.getName(),
-                          field.getDeclaringClass().getName()
-                  ),
-                  e
-          );
-        }
-
-        return constructor.newInstance(
-                elementConverter,
-                fieldConfig.delimiter()
-        );
       }catch(NoSuchMethodException e){
         throw new ConfigurationException(
                 String.format(
                         "CollectionConfigurationConverter of type %s for field %s of class %s does not have an accessible 2-arg constructor.",
-                        field.getAnnotation(CollectionConfiguration.class).converter().getName(), 
-                        field.getName(), 
-                        field.getDeclaringClass().getName()
-                ), 
-                e
-        );
-      }catch(InvocationTargetException | IllegalAccessException | InstantiationException e){
-        throw new ConfigurationException(
-                String.format(
-                        "Error instantiating CollectionConfigurationConverter of type %s for field %s of class %s",
-                        field.getAnnotation(CollectionConfiguration.class).converter().getName(), 
+                        collectionConverterClass.getName(), 
                         field.getName(), 
                         field.getDeclaringClass().getName()
                 ), 
                 e
         );
       }
+
+      final Class<?> genericType = new GenericTypesExtractor(field).getGenericTypes()
+              .stream()
+              .findFirst()
+              .orElse(String.class);  //default to String.class in case of raw type
+      final Class<? extends ConfigurationConverter> elementConverterClass;
+
+      if(NoConfigurationConverter.class.equals(fieldConfig.elementConverter())){
+        elementConverterClass = typeConverterFunction.apply(genericType);
+      }else{
+        elementConverterClass = fieldConfig.elementConverter();
+      }
+
+      final ConfigurationConverter elementConverter = registry.get(
+              elementConverterClass, 
+              () -> instantiateElementConverter(elementConverterClass, collectionConverterClass, field)
+      );
+
+      return registry.get(
+              collectionConverterClass,
+              () -> instantiate(constructor, elementConverter, fieldConfig.delimiter(), field),
+              elementConverter,
+              fieldConfig.delimiter()
+      );
+    }
+  }
+
+  private static ConfigurationConverter instantiateElementConverter(
+          Class<? extends ConfigurationConverter> elementConverterClass,
+          Class<? extends CollectionConfigurationConverter> collectionConverterClass,
+          Field field
+  ) throws ConfigurationException {
+    try{
+      return elementConverterClass.newInstance();
+    }catch(InstantiationException | IllegalAccessException e){
+      throw new ConfigurationException(
+              String.format(
+                      "Error creating an instance of elementConverter of type '%s' for use with collectionConverter of type '%s' for field '%s' in class '%s'",
+                      elementConverterClass.getName(),
+                      collectionConverterClass.getName(),
+                      field.getName(),
+                      field.getDeclaringClass().getName()
+              ),
+              e
+      );
+    }
+  }
+
+  private static CollectionConfigurationConverter instantiate(
+          Constructor<? extends CollectionConfigurationConverter> constructor,
+          ConfigurationConverter elementConverter,
+          String delimiter,
+          Field field
+  ) throws ConfigurationException {
+    try{
+      return constructor.newInstance(elementConverter, delimiter);
+    }catch(InvocationTargetException | IllegalAccessException | InstantiationException e){
+      throw new ConfigurationException(
+              String.format(
+                      "Error instantiating CollectionConfigurationConverter of type %s for field %s of class %s",
+                      constructor.getDeclaringClass().getName(), 
+                      field.getName(), 
+                      field.getDeclaringClass().getName()
+              ), 
+              e
+      );
     }
   }
-}
\ No newline at end of file
+}
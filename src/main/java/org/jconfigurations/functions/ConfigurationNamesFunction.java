@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.functions;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import org.jconfigurations.util.ErrorFunction;
+
+/**
+ * Function that produces the names of all the configurations that a class' fields
+ * are configured from, ie. the names of its fields marked with {@link Required}, 
+ * {@link Configuration}, {@link CollectionConfiguration} or {@link MapConfiguration}.
+ * 
+ * Useful to load only the configurations a class actually needs (see 
+ * {@link org.jconfigurations.source.JdbcConfigurationSource}).
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Name
+ */
+public class ConfigurationNamesFunction implements ErrorFunction<Class<?>, Set<String>> {
+  private final ErrorFunction<Field, String> fieldNameFunction;
+
+  /**
+   * 
+   * @param fieldNameFunction the {@link ErrorFunction function} used to produce the field's name (see {@link Name}).
+   * @throws NullPointerException if {@code fieldNameFunction} is {@code null}.
+   */
+  public ConfigurationNamesFunction(ErrorFunction<Field, String> fieldNameFunction) {
+    this.fieldNameFunction = requireNonNull(fieldNameFunction, "null fieldNameFunction");
+  }
+
+  /**
+   * Defaults to the {@link DefaultFieldNameFunction} as fieldNameFunction.
+   * 
+   * @see #ConfigurationNamesFunction(org.jconfigurations.util.ErrorFunction) 
+   */
+  public ConfigurationNamesFunction() {
+    this(new DefaultFieldNameFunction());
+  }
+
+  /**
+   * 
+   * @param type the class
+   * @return the names of the configurations, in the order the fields are declared
+   * @throws ConfigurationException if the name of any of the fields cannot be produced
+   */
+  @Override
+  public Set<String> apply(Class<?> type) throws ConfigurationException {
+    final Set<String> names = new LinkedHashSet<>();
+
+    for(Field field : type.getDeclaredFields()){
+      if(field.isAnnotationPresent(Required.class)
+              || field.isAnnotationPresent(Configuration.class)
+              || field.isAnnotationPresent(CollectionConfiguration.class)
+              || field.isAnnotationPresent(MapConfiguration.class)){
+        names.add(fieldNameFunction.apply(field));
+      }
+    }
+
+    return Collections.unmodifiableSet(names);
+  }
+}
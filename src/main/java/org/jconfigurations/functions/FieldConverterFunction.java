@@ -23,6 +23,7 @@ import java.util.function.Function;
 import org.jconfigurations.Configuration;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.ConverterRegistry;
 import org.jconfigurations.converters.NoConfigurationConverter;
 import org.jconfigurations.util.ErrorFunction;
 
@@ -32,12 +33,15 @@ import org.jconfigurations.util.ErrorFunction;
  * to {@link NoConfigurationConverter} it then delegates to a 'fallback' function.
  * 
  * The {@link FieldConverterFunction} requires that implementations of 
- * {@link ConfigurationConverter} provide an accessible no-arg constructor.
+ * {@link ConfigurationConverter} provide an accessible no-arg constructor. Converters
+ * are obtained from a {@link ConverterRegistry}, so each converter class is instantiated 
+ * only once and its instance is shared by all fields.
  *
  * @author George Aristy
  */
 public class FieldConverterFunction implements ErrorFunction<Field, ConfigurationConverter> {
   private final Function<Class<?>, Class<? extends ConfigurationConverter>> defaultTypeConverterFunction;
+  private final ConverterRegistry registry;
 
   /**
    * 
@@ -45,10 +49,28 @@ public class FieldConverterFunction implements ErrorFunction<Field, Configuratio
    * @param defaultTypeConverterFunction the default function to delegate to when a given field 
    * does not have an explicit {@link ConfigurationConverter converter} specified 
    * (other than the default {@link NoConfigurationConverter}).
+   * @param registry the {@link ConverterRegistry registry} that the converters are obtained from
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   */
+  public FieldConverterFunction(
+          Function<Class<?>, Class<? extends ConfigurationConverter>> defaultTypeConverterFunction,
+          ConverterRegistry registry
+  ) {
+    this.defaultTypeConverterFunction = Objects.requireNonNull(defaultTypeConverterFunction, "null defaultTypeConverterFunction");
+    this.registry = Objects.requireNonNull(registry, "null registry");
+  }
+
+  /**
+   * <pre>
+   * Defaults to the {@link ConverterRegistry#shared() shared} {@link ConverterRegistry registry}.
+   * </pre>
+   * 
+   * @param defaultTypeConverterFunction 
    * @throws NullPointerException if {@code defaultTypeConverterFunction} is {@code null}.
+   * @see #FieldConverterFunction(java.util.function.Function, org.jconfigurations.converters.ConverterRegistry) 
    */
   public FieldConverterFunction(Function<Class<?>, Class<? extends ConfigurationConverter>> defaultTypeConverterFunction) {
-    this.defaultTypeConverterFunction = Objects.requireNonNull(defaultTypeConverterFunction, "null defaultTypeConverterFunction");
+    this(defaultTypeConverterFunction, ConverterRegistry.shared());
   }
 
   /**
@@ -65,41 +87,49 @@ public class FieldConverterFunction implements ErrorFunction<Field, Configuratio
   @Override
   public ConfigurationConverter apply(Field field) throws ConfigurationException {
     if(!field.isAnnotationPresent(Configuration.class)) {
-      return new NoConfigurationConverter();
+      return registry.get(NoConfigurationConverter.class, NoConfigurationConverter::new);
     }else{
-      Configuration fieldConfig = field.getAnnotation(Configuration.class);
-      Constructor<? extends ConfigurationConverter> constructor = null;
+      final Configuration fieldConfig = field.getAnnotation(Configuration.class);
+      final Class<? extends ConfigurationConverter> converterClass;
 
-      try{
-          if(!NoConfigurationConverter.class.equals(fieldConfig.converter())){
-            constructor = fieldConfig.converter().getConstructor();
-          }else{
-            constructor = defaultTypeConverterFunction.apply(field.getType()).getConstructor();
-          }
-  
-          constructor.setAccessible(true);
-          return constructor.newInstance();
-      }catch(NoSuchMethodException e){
-        throw new ConfigurationException(
-                String.format(
-                        "ConfigurationConverter of type %s for field %s of class %s does not have an accessible no-arg constructor.",
-                        constructor.getDeclaringClass().getName(), 
-                        field.getName(), 
-                        field.getDeclaringClass().getName()
-                ), 
-                e
-        );
-      }catch(InvocationTargetException | IllegalAccessException | InstantiationException e){
-        throw new ConfigurationException(
-                String.format(
-                        "Error instantiating ConfigurationConverter of type %s for field %s of class %s",
-                        constructor.getDeclaringClass().getName(),
-                        field.getName(), 
-                        field.getDeclaringClass().getName()
-                ), 
-                e
-        );
+      if(!NoConfigurationConverter.class.equals(fieldConfig.converter())){
+        converterClass = fieldConfig.converter();
+      }else{
+        converterClass = defaultTypeConverterFunction.apply(field.getType());
       }
+
+      return registry.get(converterClass, () -> instantiate(converterClass, field));
+    }
+  }
+
+  private static ConfigurationConverter instantiate(
+          Class<? extends ConfigurationConverter> converterClass, 
+          Field field
+  ) throws ConfigurationException {
+    try{
+      final Constructor<? extends ConfigurationConverter> constructor = converterClass.getConstructor();
+      constructor.setAccessible(true);
+      return constructor.newInstance();
+    }catch(NoSuchMethodException e){
+      throw new ConfigurationException(
+              String.format(
+                      "ConfigurationConverter of type %s for field %s of class %s does not have an accessible no-arg constructor.",
+                      converterClass.getName(), 
+                      field.getName(), 
+                      field.getDeclaringClass().getName()
+              ), 
+              e
+      );
+    }catch(InvocationTargetException | IllegalAccessException | InstantiationException e){
+      throw new ConfigurationException(
+              String.format(
+                      "Error instantiating ConfigurationConverter of type %s for field %s of class %s",
+                      converterClass.getName(),
+                      field.getName(), 
+                      field.getDeclaringClass().getName()
+              ), 
+              e
+      );
     }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.functions;
+
+import java.lang.reflect.Field;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.ErrorFunction;
+import org.jconfigurations.writers.FieldWriter;
+import org.jconfigurations.writers.MethodHandleFieldWriter;
+import org.jconfigurations.writers.ReflectionFieldWriter;
+
+/**
+ * Function that produces the {@link FieldWriter} used to assign values to a given field.
+ * 
+ * A {@link MethodHandleFieldWriter} is produced whenever possible. For fields that
+ * cannot be written to through a method handle (eg. {@code static final} fields) a 
+ * {@link ReflectionFieldWriter} is produced instead.
+ * 
+ * The field must already be {@link Field#setAccessible(boolean) accessible}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class FieldWriterFunction implements ErrorFunction<Field, FieldWriter> {
+  @Override
+  public FieldWriter apply(Field field) throws ConfigurationException {
+    try{
+      return new MethodHandleFieldWriter(field);
+    }catch(IllegalAccessException e){
+      return new ReflectionFieldWriter(field);
+    }
+  }
+}
@@ -23,6 +23,7 @@ import java.util.function.Function;
 import org.jconfigurations.ConfigurationException;
 import org.jconfigurations.MapConfiguration;
 import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.ConverterRegistry;
 import org.jconfigurations.converters.MapConfigurationConverter;
 import org.jconfigurations.converters.NoConfigurationConverter;
 import org.jconfigurations.converters.NoMapConfigurationConverter;
@@ -39,7 +40,9 @@ import static java.util.Objects.requireNonNull;
  * 
  * {@link MapFieldConverterFunction} requires that implementations of 
  * {@link MapConfigurationConverter} provide an accessible 4-arg 
- * constructor (see {@link MapConfigurationConverter}).
+ * constructor (see {@link MapConfigurationConverter}). Converters are obtained from
+ * a {@link ConverterRegistry}, so each combination of converter class, key/value
+ * converters and delimiters is instantiated only once.
  *
  * @author George Aristy
  * @see DefaultMapTypeConverterFunction
@@ -49,19 +52,38 @@ public class MapFieldConverterFunction
 {
   private final Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction;
   private final Function<Class<?>, Class<? extends MapConfigurationConverter>> mapTypeConverterFunction;
+  private final ConverterRegistry registry;
 
   /**
    * 
    * @param typeConverterFunction
    * @param mapTypeConverterFunction 
+   * @param registry the {@link ConverterRegistry registry} that the converters are obtained from
    * @throws NullPointerException if any of the parameters is {@code null}.
    */
   public MapFieldConverterFunction(
           Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction, 
-          Function<Class<?>, Class<? extends MapConfigurationConverter>> mapTypeConverterFunction
+          Function<Class<?>, Class<? extends MapConfigurationConverter>> mapTypeConverterFunction,
+          ConverterRegistry registry
   ) {
     this.typeConverterFunction = requireNonNull(typeConverterFunction, "null typeConverterFunction");
     this.mapTypeConverterFunction = requireNonNull(mapTypeConverterFunction, "null mapTypeConverterFunction");
+    this.registry = requireNonNull(registry, "null registry");
+  }
+
+  /**
+   * Defaults to the {@link ConverterRegistry#shared() shared} {@link ConverterRegistry registry}.
+   * 
+   * @param typeConverterFunction
+   * @param mapTypeConverterFunction 
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   * @see #MapFieldConverterFunction(java.util.function.Function, java.util.function.Function, org.jconfigurations.converters.ConverterRegistry) 
+   */
+  public MapFieldConverterFunction(
+          Function<Class<?>, Class<? extends ConfigurationConverter>> typeConverterFunction, 
+          Function<Class<?>, Class<? extends MapConfigurationConverter>> mapTypeConverterFunction
+  ) {
+    this(typeConverterFunction, mapTypeConverterFunction, ConverterRegistry.shared());
   }
 
   /**
@@ -97,7 +119,7 @@ public class MapFieldConverterFunction
   @Override
   public MapConfigurationConverter apply(Field field) throws ConfigurationException {
     if(!field.isAnnotationPresent(MapConfiguration.class)){
-      return new NoMapConfigurationConverter();
+      return registry.get(NoMapConfigurationConverter.class, NoMapConfigurationConverter::new);
     }else{
       final MapConfiguration fieldConfig = field.getAnnotation(MapConfiguration.class);
       final Class<? extends MapConfigurationConverter> mapConverterClass;
@@ -137,14 +159,21 @@ public class MapFieldConverterFunction
         }
       }
 
-      final ConfigurationConverter keyConverter = instantiate(keyConverterClass);
-      final ConfigurationConverter valueConverter = instantiate(valueConverterClass);
-
-      return instantiate(
-              mapConverterClass, 
-              keyConverter, 
-              valueConverter, 
-              fieldConfig.entryDelimiter(), 
+      final ConfigurationConverter keyConverter = registry.get(keyConverterClass, () -> instantiate(keyConverterClass));
+      final ConfigurationConverter valueConverter = registry.get(valueConverterClass, () -> instantiate(valueConverterClass));
+
+      return registry.get(
+              mapConverterClass,
+              () -> instantiate(
+                      mapConverterClass, 
+                      keyConverter, 
+                      valueConverter, 
+                      fieldConfig.entryDelimiter(), 
+                      fieldConfig.keyValueSeparator()
+              ),
+              keyConverter,
+              valueConverter,
+              fieldConfig.entryDelimiter(),
               fieldConfig.keyValueSeparator()
       );
     }
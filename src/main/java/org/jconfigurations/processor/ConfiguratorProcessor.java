@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import org.jconfigurations.configurators.ConfigurationProxies;
+import org.jconfigurations.configurators.ConfiguratorFactory;
+import org.jconfigurations.configurators.JConfigurator;
+
+/**
+ * <pre>
+ * Annotation processor that generates a reflection-free {@link org.jconfigurations.configurators.Configurator} 
+ * for each class with fields marked with {@link Configuration}, {@link CollectionConfiguration}, 
+ * {@link MapConfiguration}, {@link Required} or {@link Name}, along with a {@link ConfiguratorFactory}
+ * that is registered in {@code META-INF/services} so that the {@link JConfigurator} can find it.
+ * 
+ * The generated code assigns the fields directly and its converters are resolved at build time, 
+ * therefore it can only be generated for classes whose annotated fields are not {@code private} 
+ * (nor {@code final}) and are reachable from the class' package. Other classes are reported with 
+ * a note and are left to the reflective {@link org.jconfigurations.configurators.Configurator configurators}.
+ * 
+ * Interfaces with methods marked with any of those annotations are given a lazy implementation
+ * instead, which is created with {@link ConfigurationProxies}. Every abstract method of such an
+ * interface must take no parameters and is bound to the configuration named after it.
+ * 
+ * The processor is not registered automatically; it must be enabled explicitly, eg. with
+ * javac's {@code -processor org.jconfigurations.processor.ConfiguratorProcessor}.
+ * </pre>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+@SupportedAnnotationTypes({
+  "org.jconfigurations.Configuration",
+  "org.jconfigurations.CollectionConfiguration",
+  "org.jconfigurations.MapConfiguration",
+  "org.jconfigurations.Required",
+  "org.jconfigurations.Name"
+})
+public class ConfiguratorProcessor extends AbstractProcessor {
+  static final String SERVICE_INDEX = "META-INF/services/" + ConfiguratorFactory.class.getName();
+  private final Set<String> visited = new HashSet<>();
+  private final Set<String> proxied = new HashSet<>();
+  private final Set<String> factories = new TreeSet<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if(roundEnv.processingOver()){
+      writeServiceIndex();
+    }else{
+      for(TypeElement annotation : annotations){
+        for(Element element : roundEnv.getElementsAnnotatedWith(annotation)){
+          if(element.getKind() == ElementKind.FIELD){
+            final TypeElement type = (TypeElement) element.getEnclosingElement();
+
+            if(visited.add(type.getQualifiedName().toString())){
+              generate(type);
+            }
+          }else if(element.getKind() == ElementKind.METHOD && element.getEnclosingElement().getKind() == ElementKind.INTERFACE){
+            final TypeElement type = (TypeElement) element.getEnclosingElement();
+
+            if(proxied.add(type.getQualifiedName().toString())){
+              generateProxy(type);
+            }
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private void generate(TypeElement type) {
+    final GeneratedConfigurator configurator;
+
+    try{
+      configurator = GeneratedConfigurator.of(type, processingEnv);
+    }catch(UnsupportedTypeException e){
+      processingEnv.getMessager().printMessage(
+              Diagnostic.Kind.NOTE,
+              String.format(
+                      "No Configurator generated for %s (%s); it will be configured through reflection.",
+                      type.getQualifiedName(),
+                      e.getMessage()
+              ),
+              type
+      );
+      return;
+    }
+
+    if(write(type, configurator.qualifiedName(), configurator.source())){
+      factories.add(configurator.factoryBinaryName());
+    }
+  }
+
+  private void generateProxy(TypeElement type) {
+    final GeneratedProxy proxy;
+
+    try{
+      proxy = GeneratedProxy.of(type, processingEnv);
+    }catch(UnsupportedTypeException e){
+      processingEnv.getMessager().printMessage(
+              Diagnostic.Kind.WARNING,
+              String.format("No configuration proxy generated for %s (%s).", type.getQualifiedName(), e.getMessage()),
+              type
+      );
+      return;
+    }
+
+    write(type, proxy.qualifiedName(), proxy.source());
+  }
+
+  private boolean write(TypeElement type, String qualifiedName, String source) {
+    try{
+      final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+      try(Writer writer = file.openWriter()){
+        writer.write(source);
+      }
+
+      return true;
+    }catch(IOException e){
+      processingEnv.getMessager().printMessage(
+              Diagnostic.Kind.ERROR,
+              String.format("Unable to write %s: %s", qualifiedName, e.getMessage()),
+              type
+      );
+      return false;
+    }
+  }
+
+  /*
+   * Entries of previous compilations are only kept while their configurators can still be found, 
+   * so that removed or renamed classes do not leave stale entries in the index.
+   */
+  private boolean exists(String factory) {
+    final int nested = factory.lastIndexOf('$');
+
+    return nested > 0 && processingEnv.getElementUtils().getTypeElement(factory.substring(0, nested)) != null;
+  }
+
+  private void writeServiceIndex() {
+    boolean indexed = false;
+
+    try{
+      final FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_INDEX);
+
+      try(BufferedReader reader = new BufferedReader(new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))){
+        String line;
+
+        while((line = reader.readLine()) != null){
+          indexed = true;
+
+          if(!line.trim().isEmpty() && exists(line.trim())){
+            factories.add(line.trim());
+          }
+        }
+      }
+    }catch(IOException | IllegalArgumentException e){
+      //no index from previous compilations
+    }
+
+    if(factories.isEmpty() && !indexed){
+      return;
+    }
+
+    try{
+      final FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_INDEX);
+
+      try(Writer writer = index.openWriter()){
+        for(String factory : factories){
+          writer.write(factory);
+          writer.write('\n');
+        }
+      }
+    }catch(IOException e){
+      processingEnv.getMessager().printMessage(
+              Diagnostic.Kind.ERROR,
+              String.format("Unable to write %s: %s", SERVICE_INDEX, e.getMessage())
+      );
+    }
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+
+/**
+ * The source code of the {@link org.jconfigurations.configurators.Configurator} and 
+ * {@link org.jconfigurations.configurators.ConfiguratorFactory} generated for a class.
+ * 
+ * <p>Converters are resolved by {@link GeneratedConverters} the same way the framework's
+ * default functions resolve them at runtime, and fields are processed in the same order as the 
+ * {@link org.jconfigurations.configurators.SinglePassConfigurator}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfiguratorProcessor
+ */
+final class GeneratedConfigurator {
+  static final String SUFFIX = "_JConfigurator";
+  private static final List<Class<? extends Annotation>> ANNOTATIONS = Arrays.asList(
+          Required.class, 
+          Configuration.class, 
+          CollectionConfiguration.class, 
+          MapConfiguration.class
+  );
+  private final String packageName;
+  private final String simpleName;
+  private final String typeName;
+  private final String binaryTypeName;
+  private final List<String> converters = new ArrayList<>();
+  private final StringBuilder required = new StringBuilder();
+  private final StringBuilder basics = new StringBuilder();
+  private final StringBuilder collections = new StringBuilder();
+  private final StringBuilder maps = new StringBuilder();
+  private final GeneratedConverters expressions;
+
+  private GeneratedConfigurator(TypeElement type, ProcessingEnvironment env) {
+    final Elements elements = env.getElementUtils();
+    this.expressions = new GeneratedConverters(env);
+    final PackageElement pkg = elements.getPackageOf(type);
+    this.packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    this.binaryTypeName = elements.getBinaryName(type).toString();
+    this.simpleName = (packageName.isEmpty() ? binaryTypeName : binaryTypeName.substring(packageName.length() + 1))
+            .replace('$', '_') + SUFFIX;
+    this.typeName = type.getQualifiedName().toString();
+  }
+
+  /**
+   * 
+   * @param type the class to generate a {@link org.jconfigurations.configurators.Configurator} for
+   * @param env the processing environment
+   * @return the generated configurator
+   * @throws UnsupportedTypeException if no reflection-free configurator can be generated for {@code type}
+   */
+  static GeneratedConfigurator of(TypeElement type, ProcessingEnvironment env) throws UnsupportedTypeException {
+    checkAccessible(type);
+
+    if(type.getKind() != ElementKind.CLASS){
+      throw new UnsupportedTypeException("not a class");
+    }
+
+    if(!type.getTypeParameters().isEmpty()){
+      throw new UnsupportedTypeException("generic classes are not supported");
+    }
+
+    final GeneratedConfigurator configurator = new GeneratedConfigurator(type, env);
+
+    for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())){
+      configurator.add(field);
+    }
+
+    return configurator;
+  }
+
+  /**
+   * 
+   * @return the qualified name of the generated class
+   */
+  String qualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  /**
+   * 
+   * @return the binary name of the generated {@link org.jconfigurations.configurators.ConfiguratorFactory}
+   */
+  String factoryBinaryName() {
+    return qualifiedName() + "$Factory";
+  }
+
+  /**
+   * 
+   * @return the source code of the generated class
+   */
+  String source() {
+    final StringBuilder source = new StringBuilder();
+
+    if(!packageName.isEmpty()){
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+
+    source.append("/**\n")
+            .append(" * Configurator for {@link ").append(typeName).append("}, generated by the\n")
+            .append(" * {@link org.jconfigurations.processor.ConfiguratorProcessor}.\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(simpleName).append(" implements org.jconfigurations.configurators.Configurator {\n")
+            .append("  private final org.jconfigurations.source.ConfigurationSource source;\n");
+
+    for(int i = 0; i < converters.size(); i++){
+      source.append("  private final org.jconfigurations.converters.ConfigurationConverter converter").append(i)
+              .append(" = ").append(converters.get(i)).append(";\n");
+    }
+
+    source.append("\n")
+            .append("  public ").append(simpleName).append("(org.jconfigurations.source.ConfigurationSource source) {\n")
+            .append("    this.source = java.util.Objects.requireNonNull(source, \"null source\");\n")
+            .append("  }\n\n")
+            .append("  @Override\n")
+            .append("  public void configure(Object object) throws org.jconfigurations.ConfigurationException {\n")
+            .append("    final ").append(typeName).append(" target = (").append(typeName)
+            .append(") java.util.Objects.requireNonNull(object, \"null object.\");\n")
+            .append("    final java.util.Map<String, String> configurations = source.configurations();\n")
+            .append("    String value;\n")
+            .append(required)
+            .append(basics)
+            .append(collections)
+            .append(maps)
+            .append("  }\n\n")
+            .append("  public static final class Factory implements org.jconfigurations.configurators.ConfiguratorFactory {\n")
+            .append("    @Override\n")
+            .append("    public Class<?> type() {\n")
+            .append("      return ").append(typeName).append(".class;\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public org.jconfigurations.configurators.Configurator create(org.jconfigurations.source.ConfigurationSource source) {\n")
+            .append("      return new ").append(simpleName).append("(source);\n")
+            .append("    }\n")
+            .append("  }\n")
+            .append("}\n");
+
+    return source.toString();
+  }
+
+  private void add(VariableElement field) throws UnsupportedTypeException {
+    if(expressions.annotation(field, Prefix.class) != null){
+      throw new UnsupportedTypeException(String.format("field '%s' is a @Prefix namespace", field.getSimpleName()));
+    }
+
+    if(ANNOTATIONS.stream().noneMatch(a -> expressions.annotation(field, a) != null)){
+      return;
+    }
+
+    if(field.getModifiers().contains(Modifier.PRIVATE)){
+      throw new UnsupportedTypeException(String.format("field '%s' is private", field.getSimpleName()));
+    }
+
+    final String name = expressions.name(field);
+
+    if(expressions.annotation(field, Required.class) != null){
+      required.append("\n")
+              .append("    if(!configurations.containsKey(").append(expressions.literal(name)).append(")){\n")
+              .append("      throw new org.jconfigurations.ConfigurationException(\n")
+              .append("              String.format(\n")
+              .append("                      \"Required configuration not found for field '%s' in object of class '%s'\",\n")
+              .append("                      ").append(expressions.literal(field.getSimpleName().toString())).append(",\n")
+              .append("                      object.getClass().getName()\n")
+              .append("              )\n")
+              .append("      );\n")
+              .append("    }\n");
+    }
+
+    if(expressions.annotation(field, Configuration.class) != null){
+      final TypeElement converter = expressions.basicConverter(field, field.asType());
+      assign(
+              basics, 
+              field, 
+              name, 
+              expressions.instantiate(field, converter), 
+              expressions.specialization(field.asType(), converter)
+      );
+    }
+
+    if(expressions.annotation(field, CollectionConfiguration.class) != null){
+      assign(collections, field, name, expressions.collectionConverter(field, field.asType()), null);
+    }
+
+    if(expressions.annotation(field, MapConfiguration.class) != null){
+      assign(maps, field, name, expressions.mapConverter(field, field.asType()), null);
+    }
+  }
+
+  /*
+   * specialization is the name of the converter's method that converts values to 
+   * the field's primitive type without boxing them, or null if there is no such method.
+   */
+  private void assign(
+          StringBuilder code, 
+          VariableElement field, 
+          String name, 
+          String converter, 
+          String specialization
+  ) throws UnsupportedTypeException {
+    if(field.getModifiers().contains(Modifier.FINAL)){
+      throw new UnsupportedTypeException(String.format("field '%s' is final", field.getSimpleName()));
+    }
+
+    final int index = converters.size();
+    converters.add(converter);
+    final TypeMirror fieldType = field.asType();
+    final String target = field.getModifiers().contains(Modifier.STATIC) ? typeName : "target";
+    final String message = String.format(
+            "Unable to configure field '%s' of type '%s' in object of class '%s'",
+            field.getSimpleName(),
+            expressions.runtimeName(fieldType),
+            binaryTypeName
+    );
+
+    code.append("\n")
+            .append("    value = configurations.get(").append(expressions.literal(name)).append(");\n")
+            .append("    if(value != null || configurations.containsKey(").append(expressions.literal(name)).append(")){\n")
+            .append("      try{\n")
+            .append("        ").append(target).append(".").append(field.getSimpleName())
+            .append(" = ").append(expressions.conversion(fieldType, "converter" + index, specialization)).append(";\n")
+            .append("      }catch(org.jconfigurations.ConfigurationException | RuntimeException e){\n")
+            .append("        throw new org.jconfigurations.ConfigurationException(").append(expressions.literal(message)).append(", e);\n")
+            .append("      }\n")
+            .append("    }\n");
+  }
+
+  /**
+   * 
+   * @param type the type
+   * @throws UnsupportedTypeException if {@code type} or any of its enclosing types is private,
+   *     local or anonymous
+   */
+  static void checkAccessible(TypeElement type) throws UnsupportedTypeException {
+    Element element = type;
+
+    while(element instanceof TypeElement){
+      final TypeElement current = (TypeElement) element;
+
+      if(current.getModifiers().contains(Modifier.PRIVATE)){
+        throw new UnsupportedTypeException(String.format("%s is private", current.getQualifiedName()));
+      }
+
+      if(current.getNestingKind() != NestingKind.TOP_LEVEL && current.getNestingKind() != NestingKind.MEMBER){
+        throw new UnsupportedTypeException(String.format("%s is a local or anonymous class", current));
+      }
+
+      element = current.getEnclosingElement();
+    }
+  }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.converters.CollectionConfigurationConverter;
+import org.jconfigurations.converters.ConfigurationConverter;
+import org.jconfigurations.converters.MapConfigurationConverter;
+import org.jconfigurations.converters.NoCollectionConfigurationConverter;
+import org.jconfigurations.converters.NoConfigurationConverter;
+import org.jconfigurations.converters.NoMapConfigurationConverter;
+import org.jconfigurations.converters.ToBooleanConfigurationConverter;
+import org.jconfigurations.converters.ToDoubleConfigurationConverter;
+import org.jconfigurations.converters.ToFloatConfigurationConverter;
+import org.jconfigurations.converters.ToIntConfigurationConverter;
+import org.jconfigurations.converters.ToLongConfigurationConverter;
+import org.jconfigurations.functions.DefaultCollectionTypeConverterFunction;
+import org.jconfigurations.functions.DefaultMapTypeConverterFunction;
+import org.jconfigurations.functions.DefaultTypeConverterFunction;
+
+/**
+ * Resolves, at build time, the names and converters of annotated fields and methods, as
+ * expressions of the generated source code.
+ * 
+ * <p>Converters are resolved the same way the framework's default functions 
+ * ({@link org.jconfigurations.functions.FieldConverterFunction}, 
+ * {@link org.jconfigurations.functions.CollectionFieldConverterFunction} and 
+ * {@link org.jconfigurations.functions.MapFieldConverterFunction}) resolve them at runtime,
+ * with a method's return type standing in for a field's type.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see GeneratedConfigurator
+ * @see GeneratedProxy
+ */
+final class GeneratedConverters {
+  private final Elements elements;
+  private final Types types;
+
+  GeneratedConverters(ProcessingEnvironment env) {
+    this.elements = env.getElementUtils();
+    this.types = env.getTypeUtils();
+  }
+
+  /**
+   * 
+   * @param element the annotated field or method
+   * @return the configuration's name (see {@link Name})
+   * @throws UnsupportedTypeException if the name is empty
+   */
+  String name(Element element) throws UnsupportedTypeException {
+    final Object name = value(element, Name.class, "value");
+
+    if(name == null){
+      return element.getSimpleName().toString();
+    }else if(((String) name).isEmpty()){
+      throw new UnsupportedTypeException(String.format("the @Name of %s is empty", describe(element)));
+    }else{
+      return (String) name;
+    }
+  }
+
+  /**
+   * 
+   * @param element the field or method, which may be marked with {@link Configuration}
+   * @param type the field's type or the method's return type
+   * @return the explicit converter of {@code element}, or the default converter of {@code type}
+   */
+  TypeElement basicConverter(Element element, TypeMirror type) {
+    final TypeElement converter = explicit(element, Configuration.class, "converter", NoConfigurationConverter.class);
+
+    return converter != null ? converter : defaultConverter(type);
+  }
+
+  /**
+   * The specialized converter interface and method (as 'interface#method') that convert
+   * values into the primitive type without boxing them, if the converter implements it and
+   * does not override its {@code convert(String)}.
+   * 
+   * @param type the primitive type
+   * @param converter the converter
+   * @return the interface and method, or {@code null} if there are none
+   */
+  String specialization(TypeMirror type, TypeElement converter) {
+    final Class<?> specialized;
+    final String method;
+
+    switch(type.getKind()){
+      case INT: specialized = ToIntConfigurationConverter.class; method = "convertInt"; break;
+      case LONG: specialized = ToLongConfigurationConverter.class; method = "convertLong"; break;
+      case FLOAT: specialized = ToFloatConfigurationConverter.class; method = "convertFloat"; break;
+      case DOUBLE: specialized = ToDoubleConfigurationConverter.class; method = "convertDouble"; break;
+      case BOOLEAN: specialized = ToBooleanConfigurationConverter.class; method = "convertBoolean"; break;
+      default: return null;
+    }
+
+    final TypeElement element = elements.getTypeElement(specialized.getCanonicalName());
+
+    if(element == null 
+            || !types.isAssignable(types.erasure(converter.asType()), types.erasure(element.asType()))
+            || overridesConvert(converter)){
+      return null;
+    }
+
+    return specialized.getCanonicalName() + "#" + method;
+  }
+
+  /**
+   * 
+   * @param element the field or method marked with {@link CollectionConfiguration}
+   * @param type the field's type or the method's return type
+   * @return the expression that creates the converter
+   * @throws UnsupportedTypeException if the converter cannot be instantiated
+   */
+  String collectionConverter(Element element, TypeMirror type) throws UnsupportedTypeException {
+    final String collectionConverter = converterName(
+            element,
+            type,
+            explicit(element, CollectionConfiguration.class, "converter", NoCollectionConfigurationConverter.class),
+            new DefaultCollectionTypeConverterFunction(),
+            CollectionConfigurationConverter.class,
+            ConfigurationConverter.class.getName(), String.class.getName()
+    );
+    final TypeElement elementConverter = explicit(element, CollectionConfiguration.class, "elementConverter", NoConfigurationConverter.class);
+    final List<TypeMirror> generics = generics(element, type);
+
+    return String.format(
+            "new %s(%s, %s)",
+            collectionConverter,
+            elementConverter != null
+                    ? instantiate(element, elementConverter)
+                    : instantiate(element, defaultConverter(generics.isEmpty() ? string() : generics.get(0))),
+            literal((String) value(element, CollectionConfiguration.class, "delimiter"))
+    );
+  }
+
+  /**
+   * 
+   * @param element the field or method marked with {@link MapConfiguration}
+   * @param type the field's type or the method's return type
+   * @return the expression that creates the converter
+   * @throws UnsupportedTypeException if the converter cannot be instantiated
+   */
+  String mapConverter(Element element, TypeMirror type) throws UnsupportedTypeException {
+    final String mapConverter = converterName(
+            element,
+            type,
+            explicit(element, MapConfiguration.class, "converter", NoMapConfigurationConverter.class),
+            new DefaultMapTypeConverterFunction(),
+            MapConfigurationConverter.class,
+            ConfigurationConverter.class.getName(), ConfigurationConverter.class.getName(), String.class.getName(), String.class.getName()
+    );
+    final TypeElement keyConverter = explicit(element, MapConfiguration.class, "keyConverter", NoConfigurationConverter.class);
+    final TypeElement valueConverter = explicit(element, MapConfiguration.class, "valueConverter", NoConfigurationConverter.class);
+    final List<TypeMirror> generics = generics(element, type);
+
+    return String.format(
+            "new %s(%s, %s, %s, %s)",
+            mapConverter,
+            keyConverter != null
+                    ? instantiate(element, keyConverter)
+                    : instantiate(element, defaultConverter(generics.isEmpty() ? string() : generics.get(0))),
+            valueConverter != null
+                    ? instantiate(element, valueConverter)
+                    : instantiate(element, defaultConverter(generics.size() > 1 ? generics.get(1) : string())),
+            literal((String) value(element, MapConfiguration.class, "entryDelimiter")),
+            literal((String) value(element, MapConfiguration.class, "keyValueSeparator"))
+    );
+  }
+
+  /**
+   * 
+   * @param element the field or method
+   * @param converter the converter's class
+   * @return the expression that creates the converter with its no-arg constructor
+   * @throws UnsupportedTypeException if the converter cannot be instantiated
+   */
+  String instantiate(Element element, TypeElement converter) throws UnsupportedTypeException {
+    return String.format("new %s()", converterName(element, null, converter, null, ConfigurationConverter.class));
+  }
+
+  /**
+   * 
+   * @param type the type that values are converted to
+   * @param converter the expression of the converter
+   * @param specialization the converter's {@link #specialization(javax.lang.model.type.TypeMirror, javax.lang.model.element.TypeElement) specialization},
+   *     or {@code null}
+   * @return the expression that converts the {@code value} variable
+   */
+  String conversion(TypeMirror type, String converter, String specialization) {
+    if(specialization == null){
+      final String cast = type.getKind().isPrimitive()
+              ? types.boxedClass((PrimitiveType) type).getQualifiedName().toString()
+              : types.erasure(type).toString();
+
+      return String.format("(%s) %s.convert(value)", cast, converter);
+    }
+
+    final int separator = specialization.indexOf('#');
+
+    return String.format(
+            "((%s) %s).%s(value)", 
+            specialization.substring(0, separator), 
+            converter, 
+            specialization.substring(separator + 1)
+    );
+  }
+
+  /**
+   * 
+   * @param type the type
+   * @return the name of {@code type} as returned by {@link Class#getName()}
+   */
+  String runtimeName(TypeMirror type) {
+    switch(type.getKind()){
+      case ARRAY:
+        return "[" + descriptor(((ArrayType) type).getComponentType());
+      case DECLARED:
+        return elements.getBinaryName((TypeElement) types.asElement(type)).toString();
+      default:
+        return type.toString();
+    }
+  }
+
+  /**
+   * 
+   * @param value the value
+   * @return the {@code String} literal
+   */
+  String literal(String value) {
+    return elements.getConstantExpression(value);
+  }
+
+  /**
+   * 
+   * @param element the element
+   * @param annotation the annotation's type
+   * @return the annotation on {@code element}, or {@code null} if there is none
+   */
+  AnnotationMirror annotation(Element element, Class<? extends Annotation> annotation) {
+    for(AnnotationMirror mirror : element.getAnnotationMirrors()){
+      if(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation.getName())){
+        return mirror;
+      }
+    }
+
+    return null;
+  }
+
+  private <T> String converterName(
+          Element element,
+          TypeMirror type,
+          TypeElement explicit,
+          Function<Class<?>, Class<? extends T>> defaults,
+          Class<T> kind,
+          String... parameters
+  ) throws UnsupportedTypeException {
+    final TypeElement converter = explicit != null
+            ? explicit
+            : elements.getTypeElement(defaults.apply(load(type)).getCanonicalName());
+
+    if(!isPublic(converter) 
+            || converter.getModifiers().contains(Modifier.ABSTRACT) 
+            || !hasPublicConstructor(converter, parameters)){
+      throw new UnsupportedTypeException(
+              String.format(
+                      "%s %s of %s cannot be instantiated",
+                      kind.getSimpleName(),
+                      converter.getQualifiedName(),
+                      describe(element)
+              )
+      );
+    }
+
+    return converter.getQualifiedName().toString();
+  }
+
+  private TypeElement defaultConverter(TypeMirror type) {
+    return elements.getTypeElement(new DefaultTypeConverterFunction().apply(load(type)).getCanonicalName());
+  }
+
+  private List<TypeMirror> generics(Element element, TypeMirror type) throws UnsupportedTypeException {
+    final List<TypeMirror> generics = new ArrayList<>();
+
+    if(type.getKind() == TypeKind.DECLARED){
+      for(TypeMirror argument : ((DeclaredType) type).getTypeArguments()){
+        if(argument.getKind() != TypeKind.DECLARED || !((DeclaredType) argument).getTypeArguments().isEmpty()){
+          throw new UnsupportedTypeException(
+                  String.format("generic type %s of %s is not a class", argument, describe(element))
+          );
+        }
+
+        generics.add(argument);
+      }
+    }
+
+    return generics;
+  }
+
+  /*
+   * The framework's default converters are only defined for the JDK's own types,
+   * which are the only ones that can be loaded safely while compiling.
+   */
+  private Class<?> load(TypeMirror type) {
+    switch(type.getKind()){
+      case BOOLEAN: return boolean.class;
+      case INT: return int.class;
+      case LONG: return long.class;
+      case FLOAT: return float.class;
+      case DOUBLE: return double.class;
+      case DECLARED:
+        final String name = elements.getBinaryName((TypeElement) types.asElement(type)).toString();
+
+        if(name.startsWith("java.")){
+          try{
+            return Class.forName(name, false, GeneratedConverters.class.getClassLoader());
+          }catch(ClassNotFoundException e){
+            return Void.class;
+          }
+        }
+
+        return Void.class;
+      default: return Void.class;
+    }
+  }
+
+  /*
+   * Whether converter, or one of its superclasses, declares convert(String) instead of inheriting
+   * the specialized interface's, in which case values must be converted through it.
+   */
+  private boolean overridesConvert(TypeElement converter) {
+    TypeElement type = converter;
+
+    while(type != null){
+      for(ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())){
+        if(method.getSimpleName().contentEquals("convert")
+                && !method.getModifiers().contains(Modifier.ABSTRACT)
+                && method.getParameters().size() == 1
+                && types.isSameType(method.getParameters().get(0).asType(), string())){
+          return true;
+        }
+      }
+
+      type = type.getSuperclass().getKind() == TypeKind.DECLARED 
+              ? (TypeElement) types.asElement(type.getSuperclass()) 
+              : null;
+    }
+
+    return false;
+  }
+
+  private boolean hasPublicConstructor(TypeElement type, String... parameters) {
+    for(ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())){
+      if(constructor.getModifiers().contains(Modifier.PUBLIC) 
+              && constructor.getParameters().size() == parameters.length){
+        boolean matches = true;
+
+        for(int i = 0; i < parameters.length; i++){
+          matches &= types.erasure(constructor.getParameters().get(i).asType()).toString().equals(parameters[i]);
+        }
+
+        if(matches){
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private TypeElement explicit(Element element, Class<? extends Annotation> annotation, String member, Class<?> none) {
+    final Object value = value(element, annotation, member);
+
+    if(value == null){
+      return null;
+    }
+
+    final TypeElement type = (TypeElement) types.asElement((TypeMirror) value);
+
+    return type.getQualifiedName().contentEquals(none.getName()) ? null : type;
+  }
+
+  private Object value(Element element, Class<? extends Annotation> annotation, String member) {
+    final AnnotationMirror mirror = annotation(element, annotation);
+
+    if(mirror == null){
+      return null;
+    }
+
+    for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry 
+            : elements.getElementValuesWithDefaults(mirror).entrySet()){
+      if(entry.getKey().getSimpleName().contentEquals(member)){
+        return entry.getValue().getValue();
+      }
+    }
+
+    return null;
+  }
+
+  private String descriptor(TypeMirror type) {
+    switch(type.getKind()){
+      case BOOLEAN: return "Z";
+      case BYTE: return "B";
+      case CHAR: return "C";
+      case SHORT: return "S";
+      case INT: return "I";
+      case LONG: return "J";
+      case FLOAT: return "F";
+      case DOUBLE: return "D";
+      case ARRAY: return "[" + descriptor(((ArrayType) type).getComponentType());
+      default: return "L" + runtimeName(types.erasure(type)) + ";";
+    }
+  }
+
+  private TypeMirror string() {
+    return elements.getTypeElement(String.class.getName()).asType();
+  }
+
+  private static String describe(Element element) {
+    return String.format("%s '%s'", element.getKind() == ElementKind.METHOD ? "method" : "field", element.getSimpleName());
+  }
+
+  private static boolean isPublic(TypeElement type) {
+    Element element = type;
+
+    while(element instanceof TypeElement){
+      if(!element.getModifiers().contains(Modifier.PUBLIC)){
+        return false;
+      }
+
+      if(element.getEnclosingElement() instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC)){
+        return false;
+      }
+
+      element = element.getEnclosingElement();
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Required;
+import org.jconfigurations.configurators.ConfigurationProxies;
+
+/**
+ * The source code of the lazy implementation generated for an interface whose methods are
+ * configurations.
+ * 
+ * <p>Every abstract method of the interface is bound to the configuration named after it (see
+ * {@link org.jconfigurations.Name}). Its value is looked up and converted the first time the method
+ * is called, and cached from then on. Values that are not present are {@code null}, {@code 0} or
+ * {@code false}. Errors are thrown as {@link ConfigurationException}s by methods that declare
+ * them, and as {@link IllegalStateException}s otherwise; failed lookups are retried on the next call.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationProxies
+ */
+final class GeneratedProxy {
+  private final String packageName;
+  private final String simpleName;
+  private final String typeName;
+  private final String binaryTypeName;
+  private final StringBuilder methods = new StringBuilder();
+  private final StringBuilder fields = new StringBuilder();
+  private final GeneratedConverters expressions;
+  private final Types types;
+  private final TypeMirror configurationException;
+  private int count;
+
+  private GeneratedProxy(TypeElement type, ProcessingEnvironment env) {
+    final Elements elements = env.getElementUtils();
+    this.expressions = new GeneratedConverters(env);
+    this.types = env.getTypeUtils();
+    this.configurationException = elements.getTypeElement(ConfigurationException.class.getName()).asType();
+    final PackageElement pkg = elements.getPackageOf(type);
+    this.packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    this.binaryTypeName = elements.getBinaryName(type).toString();
+    this.simpleName = (packageName.isEmpty() ? binaryTypeName : binaryTypeName.substring(packageName.length() + 1))
+            .replace('$', '_') + ConfigurationProxies.SUFFIX;
+    this.typeName = type.getQualifiedName().toString();
+  }
+
+  /**
+   * 
+   * @param type the interface to generate a proxy for
+   * @param env the processing environment
+   * @return the generated proxy
+   * @throws UnsupportedTypeException if no proxy can be generated for {@code type}
+   */
+  static GeneratedProxy of(TypeElement type, ProcessingEnvironment env) throws UnsupportedTypeException {
+    GeneratedConfigurator.checkAccessible(type);
+
+    if(type.getKind() != ElementKind.INTERFACE){
+      throw new UnsupportedTypeException("not an interface");
+    }
+
+    if(!type.getTypeParameters().isEmpty()){
+      throw new UnsupportedTypeException("generic interfaces are not supported");
+    }
+
+    final GeneratedProxy proxy = new GeneratedProxy(type, env);
+
+    for(ExecutableElement method : ElementFilter.methodsIn(env.getElementUtils().getAllMembers(type))){
+      if(method.getModifiers().contains(Modifier.ABSTRACT)){
+        proxy.add(method);
+      }
+    }
+
+    return proxy;
+  }
+
+  /**
+   * 
+   * @return the qualified name of the generated class
+   */
+  String qualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  /**
+   * 
+   * @return the source code of the generated class
+   */
+  String source() {
+    final StringBuilder source = new StringBuilder();
+
+    if(!packageName.isEmpty()){
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+
+    source.append("/**\n")
+            .append(" * Lazy configuration proxy for {@link ").append(typeName).append("}, generated by the\n")
+            .append(" * {@link org.jconfigurations.processor.ConfiguratorProcessor}.\n")
+            .append(" */\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(simpleName).append(" implements ").append(typeName).append(" {\n")
+            .append("  private final org.jconfigurations.source.ConfigurationSource source;\n")
+            .append(fields)
+            .append("\n")
+            .append("  public ").append(simpleName).append("(org.jconfigurations.source.ConfigurationSource source) {\n")
+            .append("    this.source = java.util.Objects.requireNonNull(source, \"null source\");\n")
+            .append("  }\n")
+            .append(methods)
+            .append("}\n");
+
+    return source.toString();
+  }
+
+  private void add(ExecutableElement method) throws UnsupportedTypeException {
+    final TypeMirror type = method.getReturnType();
+
+    if(!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()){
+      throw new UnsupportedTypeException(String.format("method '%s' has parameters", method.getSimpleName()));
+    }
+
+    if(type.getKind() == TypeKind.VOID){
+      throw new UnsupportedTypeException(String.format("method '%s' returns void", method.getSimpleName()));
+    }
+
+    final String name = expressions.name(method);
+    final String converter;
+    String specialization = null;
+
+    if(expressions.annotation(method, CollectionConfiguration.class) != null){
+      converter = expressions.collectionConverter(method, type);
+    }else if(expressions.annotation(method, MapConfiguration.class) != null){
+      converter = expressions.mapConverter(method, type);
+    }else{
+      final TypeElement basic = expressions.basicConverter(method, type);
+      converter = expressions.instantiate(method, basic);
+      specialization = expressions.specialization(type, basic);
+    }
+
+    final int index = count++;
+    final boolean checked = method.getThrownTypes().stream().anyMatch(t -> types.isAssignable(configurationException, t));
+    final String returnType = type.toString();
+    final String message = String.format(
+            "Unable to configure method '%s' of type '%s' in interface '%s'",
+            method.getSimpleName(),
+            expressions.runtimeName(type),
+            binaryTypeName
+    );
+
+    fields.append("  private volatile boolean resolved").append(index).append(";\n")
+            .append("  private ").append(returnType).append(" value").append(index).append(";\n");
+
+    methods.append("\n")
+            .append("  @Override\n")
+            .append("  public ").append(returnType).append(" ").append(method.getSimpleName()).append("()")
+            .append(checked ? " throws org.jconfigurations.ConfigurationException" : "").append(" {\n")
+            .append("    if(!resolved").append(index).append("){\n")
+            .append("      value").append(index).append(" = resolve").append(index).append("();\n")
+            .append("      resolved").append(index).append(" = true;\n")
+            .append("    }\n\n")
+            .append("    return value").append(index).append(";\n")
+            .append("  }\n\n")
+            .append("  private ").append(returnType).append(" resolve").append(index).append("()")
+            .append(checked ? " throws org.jconfigurations.ConfigurationException" : "").append(" {\n")
+            .append("    final java.util.Map<String, String> configurations = source.configurations();\n")
+            .append("    final String value = configurations.get(").append(expressions.literal(name)).append(");\n\n")
+            .append("    if(value != null || configurations.containsKey(").append(expressions.literal(name)).append(")){\n")
+            .append("      try{\n")
+            .append("        return ").append(expressions.conversion(type, converter, specialization)).append(";\n")
+            .append("      }catch(org.jconfigurations.ConfigurationException | RuntimeException e){\n")
+            .append("        ").append(raise(checked, expressions.literal(message) + ", e")).append("\n")
+            .append("      }\n")
+            .append("    }\n\n");
+
+    if(expressions.annotation(method, Required.class) != null){
+      final String missing = String.format(
+              "Required configuration not found for method '%s' in interface '%s'",
+              method.getSimpleName(),
+              binaryTypeName
+      );
+      methods.append("    ").append(raise(checked, expressions.literal(missing))).append("\n");
+    }else{
+      methods.append("    return ").append(defaultValue(type)).append(";\n");
+    }
+
+    methods.append("  }\n");
+  }
+
+  private static String raise(boolean checked, String arguments) {
+    return checked
+            ? "throw new org.jconfigurations.ConfigurationException(" + arguments + ");"
+            : "throw new IllegalStateException(new org.jconfigurations.ConfigurationException(" + arguments + "));";
+  }
+
+  private static String defaultValue(TypeMirror type) {
+    if(type.getKind() == TypeKind.BOOLEAN){
+      return "false";
+    }else if(type.getKind().isPrimitive()){
+      return "(" + type + ") 0";
+    }else{
+      return "null";
+    }
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+/**
+ * Thrown when no {@link org.jconfigurations.configurators.Configurator} can be generated
+ * for a given class.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see GeneratedConfigurator
+ */
+final class UnsupportedTypeException extends Exception {
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * 
+   * @param reason why the class is not supported
+   */
+  UnsupportedTypeException(String reason) {
+    super(reason);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import org.jconfigurations.util.CompactStringMap;
+
+/**
+ * <p>A {@link ConfigurationSource} that merges several layers of sources into one, eg. 
+ * defaults, a properties file, a database table and system overrides. Layers are given
+ * in increasing order of precedence: a configuration present in several layers takes its 
+ * value from the last of them.</p>
+ * 
+ * <p>The merged configurations are computed once, so {@link #configurations()} does not
+ * look configurations up layer by layer. Layers that are {@link ReloadableConfigurationSource reloadable}
+ * are listened to: when one of them changes, only the configurations that changed in that layer 
+ * are resolved again and the result is published as a new snapshot, which in turn notifies this
+ * source's own {@link ConfigurationListener listeners}. The configurations of other layers are 
+ * read only once.</p>
+ * 
+ * <p>Instances should be {@link #close() closed} in order to stop listening to their layers.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class CompositeConfigurationSource extends ReloadableConfigurationSource implements Closeable {
+  private final List<Map<String, String>> layers;
+  private final List<ReloadableConfigurationSource> reloadables = new ArrayList<>();
+  private final List<ConfigurationListener> listeners = new ArrayList<>();
+
+  /**
+   * 
+   * @param layers the sources to merge, in increasing order of precedence
+   * @throws NullPointerException if {@code layers} or any of its elements is {@code null}.
+   */
+  public CompositeConfigurationSource(List<? extends ConfigurationSource> layers) {
+    this(snapshots(requireNonNull(layers, "null layers")));
+
+    for(int i = 0; i < layers.size(); i++){
+      if(layers.get(i) instanceof ReloadableConfigurationSource){
+        final int index = i;
+        final ReloadableConfigurationSource reloadable = (ReloadableConfigurationSource) layers.get(i);
+        final ConfigurationListener listener = (previous, current) -> changed(index, current);
+        reloadable.addListener(listener);
+        reloadables.add(reloadable);
+        listeners.add(listener);
+
+        //catch up with changes published before the listener was added
+        changed(index, reloadable.configurations());
+      }
+    }
+  }
+
+  /**
+   * 
+   * @param layers the sources to merge, in increasing order of precedence
+   * @throws NullPointerException if {@code layers} or any of its elements is {@code null}.
+   * @see #CompositeConfigurationSource(java.util.List) 
+   */
+  public CompositeConfigurationSource(ConfigurationSource... layers) {
+    this(Arrays.asList(requireNonNull(layers, "null layers")));
+  }
+
+  private CompositeConfigurationSource(ArrayList<Map<String, String>> layers) {
+    super(merge(layers));
+    this.layers = layers;
+  }
+
+  /**
+   * Stops listening to the reloadable layers. The current configurations remain available.
+   */
+  @Override
+  public void close() {
+    for(int i = 0; i < reloadables.size(); i++){
+      reloadables.get(i).removeListener(listeners.get(i));
+    }
+
+    events().complete();
+  }
+
+  private synchronized void changed(int index, Map<String, String> current) {
+    final Map<String, String> previous = layers.get(index);
+
+    if(previous == current){
+      return;
+    }
+
+    layers.set(index, current);
+    final ConfigurationDiff diff = ConfigurationDiff.of(previous, current);
+
+    if(diff.isEmpty()){
+      return;
+    }
+
+    final Map<String, String> merged = new HashMap<>(configurations());
+
+    for(String name : diff.added()){
+      resolve(merged, name);
+    }
+
+    for(String name : diff.changed()){
+      resolve(merged, name);
+    }
+
+    for(String name : diff.removed()){
+      resolve(merged, name);
+    }
+
+    replace(CompactStringMap.copyOf(merged));
+  }
+
+  private void resolve(Map<String, String> merged, String name) {
+    for(int i = layers.size() - 1; i >= 0; i--){
+      final Map<String, String> layer = layers.get(i);
+      final String value = layer.get(name);
+
+      if(value != null || layer.containsKey(name)){
+        merged.put(name, value);
+        return;
+      }
+    }
+
+    merged.remove(name);
+  }
+
+  private static ArrayList<Map<String, String>> snapshots(List<? extends ConfigurationSource> layers) {
+    final ArrayList<Map<String, String>> snapshots = new ArrayList<>(layers.size());
+
+    for(ConfigurationSource layer : layers){
+      snapshots.add(requireNonNull(layer, "null layer").configurations());
+    }
+
+    return snapshots;
+  }
+
+  private static Map<String, String> merge(List<Map<String, String>> layers) {
+    final Map<String, String> merged = new HashMap<>();
+
+    for(Map<String, String> layer : layers){
+      merged.putAll(layer);
+    }
+
+    return merged;
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+
+/**
+ * The names of the configurations that differ between two snapshots of a 
+ * {@link ConfigurationSource source}'s configurations.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ConfigurationListener
+ */
+public final class ConfigurationDiff {
+  private final Set<String> added;
+  private final Set<String> removed;
+  private final Set<String> changed;
+
+  private ConfigurationDiff(Set<String> added, Set<String> removed, Set<String> changed) {
+    this.added = Collections.unmodifiableSet(added);
+    this.removed = Collections.unmodifiableSet(removed);
+    this.changed = Collections.unmodifiableSet(changed);
+  }
+
+  /**
+   * 
+   * @param previous the previous configurations
+   * @param current the current configurations
+   * @return the difference between {@code previous} and {@code current}
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   */
+  public static ConfigurationDiff of(Map<String, String> previous, Map<String, String> current) {
+    requireNonNull(previous, "null previous");
+    requireNonNull(current, "null current");
+    final Set<String> added = new HashSet<>();
+    final Set<String> removed = new HashSet<>();
+    final Set<String> changed = new HashSet<>();
+
+    if(previous != current){
+      for(Map.Entry<String, String> entry : current.entrySet()){
+        final String value = previous.get(entry.getKey());
+
+        if(value == null && !previous.containsKey(entry.getKey())){
+          added.add(entry.getKey());
+        }else if(value == null ? entry.getValue() != null : !value.equals(entry.getValue())){
+          changed.add(entry.getKey());
+        }
+      }
+
+      for(String key : previous.keySet()){
+        if(!current.containsKey(key)){
+          removed.add(key);
+        }
+      }
+    }
+
+    return new ConfigurationDiff(added, removed, changed);
+  }
+
+  /**
+   * 
+   * @return the names of the configurations that are only present in the current snapshot
+   */
+  public Set<String> added() {
+    return added;
+  }
+
+  /**
+   * 
+   * @return the names of the configurations that are only present in the previous snapshot
+   */
+  public Set<String> removed() {
+    return removed;
+  }
+
+  /**
+   * 
+   * @return the names of the configurations whose values differ between both snapshots
+   */
+  public Set<String> changed() {
+    return changed;
+  }
+
+  /**
+   * 
+   * @param name the name of a configuration
+   * @return {@code true} if the configuration was added, removed or changed
+   */
+  public boolean affects(String name) {
+    return added.contains(name) || removed.contains(name) || changed.contains(name);
+  }
+
+  /**
+   * 
+   * @return {@code true} if both snapshots contain the same configurations
+   */
+  public boolean isEmpty() {
+    return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+  }
+}
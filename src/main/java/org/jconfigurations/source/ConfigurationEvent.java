@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A change to a single configuration, published by a {@link ConfigurationEventPublisher}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public final class ConfigurationEvent {
+  /**
+   * The kind of change.
+   */
+  public enum Type {
+    /**
+     * The configuration was not present before.
+     */
+    ADDED,
+    /**
+     * The configuration's value changed.
+     */
+    UPDATED,
+    /**
+     * The configuration is no longer present.
+     */
+    REMOVED
+  }
+
+  private final Type type;
+  private final String name;
+  private final String previousValue;
+  private final String value;
+  private final long version;
+
+  /**
+   * 
+   * @param type the kind of change
+   * @param name the configuration's name
+   * @param previousValue the configuration's value before the change, {@code null} if it was {@link Type#ADDED added}
+   * @param value the configuration's value after the change, {@code null} if it was {@link Type#REMOVED removed}
+   * @param version the version of the snapshot of the configurations that contains the change
+   * @throws NullPointerException if {@code type} or {@code name} is {@code null}.
+   */
+  public ConfigurationEvent(Type type, String name, String previousValue, String value, long version) {
+    this.type = requireNonNull(type, "null type");
+    this.name = requireNonNull(name, "null name");
+    this.previousValue = previousValue;
+    this.value = value;
+    this.version = version;
+  }
+
+  /**
+   * 
+   * @return the kind of change
+   */
+  public Type type() {
+    return type;
+  }
+
+  /**
+   * 
+   * @return the configuration's name
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * 
+   * @return the configuration's value before the change, {@code null} if it was {@link Type#ADDED added}
+   */
+  public String previousValue() {
+    return previousValue;
+  }
+
+  /**
+   * 
+   * @return the configuration's value after the change, {@code null} if it was {@link Type#REMOVED removed}
+   */
+  public String value() {
+    return value;
+  }
+
+  /**
+   * 
+   * @return the version of the snapshot of the configurations that contains the change
+   */
+  public long version() {
+    return version;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if(this == obj){
+      return true;
+    }
+
+    if(!(obj instanceof ConfigurationEvent)){
+      return false;
+    }
+
+    final ConfigurationEvent other = (ConfigurationEvent) obj;
+
+    return type == other.type 
+            && name.equals(other.name) 
+            && Objects.equals(previousValue, other.previousValue) 
+            && Objects.equals(value, other.value) 
+            && version == other.version;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(type, name, previousValue, value, version);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s: '%s' -> '%s' (version %d)", type, name, previousValue, value, version);
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jconfigurations.source.ConfigurationEvent.Type;
+
+/**
+ * <p>Publishes the changes to the configurations of a {@link ReloadableConfigurationSource} as a stream
+ * of {@link ConfigurationEvent events}, one per changed configuration, to any number of
+ * {@link Subscriber subscribers}.</p>
+ * 
+ * <p>The protocol is the one of {@code java.util.concurrent.Flow} (and of Reactive Streams): a 
+ * subscriber receives events only as it {@link Subscription#request(long) requests} them. Events
+ * that a subscriber has not requested yet are coalesced per configuration: a configuration that
+ * changes several times before being delivered is delivered once, as the change from the value
+ * last delivered to the latest value, or not at all if it was changed back. Therefore the events 
+ * pending for each subscriber never outnumber the configurations, however slow the subscriber is.
+ * Changes are only accepted in increasing order of {@link ConfigurationEvent#version() version}: 
+ * those of a version that is not newer than the last one offered to a subscriber are ignored, so 
+ * a late, older change can never overwrite a newer one.</p>
+ * 
+ * <p>Subscribers only receive the changes made after they subscribe. Events are delivered on the
+ * thread that replaces the configurations or on the thread that requests them, but never 
+ * concurrently to the same subscriber.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ReloadableConfigurationSource#events()
+ */
+public final class ConfigurationEventPublisher {
+  private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+  private boolean completed;
+
+  /**
+   * Receives {@link ConfigurationEvent events}; the counterpart of {@code java.util.concurrent.Flow.Subscriber}.
+   */
+  public interface Subscriber {
+    /**
+     * Invoked before any other method, with the subscription used to request events.
+     * 
+     * @param subscription the subscription
+     */
+    public void onSubscribe(Subscription subscription);
+
+    /**
+     * 
+     * @param event the next requested event
+     */
+    public void onNext(ConfigurationEvent event);
+
+    /**
+     * Invoked, with no further events, if {@link Subscription#request(long) request} was called
+     * with a non-positive number or if {@link #onNext(org.jconfigurations.source.ConfigurationEvent)} 
+     * threw an exception.
+     * 
+     * @param error the error
+     */
+    public void onError(Throwable error);
+
+    /**
+     * Invoked once the source is closed and all pending events have been delivered.
+     */
+    public void onComplete();
+  }
+
+  /**
+   * The link between the publisher and a {@link Subscriber}; the counterpart of 
+   * {@code java.util.concurrent.Flow.Subscription}.
+   */
+  public interface Subscription {
+    /**
+     * Adds {@code n} events to the number of events that the subscriber is willing to receive.
+     * 
+     * @param n the number of events, {@link Long#MAX_VALUE} for an unbounded number
+     */
+    public void request(long n);
+
+    /**
+     * Stops the delivery of events.
+     */
+    public void cancel();
+  }
+
+  /**
+   * 
+   * @param subscriber the subscriber
+   * @throws NullPointerException if {@code subscriber} is {@code null}.
+   */
+  public void subscribe(Subscriber subscriber) {
+    final EventSubscription subscription = new EventSubscription(requireNonNull(subscriber, "null subscriber"));
+    final boolean closed;
+
+    synchronized(this){
+      closed = completed;
+
+      if(!closed){
+        subscriptions.add(subscription);
+      }
+    }
+
+    subscriber.onSubscribe(subscription);
+
+    if(closed){
+      subscription.complete();
+    }
+  }
+
+  /**
+   * 
+   * @return {@code true} if there are any subscribers
+   */
+  public boolean hasSubscribers() {
+    return !subscriptions.isEmpty();
+  }
+
+  /*
+   * Offers the differences between two snapshots to every subscriber.
+   */
+  void publish(long version, Map<String, String> previous, Map<String, String> current) {
+    if(subscriptions.isEmpty()){
+      return;
+    }
+
+    final ConfigurationDiff diff = ConfigurationDiff.of(previous, current);
+    final List<ConfigurationEvent> events = new ArrayList<>();
+
+    for(String name : diff.added()){
+      events.add(new ConfigurationEvent(Type.ADDED, name, null, current.get(name), version));
+    }
+
+    for(String name : diff.changed()){
+      events.add(new ConfigurationEvent(Type.UPDATED, name, previous.get(name), current.get(name), version));
+    }
+
+    for(String name : diff.removed()){
+      events.add(new ConfigurationEvent(Type.REMOVED, name, previous.get(name), null, version));
+    }
+
+    if(!events.isEmpty()){
+      for(EventSubscription subscription : subscriptions){
+        subscription.offer(events);
+      }
+    }
+  }
+
+  /*
+   * Completes every subscription once its pending events are delivered; later subscribers are completed immediately.
+   */
+  void complete() {
+    synchronized(this){
+      completed = true;
+    }
+
+    for(EventSubscription subscription : subscriptions){
+      subscription.complete();
+    }
+  }
+
+  private final class EventSubscription implements Subscription {
+    private final Subscriber subscriber;
+    private final AtomicInteger work = new AtomicInteger();
+    private final Map<String, ConfigurationEvent> pending = new LinkedHashMap<>();
+    private long demand;
+    private long version;
+    private boolean done;
+    private Throwable error;
+    private volatile boolean cancelled;
+
+    private EventSubscription(Subscriber subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized(this){
+        if(n <= 0){
+          error = new IllegalArgumentException("non-positive request: " + n);
+        }else{
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+        }
+      }
+
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+    }
+
+    /*
+     * All of the events are of the same version.
+     */
+    private void offer(List<ConfigurationEvent> events) {
+      synchronized(this){
+        if(events.get(0).version() <= version){
+          return;
+        }
+
+        version = events.get(0).version();
+
+        for(ConfigurationEvent event : events){
+          coalesce(event);
+        }
+      }
+
+      drain();
+    }
+
+    private void complete() {
+      synchronized(this){
+        done = true;
+      }
+
+      drain();
+    }
+
+    /*
+     * Merges an event with the one pending for the same configuration, if any. The merged event 
+     * goes from the state before the pending event to the state after the new one.
+     */
+    private void coalesce(ConfigurationEvent event) {
+      final ConfigurationEvent previous = pending.remove(event.name());
+
+      if(previous == null){
+        pending.put(event.name(), event);
+        return;
+      }
+
+      final boolean existed = previous.type() != Type.ADDED;
+      final boolean exists = event.type() != Type.REMOVED;
+
+      if(existed && exists && !Objects.equals(previous.previousValue(), event.value())){
+        pending.put(
+                event.name(), 
+                new ConfigurationEvent(Type.UPDATED, event.name(), previous.previousValue(), event.value(), event.version())
+        );
+      }else if(existed && !exists){
+        pending.put(
+                event.name(), 
+                new ConfigurationEvent(Type.REMOVED, event.name(), previous.previousValue(), null, event.version())
+        );
+      }else if(!existed && exists){
+        pending.put(
+                event.name(), 
+                new ConfigurationEvent(Type.ADDED, event.name(), null, event.value(), event.version())
+        );
+      }
+    }
+
+    /*
+     * Delivers as many events as requested from one thread at a time; threads that find 
+     * another one delivering leave it to loop once more.
+     */
+    private void drain() {
+      if(work.getAndIncrement() != 0){
+        return;
+      }
+
+      do{
+        while(!cancelled){
+          ConfigurationEvent next = null;
+          Throwable failure = null;
+
+          synchronized(this){
+            if(error != null){
+              failure = error;
+            }else if(demand > 0 && !pending.isEmpty()){
+              final Iterator<ConfigurationEvent> iterator = pending.values().iterator();
+              next = iterator.next();
+              iterator.remove();
+
+              if(demand != Long.MAX_VALUE){
+                demand--;
+              }
+            }else if(!done || !pending.isEmpty()){
+              break;
+            }
+          }
+
+          if(next != null){
+            try{
+              subscriber.onNext(next);
+            }catch(RuntimeException e){
+              cancel();
+              subscriber.onError(e);
+            }
+          }else if(failure != null){
+            cancel();
+            subscriber.onError(failure);
+          }else{
+            cancel();
+            subscriber.onComplete();
+          }
+        }
+      }while(work.decrementAndGet() != 0);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.Map;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>Listens for changes to the configurations of a {@link ReloadableConfigurationSource}, eg.
+ * in order to re-run a {@link org.jconfigurations.configurators.Configurator configurator} on
+ * objects that have already been configured.</p>
+ * 
+ * <p>Listeners are invoked on the thread that replaced the configurations, possibly concurrently.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see ReloadableConfigurationSource#addListener(org.jconfigurations.source.ConfigurationListener) 
+ */
+@FunctionalInterface
+public interface ConfigurationListener {
+  /**
+   * Invoked after the configurations have been replaced.
+   * 
+   * @param previous the snapshot of the configurations that was replaced
+   * @param current the snapshot of the configurations that replaced {@code previous}
+   */
+  public void configurationsChanged(Map<String, String> previous, Map<String, String> current);
+
+  /**
+   * Invoked when the configurations could not be reloaded. The current configurations are kept.
+   * Does nothing by default.
+   * 
+   * @param error the reason the configurations could not be reloaded
+   */
+  public default void reloadFailed(ConfigurationException error) {
+  }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>Loads {@link ConfigurationSource}s asynchronously, so that sources whose constructors block
+ * on I/O (eg. a {@link JdbcConfigurationSource} and a few {@link PropertiesConfigurationSource properties files})
+ * are loaded concurrently instead of one after the other:</p>
+ * <pre>
+ *    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+ *      final ConfigurationSource source = loader.loadAll(
+ *          () -&gt; new PropertiesConfigurationSource(defaults),
+ *          () -&gt; new JdbcConfigurationSource(conn, sql)
+ *      ).get();
+ *    }</pre>
+ * 
+ * <p>By default, sources are loaded on virtual threads when running on Java 21 or newer, and on a
+ * bounded pool of daemon threads otherwise. Errors raised while loading complete the futures 
+ * exceptionally with {@link ConfigurationException}s.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see CompositeConfigurationSource
+ */
+public final class ConfigurationSourceLoader implements Closeable {
+  private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+  private final Executor executor;
+  private final ExecutorService owned;
+
+  /**
+   * Loads sources on the given {@code executor}, which is not shut down when this loader
+   * is {@link #close() closed}.
+   * 
+   * @param executor runs the {@link Task tasks} that load the sources
+   * @throws NullPointerException if {@code executor} is {@code null}.
+   */
+  public ConfigurationSourceLoader(Executor executor) {
+    this.executor = requireNonNull(executor, "null executor");
+    this.owned = null;
+  }
+
+  /**
+   * Loads sources on virtual threads if they are available (Java 21 or newer), or else on a pool 
+   * of at most {@code max(4, availableProcessors)} daemon threads that are discarded when idle.
+   */
+  public ConfigurationSourceLoader() {
+    this.owned = defaultExecutor();
+    this.executor = owned;
+  }
+
+  /**
+   * 
+   * @param task loads the source
+   * @return the future source
+   * @throws NullPointerException if {@code task} is {@code null}.
+   */
+  public CompletableFuture<ConfigurationSource> load(Task task) {
+    requireNonNull(task, "null task");
+    final CompletableFuture<ConfigurationSource> future = new CompletableFuture<>();
+
+    try{
+      executor.execute(() -> {
+        try{
+          future.complete(requireNonNull(task.get(), "null source"));
+        }catch(ConfigurationException e){
+          future.completeExceptionally(e);
+        }catch(Exception e){
+          future.completeExceptionally(new ConfigurationException("Unable to load configuration source", e));
+        }catch(Error e){
+          future.completeExceptionally(e);
+          throw e;
+        }
+      });
+    }catch(RejectedExecutionException e){
+      future.completeExceptionally(new ConfigurationException("Unable to load configuration source", e));
+    }
+
+    return future;
+  }
+
+  /**
+   * Loads all of the sources concurrently and merges them into a {@link CompositeConfigurationSource}.
+   * 
+   * <p>If any of the sources fails to load, the future fails with the error of the first one that
+   * failed, with the errors of the others {@link Throwable#getSuppressed() suppressed}. The sources 
+   * that did load and are {@link Closeable} are closed, also if they cannot be merged.</p>
+   * 
+   * @param tasks load the layers of the {@link CompositeConfigurationSource}, in increasing order
+   *     of precedence
+   * @return the future composite source
+   * @throws NullPointerException if {@code tasks} or any of its elements is {@code null}.
+   */
+  public CompletableFuture<ConfigurationSource> loadAll(List<? extends Task> tasks) {
+    requireNonNull(tasks, "null tasks");
+    final List<CompletableFuture<ConfigurationSource>> futures = new ArrayList<>(tasks.size());
+
+    for(Task task : tasks){
+      futures.add(load(task));
+    }
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).handle((done, error) -> {
+      final List<ConfigurationSource> layers = new ArrayList<>(futures.size());
+      Throwable failure = null;
+
+      for(CompletableFuture<ConfigurationSource> future : futures){
+        try{
+          layers.add(future.join());
+        }catch(CompletionException e){
+          failure = suppress(failure, e.getCause());
+        }
+      }
+
+      if(failure == null){
+        try{
+          return new CompositeConfigurationSource(layers);
+        }catch(RuntimeException e){
+          failure = e;
+        }
+      }
+
+      for(ConfigurationSource layer : layers){
+        close(layer);
+      }
+
+      throw new CompletionException(failure);
+    });
+  }
+
+  /**
+   * 
+   * @param tasks
+   * @return the future composite source
+   * @throws NullPointerException if {@code tasks} or any of its elements is {@code null}.
+   * @see #loadAll(java.util.List) 
+   */
+  public CompletableFuture<ConfigurationSource> loadAll(Task... tasks) {
+    return loadAll(Arrays.asList(requireNonNull(tasks, "null tasks")));
+  }
+
+  /**
+   * Shuts down the default executor, if this loader created it. Sources that are being 
+   * loaded are loaded anyway; sources requested afterwards fail to load.
+   */
+  @Override
+  public void close() {
+    if(owned != null){
+      owned.shutdown();
+    }
+  }
+
+  /*
+   * The first error, with the others suppressed.
+   */
+  private static Throwable suppress(Throwable first, Throwable error) {
+    if(first == null){
+      return error;
+    }
+
+    if(first != error){
+      first.addSuppressed(error);
+    }
+
+    return first;
+  }
+
+  private static void close(ConfigurationSource source) {
+    if(source instanceof Closeable){
+      try{
+        ((Closeable) source).close();
+      }catch(IOException e){
+        //the source is discarded anyway
+      }
+    }
+  }
+
+  /*
+   * Virtual threads were introduced in Java 21; they are looked up reflectively so that the
+   * framework still runs on Java 8.
+   */
+  private static ExecutorService defaultExecutor() {
+    try{
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }catch(NoSuchMethodException | IllegalAccessException | InvocationTargetException e){
+      final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+              THREADS,
+              THREADS,
+              1,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              r -> {
+                final Thread thread = new Thread(r, "jconfigurations-loader");
+                thread.setDaemon(true);
+                return thread;
+              }
+      );
+      pool.allowCoreThreadTimeOut(true);
+      return pool;
+    }
+  }
+
+  /**
+   * Loads a source, typically by calling its constructor.
+   */
+  @FunctionalInterface
+  public interface Task {
+    /**
+     * 
+     * @return the source
+     * @throws Exception if the source could not be loaded
+     */
+    public ConfigurationSource get() throws Exception;
+  }
+}
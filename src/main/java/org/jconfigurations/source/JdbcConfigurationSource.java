@@ -20,12 +20,24 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import org.jconfigurations.util.CompactStringMap;
 
 /**
- * {@link ConfigurationSource} implementation that reads configurations from JDBC interfaces.
+ * <p>{@link ConfigurationSource} implementation that reads configurations from JDBC interfaces.</p>
+ * 
+ * <p>Rows are read one at a time as the driver delivers them. Large tables can be streamed by 
+ * specifying a fetch size, and sources that only need some of the configurations (eg. those
+ * of one class, see {@link org.jconfigurations.functions.ConfigurationNamesFunction}) can load just 
+ * those keys in batches.</p>
+ * 
+ * <p>Statements and result sets created by this class are always closed before its constructors 
+ * return. Those passed in by the caller are left open.</p>
+ * 
  * @author George Aristy (george.aristy@gmail.com)
  */
 public class JdbcConfigurationSource implements ConfigurationSource {
@@ -38,39 +50,228 @@ public class JdbcConfigurationSource implements ConfigurationSource {
    * called safely.</p>
    * @param result a {@link ResultSet} containing <strong>at least</strong> two columns with values
    *     that can be retrieved like {@link ResultSet#getString(int) strings}
-   * @throws SQLException if a JDBC error occurs
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
    */
   public JdbcConfigurationSource(ResultSet result) throws SQLException {
-    this.configurations = new HashMap<>();
-
-    while(result.next()){
-      this.configurations.put(result.getString(1), result.getString(2));
-    }
+    this(read(result, new CompactStringMap.Builder(), null));
   }
 
   /**
-   * Same as calling {@code new JdbcConfigurationSource(stmt.executeQuery())}.
+   * Executes {@code stmt} and reads its results, fetching {@code fetchSize} rows at a time.
+   * The {@link ResultSet} is closed afterwards, {@code stmt} is not.
    * @param stmt a {@link PreparedStatement} with any necessary parameters already binded
-   * @throws SQLException if a JDBC error occurs
+   * @param fetchSize the number of rows to fetch from the database at a time, or {@code 0} to
+   *     let the driver decide
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
+   * @throws IllegalArgumentException if {@code fetchSize} is negative
    * @see #JdbcConfigurationSource(java.sql.ResultSet) 
    */
+  public JdbcConfigurationSource(PreparedStatement stmt, int fetchSize) throws SQLException {
+    this(execute(fetch(stmt, fetchSize), new CompactStringMap.Builder(), null));
+  }
+
+  /**
+   * Executes {@code stmt} and reads its results with whatever fetch size {@code stmt} already has.
+   * The {@link ResultSet} is closed afterwards, {@code stmt} is not.
+   * @param stmt a {@link PreparedStatement} with any necessary parameters already binded
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
+   * @see #JdbcConfigurationSource(java.sql.PreparedStatement, int) 
+   */
   public JdbcConfigurationSource(PreparedStatement stmt) throws SQLException {
-    this(stmt.executeQuery());
+    this(execute(stmt, new CompactStringMap.Builder(), null));
+  }
+
+  /**
+   * Prepares {@code sql} and reads its results, fetching {@code fetchSize} rows at a time. 
+   * The statement is closed afterwards.
+   * @param conn a {@link Connection jdbc connection}
+   * @param sql an SQL statement that requires no parameters to be bound and can be executed as-is
+   * @param fetchSize the number of rows to fetch from the database at a time, or {@code 0} to
+   *     let the driver decide
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
+   * @throws IllegalArgumentException if {@code fetchSize} is negative
+   * @see #JdbcConfigurationSource(java.sql.PreparedStatement, int) 
+   */
+  public JdbcConfigurationSource(Connection conn, String sql, int fetchSize) throws SQLException {
+    this(query(conn, sql, fetchSize));
   }
 
   /**
-   * Same as calling {@code new JdbcConfigurationSource(conn.prepareStatement(sql))}.
+   * Same as calling {@code new JdbcConfigurationSource(conn, sql, 0)}.
    * @param conn a {@link Connection jdbc connection}
    * @param sql an SQL statement that requires no parameters to be bound and can be executed as-is
-   * @throws SQLException if a JDBC error occurs
-   * @see #JdbcConfigurationSource(java.sql.PreparedStatement) 
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
+   * @see #JdbcConfigurationSource(java.sql.Connection, java.lang.String, int) 
    */
   public JdbcConfigurationSource(Connection conn, String sql) throws SQLException {
-    this(conn.prepareStatement(sql));
+    this(conn, sql, 0);
+  }
+
+  /**
+   * <p>Loads only the configurations named in {@code keys}, in batches of at most 
+   * {@code batchSize} keys per query.</p>
+   * 
+   * <p>{@code sql} must contain a {@code %s} where the list of keys goes, eg. 
+   * {@code SELECT name, value FROM settings WHERE tenant = ? AND name IN (%s)}. 
+   * {@code parameters} are bound first, in order, followed by the keys of each batch, so
+   * any other parameters must appear before the list of keys. At most two distinct statements
+   * are prepared: one for full batches and one for the remainder. They are closed afterwards.</p>
+   * 
+   * <p>Only the first {@code %s} is replaced; {@code sql} is not a format string, so any other
+   * {@code %} (eg. in {@code name LIKE 'db.%'}) is left as is.</p>
+   * 
+   * @param conn a {@link Connection jdbc connection}
+   * @param sql the query, with a {@code %s} in place of the list of keys
+   * @param keys the names of the configurations to load
+   * @param batchSize the maximum number of keys per query; also used as the fetch size
+   * @param parameters any other parameters of {@code sql}
+   * @throws SQLException if a JDBC error occurs, or if a row has a {@code null} name
+   * @throws NullPointerException if any of the parameters, or any of the {@code keys}, is {@code null}.
+   * @throws IllegalArgumentException if {@code batchSize} is not positive, or if {@code sql} has
+   *     no {@code %s}
+   */
+  public JdbcConfigurationSource(
+          Connection conn, 
+          String sql, 
+          Collection<String> keys, 
+          int batchSize, 
+          Object... parameters
+  ) throws SQLException {
+    this(query(conn, sql, keys, batchSize, parameters));
+  }
+
+  private JdbcConfigurationSource(CompactStringMap.Builder configurations) {
+    this.configurations = configurations.build();
   }
 
   @Override
   public Map<String, String> configurations() {
-    return Collections.unmodifiableMap(this.configurations);
+    return this.configurations;
+  }
+
+  /*
+   * sql is only used to describe errors and is null if unknown.
+   */
+  private static CompactStringMap.Builder read(
+          ResultSet result, 
+          CompactStringMap.Builder configurations,
+          String sql
+  ) throws SQLException {
+    while(result.next()){
+      final String name = result.getString(1);
+
+      if(name == null){
+        throw new SQLException(sql == null 
+                ? "Null configuration name" 
+                : String.format("Null configuration name returned by '%s'", sql));
+      }
+
+      configurations.put(name, result.getString(2));
+    }
+
+    return configurations;
+  }
+
+  private static PreparedStatement fetch(PreparedStatement stmt, int fetchSize) throws SQLException {
+    if(fetchSize < 0){
+      throw new IllegalArgumentException("negative fetchSize");
+    }
+
+    stmt.setFetchSize(fetchSize);
+
+    return stmt;
+  }
+
+  private static CompactStringMap.Builder execute(
+          PreparedStatement stmt, 
+          CompactStringMap.Builder configurations,
+          String sql
+  ) throws SQLException {
+    try(ResultSet result = stmt.executeQuery()){
+      return read(result, configurations, sql);
+    }
+  }
+
+  private static CompactStringMap.Builder query(Connection conn, String sql, int fetchSize) throws SQLException {
+    try(PreparedStatement stmt = conn.prepareStatement(sql)){
+      return execute(fetch(stmt, fetchSize), new CompactStringMap.Builder(), sql);
+    }
+  }
+
+  private static CompactStringMap.Builder query(
+          Connection conn, 
+          String sql, 
+          Collection<String> keys, 
+          int batchSize, 
+          Object... parameters
+  ) throws SQLException {
+    requireNonNull(conn, "null conn");
+    requireNonNull(sql, "null sql");
+    requireNonNull(parameters, "null parameters");
+    final List<String> names = new ArrayList<>(requireNonNull(keys, "null keys"));
+
+    if(batchSize < 1){
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+
+    names.forEach(k -> requireNonNull(k, "null key"));
+
+    if(!sql.contains("%s")){
+      throw new IllegalArgumentException("no %s in sql");
+    }
+
+    final CompactStringMap.Builder configurations = new CompactStringMap.Builder();
+    final int full = names.size() / batchSize;
+    final int remainder = names.size() % batchSize;
+
+    if(full > 0){
+      try(PreparedStatement stmt = conn.prepareStatement(batch(sql, batchSize))){
+        for(int i = 0; i < full; i++){
+          bind(stmt, parameters, names.subList(i * batchSize, (i + 1) * batchSize));
+          execute(fetch(stmt, batchSize), configurations, sql);
+        }
+      }
+    }
+
+    if(remainder > 0){
+      try(PreparedStatement stmt = conn.prepareStatement(batch(sql, remainder))){
+        bind(stmt, parameters, names.subList(full * batchSize, names.size()));
+        execute(fetch(stmt, remainder), configurations, sql);
+      }
+    }
+
+    return configurations;
+  }
+
+  private static String batch(String sql, int size) {
+    final StringBuilder placeholders = new StringBuilder(size * 3);
+
+    for(int i = 0; i < size; i++){
+      if(i > 0){
+        placeholders.append(", ");
+      }
+
+      placeholders.append('?');
+    }
+
+    final int index = sql.indexOf("%s");
+
+    return new StringBuilder(sql.length() + placeholders.length())
+            .append(sql, 0, index)
+            .append(placeholders)
+            .append(sql, index + 2, sql.length())
+            .toString();
+  }
+
+  private static void bind(PreparedStatement stmt, Object[] parameters, List<String> keys) throws SQLException {
+    int index = 1;
+
+    for(Object parameter : parameters){
+      stmt.setObject(index++, parameter);
+    }
+
+    for(String key : keys){
+      stmt.setString(index++, key);
+    }
   }
 }
@@ -18,6 +18,7 @@ package org.jconfigurations.source;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import org.jconfigurations.util.CompactStringMap;
 
 /**
  * <pre>
@@ -36,9 +37,10 @@ public class MapConfigurationSource implements ConfigurationSource {
    * @throws NullPointerException if {@code configurations} is {@code null}.
    */
   public MapConfigurationSource(Map<String, String> configurations) {
-    this.configurations = Collections.unmodifiableMap(
-            Objects.requireNonNull(configurations, "null configurations")
-    );
+    Objects.requireNonNull(configurations, "null configurations");
+    this.configurations = configurations instanceof CompactStringMap 
+            ? configurations 
+            : Collections.unmodifiableMap(configurations);
   }
 
   @Override
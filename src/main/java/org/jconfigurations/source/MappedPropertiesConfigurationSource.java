@@ -0,0 +1,469 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * <p>A {@link ConfigurationSource} for very large {@code .properties} files.</p>
+ * 
+ * <p>The file is memory-mapped and scanned once in order to build a compact index with the 
+ * offsets of each key and value; no strings are created for them. The 
+ * {@link #configurations() configurations} are a read-only view over that index: a value is 
+ * only decoded when it is looked up, and every time it is looked up. Configurators only look
+ * up the configurations of the fields they configure, so values that are never needed are never
+ * decoded.</p>
+ * 
+ * <p>The file must use the format understood by {@link java.util.Properties#load(java.io.InputStream)}, 
+ * including its ISO 8859-1 encoding, and must not be modified while it is in use. 
+ * Files larger than 2GB are not supported.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see PropertiesConfigurationSource
+ */
+public class MappedPropertiesConfigurationSource implements ConfigurationSource {
+  private final Map<String, String> configurations;
+
+  /**
+   * 
+   * @param file the {@code .properties} file
+   * @throws ConfigurationException if the file cannot be read or is malformed
+   * @throws NullPointerException if {@code file} is {@code null}.
+   */
+  public MappedPropertiesConfigurationSource(Path file) throws ConfigurationException {
+    requireNonNull(file, "null file");
+    final ByteBuffer buffer;
+
+    try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+      if(channel.size() > Integer.MAX_VALUE){
+        throw new ConfigurationException(String.format("File '%s' is larger than 2GB", file));
+      }
+
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }catch(IOException e){
+      throw new ConfigurationException(String.format("Unable to map file '%s'", file), e);
+    }
+
+    try{
+      this.configurations = new Index(buffer);
+    }catch(IllegalArgumentException e){
+      throw new ConfigurationException(String.format("Malformed file '%s'", file), e);
+    }
+  }
+
+  @Override
+  public Map<String, String> configurations() {
+    return configurations;
+  }
+
+  /*
+   * Offsets of the keys and values of every entry in the file, in the order they appear,
+   * plus an open-addressing hash table of the indexes of the entries that are in effect 
+   * (later entries override earlier entries with the same key). Keys containing escape
+   * sequences are decoded while indexing and kept in escapedKeys, parallel to the sorted
+   * escapedEntries; everything else is compared and decoded in place.
+   */
+  private static final class Index extends AbstractMap<String, String> {
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int[] keyStarts = new int[64];
+    private int[] keyEnds = new int[64];
+    private int[] valueStarts = new int[64];
+    private int[] valueEnds = new int[64];
+    private int[] hashes = new int[64];
+    private int[] escapedEntries = new int[8];
+    private String[] escapedKeys = new String[8];
+    private int escapes;
+    private int entries;
+    private int[] table;
+    private int size;
+    private Set<Map.Entry<String, String>> entrySet;
+
+    private Index(ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.limit = buffer.limit();
+      scan();
+      table = new int[Integer.highestOneBit(Math.max(entries, 1) * 2) * 2];
+
+      for(int entry = 0; entry < entries; entry++){
+        insert(entry);
+      }
+    }
+
+    @Override
+    public String get(Object key) {
+      final int entry = find(key);
+
+      return entry < 0 ? null : decode(valueStarts[entry], valueEnds[entry]);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return find(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+      if(entrySet == null){
+        entrySet = new AbstractSet<Map.Entry<String, String>>(){
+          @Override
+          public Iterator<Map.Entry<String, String>> iterator() {
+            return new Iterator<Map.Entry<String, String>>(){
+              private int slot = advance(0);
+
+              @Override
+              public boolean hasNext() {
+                return slot < table.length;
+              }
+
+              @Override
+              public Map.Entry<String, String> next() {
+                if(!hasNext()){
+                  throw new NoSuchElementException();
+                }
+
+                final int entry = table[slot] - 1;
+                slot = advance(slot + 1);
+
+                return new AbstractMap.SimpleImmutableEntry<>(key(entry), decode(valueStarts[entry], valueEnds[entry]));
+              }
+            };
+          }
+
+          @Override
+          public int size() {
+            return size;
+          }
+        };
+      }
+
+      return entrySet;
+    }
+
+    private int advance(int slot) {
+      while(slot < table.length && table[slot] == 0){
+        slot++;
+      }
+
+      return slot;
+    }
+
+    private int find(Object key) {
+      if(!(key instanceof String)){
+        return -1;
+      }
+
+      final String name = (String) key;
+      final int mask = table.length - 1;
+
+      for(int slot = spread(name.hashCode()) & mask; table[slot] != 0; slot = (slot + 1) & mask){
+        final int entry = table[slot] - 1;
+
+        if(hashes[entry] == name.hashCode() && keyEquals(entry, name)){
+          return entry;
+        }
+      }
+
+      return -1;
+    }
+
+    private void insert(int entry) {
+      final int mask = table.length - 1;
+      int slot = spread(hashes[entry]) & mask;
+
+      while(table[slot] != 0){
+        final int other = table[slot] - 1;
+
+        if(hashes[other] == hashes[entry] && keyEquals(other, key(entry))){
+          table[slot] = entry + 1;
+          return;
+        }
+
+        slot = (slot + 1) & mask;
+      }
+
+      table[slot] = entry + 1;
+      size++;
+    }
+
+    private boolean keyEquals(int entry, String name) {
+      final String escaped = escaped(entry);
+
+      if(escaped != null){
+        return escaped.equals(name);
+      }
+
+      final int start = keyStarts[entry];
+
+      if(keyEnds[entry] - start != name.length()){
+        return false;
+      }
+
+      for(int i = 0; i < name.length(); i++){
+        if(at(start + i) != name.charAt(i)){
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private String key(int entry) {
+      final String escaped = escaped(entry);
+
+      return escaped != null ? escaped : decode(keyStarts[entry], keyEnds[entry]);
+    }
+
+    /*
+     * Returns the decoded key of the entry if it contains escape sequences, null otherwise.
+     */
+    private String escaped(int entry) {
+      if(escapes == 0){
+        return null;
+      }
+
+      final int i = Arrays.binarySearch(escapedEntries, 0, escapes, entry);
+
+      return i < 0 ? null : escapedKeys[i];
+    }
+
+    private void scan() {
+      int pos = 0;
+
+      while(pos < limit){
+        final char c = at(pos);
+
+        if(c == ' ' || c == '\t' || c == '\f' || c == '\n' || c == '\r'){
+          pos++;
+        }else if(c == '#' || c == '!'){
+          while(pos < limit && at(pos) != '\n' && at(pos) != '\r'){
+            pos++;
+          }
+        }else{
+          pos = entry(pos);
+        }
+      }
+    }
+
+    /*
+     * Indexes the entry that starts at pos and returns the position where it ends.
+     */
+    private int entry(int pos) {
+      final int keyStart = pos;
+      boolean escaped = false;
+      int hash = 0;
+      int i = pos;
+
+      while(i < limit){
+        final char c = at(i);
+
+        if(c == '\\'){
+          escaped = true;
+          i = escape(i);
+        }else if(c == '=' || c == ':' || c == ' ' || c == '\t' || c == '\f' || c == '\n' || c == '\r'){
+          break;
+        }else{
+          hash = 31 * hash + c;
+          i++;
+        }
+      }
+
+      final int keyEnd = Math.min(i, limit);
+      i = skipWhitespace(keyEnd);
+
+      if(i < limit && (at(i) == '=' || at(i) == ':')){
+        i = skipWhitespace(i + 1);
+      }
+
+      final int valueStart = Math.min(i, limit);
+
+      while(i < limit){
+        final char c = at(i);
+
+        if(c == '\\'){
+          i = escape(i);
+        }else if(c == '\n' || c == '\r'){
+          break;
+        }else{
+          i++;
+        }
+      }
+
+      final int valueEnd = Math.min(i, limit);
+
+      if(entries == keyStarts.length){
+        final int capacity = entries * 2;
+        keyStarts = Arrays.copyOf(keyStarts, capacity);
+        keyEnds = Arrays.copyOf(keyEnds, capacity);
+        valueStarts = Arrays.copyOf(valueStarts, capacity);
+        valueEnds = Arrays.copyOf(valueEnds, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+      }
+
+      keyStarts[entries] = keyStart;
+      keyEnds[entries] = keyEnd;
+      valueStarts[entries] = valueStart;
+      valueEnds[entries] = valueEnd;
+
+      if(escaped){
+        final String key = decode(keyStart, keyEnd);
+
+        if(escapes == escapedEntries.length){
+          escapedEntries = Arrays.copyOf(escapedEntries, escapes * 2);
+          escapedKeys = Arrays.copyOf(escapedKeys, escapes * 2);
+        }
+
+        //entries are indexed in order, so escapedEntries stays sorted
+        escapedEntries[escapes] = entries;
+        escapedKeys[escapes] = key;
+        escapes++;
+        hash = key.hashCode();
+      }
+
+      hashes[entries] = hash;
+      entries++;
+
+      return i;
+    }
+
+    /*
+     * Skips the escape sequence or line continuation that starts with the backslash at i.
+     */
+    private int escape(int i) {
+      if(i + 1 >= limit){
+        return limit;
+      }
+
+      final char c = at(i + 1);
+
+      if(c == '\n' || c == '\r'){
+        return continuation(i + 1);
+      }else if(c == 'u'){
+        if(i + 6 > limit){
+          throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+        }
+
+        for(int j = i + 2; j < i + 6; j++){
+          if(Character.digit(at(j), 16) < 0){
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+          }
+        }
+
+        return i + 6;
+      }
+
+      return i + 2;
+    }
+
+    /*
+     * Skips the line terminator at i and the whitespace at the beginning of the following line.
+     */
+    private int continuation(int i) {
+      if(at(i) == '\r' && i + 1 < limit && at(i + 1) == '\n'){
+        i += 2;
+      }else{
+        i++;
+      }
+
+      while(i < limit && (at(i) == ' ' || at(i) == '\t' || at(i) == '\f')){
+        i++;
+      }
+
+      return i;
+    }
+
+    private int skipWhitespace(int i) {
+      while(i < limit){
+        final char c = at(i);
+
+        if(c == ' ' || c == '\t' || c == '\f'){
+          i++;
+        }else if(c == '\\' && i + 1 < limit && (at(i + 1) == '\n' || at(i + 1) == '\r')){
+          i = continuation(i + 1);
+        }else{
+          break;
+        }
+      }
+
+      return i;
+    }
+
+    private String decode(int start, int end) {
+      final char[] chars = new char[end - start];
+      int length = 0;
+      int i = start;
+
+      while(i < end){
+        char c = at(i++);
+
+        if(c == '\\'){
+          if(i >= end){
+            break;
+          }
+
+          c = at(i++);
+
+          if(c == '\n' || c == '\r'){
+            i = continuation(i - 1);
+            continue;
+          }else if(c == 'u'){
+            c = (char) Integer.parseInt(new String(new char[]{at(i), at(i + 1), at(i + 2), at(i + 3)}), 16);
+            i += 4;
+          }else if(c == 't'){
+            c = '\t';
+          }else if(c == 'r'){
+            c = '\r';
+          }else if(c == 'n'){
+            c = '\n';
+          }else if(c == 'f'){
+            c = '\f';
+          }
+        }
+
+        chars[length++] = c;
+      }
+
+      return new String(chars, 0, length);
+    }
+
+    private char at(int i) {
+      return (char) (buffer.get(i) & 0xff);
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.CompactStringMap;
+
+/**
+ * <p>A {@link ReloadableConfigurationSource} backed by a database table that is polled 
+ * periodically for rows that changed since the last poll.</p>
+ * 
+ * <p>The table must have a column that increases every time a row is inserted or updated, 
+ * such as a version number or an {@code updated_at} timestamp. The query must select the 
+ * configuration's name, its value and that column, in that order, from the rows whose column
+ * is greater than the single parameter of the query. Eg:</p>
+ * 
+ * <pre>
+ * SELECT name, value, version FROM settings WHERE version &gt; ?
+ * </pre>
+ * 
+ * <p>Each {@link #poll() poll} only reads those rows, merges them into a copy of the current
+ * configurations and publishes the result as a new snapshot; nothing is published if no rows 
+ * changed. Rows that represent deleted configurations are recognized with a {@link Tombstone}
+ * and removed from the configurations. If a poll fails the current configurations are kept
+ * and the {@link ConfigurationListener listeners} are notified.</p>
+ * 
+ * <p>Instances must be {@link #close() closed} in order to stop polling, which also completes the
+ * stream of {@link #events() events}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see JdbcConfigurationSource
+ */
+public class PollingJdbcConfigurationSource extends ReloadableConfigurationSource implements Closeable {
+  private final DataSource dataSource;
+  private final String sql;
+  private final int fetchSize;
+  private final Tombstone tombstone;
+  private final ScheduledExecutorService scheduler;
+  private Object last;
+
+  /**
+   * Recognizes the rows that represent deleted configurations.
+   */
+  @FunctionalInterface
+  public interface Tombstone {
+    /**
+     * 
+     * @param row the {@link ResultSet} positioned at the current row
+     * @return {@code true} if the row's configuration has been deleted
+     * @throws SQLException if a JDBC error occurs
+     */
+    public boolean isDeleted(ResultSet row) throws SQLException;
+  }
+
+  /**
+   * <p>The configurations are eagerly loaded, by running the query with {@code initial} 
+   * as parameter, and therefore {@link #configurations()} can be called safely.</p>
+   * 
+   * @param dataSource provides a {@link Connection} for each poll, which is closed afterwards
+   * @param sql the query (see {@link PollingJdbcConfigurationSource above})
+   * @param initial a value lower than that of any row (eg. {@code 0L}); numbers are compared by 
+   *     value, whatever the type of the column's values, and any other values must be comparable 
+   *     with them (eg. a {@link java.sql.Timestamp} for a {@code TIMESTAMP} column) 
+   * @param fetchSize the number of rows to fetch from the database at a time, or {@code 0} to
+   *     let the driver decide
+   * @param interval the delay between the end of a poll and the start of the next one
+   * @param unit the unit of {@code interval}
+   * @param tombstone recognizes the rows that represent deleted configurations
+   * @throws ConfigurationException if the configurations cannot be loaded
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   * @throws IllegalArgumentException if {@code fetchSize} is negative or {@code interval} is not positive
+   */
+  public PollingJdbcConfigurationSource(
+          DataSource dataSource,
+          String sql,
+          Object initial,
+          int fetchSize,
+          long interval,
+          TimeUnit unit,
+          Tombstone tombstone
+  ) throws ConfigurationException {
+    this(
+            dataSource, 
+            sql, 
+            fetchSize, 
+            interval, 
+            unit, 
+            tombstone, 
+            query(dataSource, sql, initial, fetchSize, tombstone, interval, unit)
+    );
+  }
+
+  private PollingJdbcConfigurationSource(
+          DataSource dataSource,
+          String sql,
+          int fetchSize,
+          long interval,
+          TimeUnit unit,
+          Tombstone tombstone,
+          Delta initial
+  ) {
+    super(initial.changes);
+    this.dataSource = dataSource;
+    this.sql = sql;
+    this.fetchSize = fetchSize;
+    this.tombstone = tombstone;
+    this.last = initial.last;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "jconfigurations-poller");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.scheduleWithFixedDelay(this::tick, interval, interval, unit);
+  }
+
+  /**
+   * No rows are considered deleted.
+   * 
+   * @param dataSource provides a {@link Connection} for each poll, which is closed afterwards
+   * @param sql the query (see {@link PollingJdbcConfigurationSource above})
+   * @param initial a value lower than that of any row (eg. {@code 0L}) 
+   * @param fetchSize the number of rows to fetch from the database at a time, or {@code 0} to
+   *     let the driver decide
+   * @param interval the delay between the end of a poll and the start of the next one
+   * @param unit the unit of {@code interval}
+   * @throws ConfigurationException if the configurations cannot be loaded
+   * @throws NullPointerException if any of the parameters is {@code null}.
+   * @throws IllegalArgumentException if {@code fetchSize} is negative or {@code interval} is not positive
+   * @see #PollingJdbcConfigurationSource(javax.sql.DataSource, java.lang.String, java.lang.Object, int, long, java.util.concurrent.TimeUnit, org.jconfigurations.source.PollingJdbcConfigurationSource.Tombstone) 
+   */
+  public PollingJdbcConfigurationSource(
+          DataSource dataSource,
+          String sql,
+          Object initial,
+          int fetchSize,
+          long interval,
+          TimeUnit unit
+  ) throws ConfigurationException {
+    this(dataSource, sql, initial, fetchSize, interval, unit, row -> false);
+  }
+
+  /**
+   * Reads the rows that changed since the last poll and publishes them, if any.
+   * Polls are performed periodically, but may also be triggered manually.
+   * 
+   * @return the version of the current snapshot
+   * @throws ConfigurationException if the rows cannot be read
+   */
+  public synchronized long poll() throws ConfigurationException {
+    final Delta delta;
+
+    try{
+      delta = query(dataSource, sql, last, fetchSize, tombstone);
+    }catch(ConfigurationException e){
+      failed(e);
+      throw e;
+    }
+
+    if(delta.changes.isEmpty() && delta.deletions.isEmpty()){
+      last = delta.last;
+      return version();
+    }
+
+    final Map<String, String> merged = new HashMap<>(configurations());
+    merged.keySet().removeAll(delta.deletions);
+    merged.putAll(delta.changes);
+    final long version = replace(CompactStringMap.copyOf(merged));
+    //only move past the rows once they have been published, so that they are read again otherwise
+    last = delta.last;
+
+    return version;
+  }
+
+  /**
+   * Stops polling. The current configurations remain available.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    events().complete();
+  }
+
+  private void tick() {
+    try{
+      poll();
+    }catch(ConfigurationException e){
+      //the listeners have been notified
+    }catch(RuntimeException e){
+      Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+    }
+  }
+
+  private static Delta query(
+          DataSource dataSource,
+          String sql,
+          Object initial,
+          int fetchSize,
+          Tombstone tombstone,
+          long interval,
+          TimeUnit unit
+  ) throws ConfigurationException {
+    requireNonNull(unit, "null unit");
+
+    if(interval <= 0){
+      throw new IllegalArgumentException("interval must be positive");
+    }
+
+    return query(
+            requireNonNull(dataSource, "null dataSource"), 
+            requireNonNull(sql, "null sql"), 
+            requireNonNull(initial, "null initial"), 
+            fetchSize, 
+            requireNonNull(tombstone, "null tombstone")
+    );
+  }
+
+  private static Delta query(
+          DataSource dataSource, 
+          String sql, 
+          Object since, 
+          int fetchSize, 
+          Tombstone tombstone
+  ) throws ConfigurationException {
+    if(fetchSize < 0){
+      throw new IllegalArgumentException("negative fetchSize");
+    }
+
+    final Delta delta = new Delta(since);
+
+    try(Connection conn = dataSource.getConnection();
+            PreparedStatement stmt = conn.prepareStatement(sql)){
+      stmt.setFetchSize(fetchSize);
+      stmt.setObject(1, since);
+
+      try(ResultSet row = stmt.executeQuery()){
+        while(row.next()){
+          final String name = row.getString(1);
+          final Object version = row.getObject(3);
+
+          if(name == null){
+            throw new ConfigurationException(String.format("Null configuration name returned by '%s'", sql));
+          }
+
+          if(tombstone.isDeleted(row)){
+            delta.changes.remove(name);
+            delta.deletions.add(name);
+          }else{
+            delta.changes.put(name, row.getString(2));
+            delta.deletions.remove(name);
+          }
+
+          if(version != null && greater(version, delta.last)){
+            delta.last = version;
+          }
+        }
+      }
+    }catch(SQLException | ClassCastException e){
+      throw new ConfigurationException(String.format("Unable to poll configurations with '%s'", sql), e);
+    }
+
+    return delta;
+  }
+
+  /*
+   * Drivers return the column's values with the type of their choice (eg. an Integer for an INTEGER
+   * column), which need not be the type of the initial value; numbers are therefore compared by value.
+   */
+  @SuppressWarnings("unchecked")
+  private static boolean greater(Object version, Object max) {
+    if(version instanceof Number && max instanceof Number){
+      return decimal((Number) version).compareTo(decimal((Number) max)) > 0;
+    }
+
+    return ((Comparable<Object>) version).compareTo(max) > 0;
+  }
+
+  private static BigDecimal decimal(Number number) {
+    if(number instanceof BigDecimal){
+      return (BigDecimal) number;
+    }else if(number instanceof BigInteger){
+      return new BigDecimal((BigInteger) number);
+    }else if(number instanceof Double || number instanceof Float){
+      return BigDecimal.valueOf(number.doubleValue());
+    }
+
+    return BigDecimal.valueOf(number.longValue());
+  }
+
+  private static final class Delta {
+    private final Map<String, String> changes = new HashMap<>();
+    private final Set<String> deletions = new HashSet<>();
+    private Object last;
+
+    private Delta(Object last) {
+      this.last = last;
+    }
+  }
+}
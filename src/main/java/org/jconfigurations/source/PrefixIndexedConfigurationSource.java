@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import org.jconfigurations.Prefix;
+
+/**
+ * <p>A {@link ConfigurationSource} indexed by the hierarchical names of its configurations
+ * (eg. {@code db.pool.max}), so that all configurations under a prefix can be
+ * {@link #subset(java.lang.String) selected} without scanning them.</p>
+ * 
+ * <p>Names are kept in a sorted array: a subset is the range of names that start with 
+ * the prefix, found with two binary searches, and is a view that shares the arrays of 
+ * its parent. Looking up a configuration is also a binary search.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see Prefix
+ */
+public final class PrefixIndexedConfigurationSource implements ConfigurationSource {
+  private final String[] names;
+  private final String[] values;
+  private final int from;
+  private final int to;
+  private final int offset;
+  private final Map<String, String> configurations = new View();
+
+  /**
+   * 
+   * @param configurations the configurations to index, which are copied
+   * @throws NullPointerException if {@code configurations} or any of its keys is {@code null}.
+   */
+  public PrefixIndexedConfigurationSource(Map<String, String> configurations) {
+    requireNonNull(configurations, "null configurations");
+    this.names = configurations.keySet().toArray(new String[configurations.size()]);
+    Arrays.sort(names);
+    this.values = new String[names.length];
+
+    for(int i = 0; i < names.length; i++){
+      values[i] = configurations.get(names[i]);
+    }
+
+    this.from = 0;
+    this.to = names.length;
+    this.offset = 0;
+  }
+
+  /**
+   * 
+   * @param source the source whose current configurations will be indexed
+   * @throws NullPointerException if {@code source} is {@code null}.
+   */
+  public PrefixIndexedConfigurationSource(ConfigurationSource source) {
+    this(requireNonNull(source, "null source").configurations());
+  }
+
+  private PrefixIndexedConfigurationSource(String[] names, String[] values, int from, int to, int offset) {
+    this.names = names;
+    this.values = values;
+    this.from = from;
+    this.to = to;
+    this.offset = offset;
+  }
+
+  @Override
+  public Map<String, String> configurations() {
+    return configurations;
+  }
+
+  /**
+   * The configurations whose names start with {@code prefix} followed by a {@code '.'}, 
+   * named without them. For example, {@code subset("db.pool")} contains {@code db.pool.max}
+   * named as {@code max}, but not {@code db.poolSize}.
+   * 
+   * @param prefix the namespace, with or without the trailing {@code '.'}
+   * @return a view of the configurations in the namespace
+   * @throws NullPointerException if {@code prefix} is {@code null}.
+   * @throws IllegalArgumentException if {@code prefix} is empty.
+   */
+  public PrefixIndexedConfigurationSource subset(String prefix) {
+    if(requireNonNull(prefix, "null prefix").isEmpty()){
+      throw new IllegalArgumentException("empty prefix");
+    }
+
+    final String namespace = prefix.endsWith(".") ? prefix : prefix + '.';
+    final String end = namespace.substring(0, namespace.length() - 1) + (char) ('.' + 1);
+
+    return new PrefixIndexedConfigurationSource(
+            names, 
+            values, 
+            lowerBound(namespace), 
+            lowerBound(end), 
+            offset + namespace.length()
+    );
+  }
+
+  /*
+   * The index of the first name in range that is not less than name.
+   */
+  private int lowerBound(String name) {
+    int low = from;
+    int high = to;
+
+    while(low < high){
+      final int middle = (low + high) >>> 1;
+
+      if(compare(names[middle], name) < 0){
+        low = middle + 1;
+      }else{
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  private int indexOf(Object name) {
+    if(!(name instanceof String)){
+      return -1;
+    }
+
+    final int i = lowerBound((String) name);
+
+    return i < to && compare(names[i], (String) name) == 0 ? i : -1;
+  }
+
+  /*
+   * Compares the name without the prefix of this subset with another name, without copying it.
+   */
+  private int compare(String prefixed, String name) {
+    final int length = Math.min(prefixed.length() - offset, name.length());
+
+    for(int i = 0; i < length; i++){
+      final int difference = prefixed.charAt(offset + i) - name.charAt(i);
+
+      if(difference != 0){
+        return difference;
+      }
+    }
+
+    return prefixed.length() - offset - name.length();
+  }
+
+  private final class View extends AbstractMap<String, String> {
+    @Override
+    public String get(Object name) {
+      final int i = indexOf(name);
+
+      return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+      return indexOf(name) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+      return new AbstractSet<Map.Entry<String, String>>(){
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+          return new Iterator<Map.Entry<String, String>>(){
+            private int next = from;
+
+            @Override
+            public boolean hasNext() {
+              return next < to;
+            }
+
+            @Override
+            public Map.Entry<String, String> next() {
+              if(!hasNext()){
+                throw new NoSuchElementException();
+              }
+
+              final int i = next++;
+
+              return new AbstractMap.SimpleImmutableEntry<>(names[i].substring(offset), values[i]);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return to - from;
+        }
+      };
+    }
+  }
+}
@@ -15,11 +15,11 @@
  */
 package org.jconfigurations.source;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import static java.util.Objects.requireNonNull;
 import java.util.Properties;
+import org.jconfigurations.util.CompactStringMap;
 
 /**
  * <pre>
@@ -43,7 +43,7 @@ public class PropertiesConfigurationSource implements ConfigurationSource {
                     k -> tmp.put(k, properties.getProperty(k))
             );
 
-    configurations = Collections.unmodifiableMap(tmp);
+    configurations = CompactStringMap.copyOf(tmp);
   }
 
   @Override
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import static java.util.Objects.requireNonNull;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.ErrorSupplier;
+
+/**
+ * <p>A {@link ReloadableConfigurationSource} backed by a {@code .properties} file that
+ * is reloaded automatically whenever the file changes.</p>
+ * 
+ * <p>Changes are detected with a {@link WatchService} on a daemon thread. Bursts of changes
+ * (eg. an editor writing the file in several steps) are debounced: the file is only reloaded 
+ * once no further changes have been detected for the debounce period. The file is parsed
+ * on the watching thread and the new configurations are then published as a whole, so
+ * threads reading the {@link #configurations() configurations} never wait for it, and never 
+ * see a partially parsed file. If the file cannot be read the current configurations are kept
+ * and the {@link ConfigurationListener listeners} are notified.</p>
+ * 
+ * <p>Instances must be {@link #close() closed} in order to stop watching the file, which also
+ * completes the stream of {@link #events() events}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see PropertiesConfigurationSource
+ */
+public class PropertiesFileConfigurationSource extends ReloadableConfigurationSource implements Closeable {
+  private static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+  private final Path file;
+  private final long debounceNanos;
+  private final WatchService watcher;
+  private final Thread thread;
+
+  /**
+   * <p>The file is eagerly loaded and therefore {@link #configurations()} can be 
+   * called safely.</p>
+   * 
+   * @param file the {@code .properties} file
+   * @param debounce how long to wait for further changes before reloading the file
+   * @param unit the unit of {@code debounce}
+   * @throws ConfigurationException if the file cannot be read or watched
+   * @throws NullPointerException if {@code file} or {@code unit} is {@code null}.
+   * @throws IllegalArgumentException if {@code debounce} is negative.
+   */
+  public PropertiesFileConfigurationSource(Path file, long debounce, TimeUnit unit) throws ConfigurationException {
+    super(loader(requireNonNull(file, "null file").toAbsolutePath()));
+    this.file = file.toAbsolutePath();
+
+    if(debounce < 0){
+      throw new IllegalArgumentException("negative debounce");
+    }
+
+    this.debounceNanos = requireNonNull(unit, "null unit").toNanos(debounce);
+
+    try{
+      this.watcher = this.file.getFileSystem().newWatchService();
+    }catch(IOException e){
+      throw new ConfigurationException(String.format("Unable to watch file '%s'", this.file), e);
+    }
+
+    try{
+      this.file.getParent().register(
+              watcher, 
+              StandardWatchEventKinds.ENTRY_CREATE, 
+              StandardWatchEventKinds.ENTRY_MODIFY
+      );
+    }catch(IOException e){
+      close();
+      throw new ConfigurationException(String.format("Unable to watch file '%s'", this.file), e);
+    }
+
+    this.thread = new Thread(this::watch, "jconfigurations-watcher-" + this.file.getFileName());
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * Defaults to a debounce period of 200 milliseconds.
+   * 
+   * @param file the {@code .properties} file
+   * @throws ConfigurationException if the file cannot be read or watched
+   * @throws NullPointerException if {@code file} is {@code null}.
+   * @see #PropertiesFileConfigurationSource(java.nio.file.Path, long, java.util.concurrent.TimeUnit) 
+   */
+  public PropertiesFileConfigurationSource(Path file) throws ConfigurationException {
+    this(file, DEFAULT_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops watching the file. The current configurations remain available.
+   */
+  @Override
+  public void close() {
+    try{
+      watcher.close();
+    }catch(IOException e){
+      //the watcher is unusable either way
+    }
+
+    if(thread != null){
+      thread.interrupt();
+    }
+
+    events().complete();
+  }
+
+  private void watch() {
+    try{
+      while(true){
+        if(!changed(watcher.take())){
+          continue;
+        }
+
+        //only events for the watched file push the deadline back
+        long deadline = System.nanoTime() + debounceNanos;
+        long remaining;
+        WatchKey key;
+
+        while((remaining = deadline - System.nanoTime()) > 0
+                && (key = watcher.poll(remaining, TimeUnit.NANOSECONDS)) != null){
+          if(changed(key)){
+            deadline = System.nanoTime() + debounceNanos;
+          }
+        }
+
+        try{
+          reload();
+        }catch(ConfigurationException e){
+          //the listeners have been notified
+        }catch(RuntimeException e){
+          thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+      }
+    }catch(InterruptedException | ClosedWatchServiceException e){
+      //closed
+    }
+  }
+
+  private boolean changed(WatchKey key) {
+    boolean changed = false;
+
+    for(WatchEvent<?> event : key.pollEvents()){
+      changed |= event.kind() == StandardWatchEventKinds.OVERFLOW 
+              || file.getFileName().equals(event.context());
+    }
+
+    key.reset();
+
+    return changed;
+  }
+
+  private static ErrorSupplier<ConfigurationSource> loader(Path file) {
+    return () -> {
+      final Properties properties = new Properties();
+
+      try(InputStream input = Files.newInputStream(file)){
+        properties.load(input);
+      }catch(IOException | IllegalArgumentException e){
+        throw new ConfigurationException(String.format("Unable to read file '%s'", file), e);
+      }
+
+      return new PropertiesConfigurationSource(properties);
+    };
+  }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import static java.util.Objects.requireNonNull;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.util.CompactStringMap;
+import org.jconfigurations.util.ErrorSupplier;
+
+/**
+ * <p>A {@link ConfigurationSource} whose configurations can be replaced at runtime.</p>
+ * 
+ * <p>The configurations are kept in an immutable snapshot that is swapped atomically every time 
+ * the source is {@link #reload() reloaded} or new configurations are {@link #publish(java.util.Map) published}.
+ * Reading the configurations never locks. Each call to {@link #configurations()} returns 
+ * one complete snapshot that never changes afterwards, so a {@link org.jconfigurations.configurators.Configurator configurator}
+ * always sees one consistent version of the configurations for the duration of a 
+ * {@link org.jconfigurations.configurators.Configurator#configure(java.lang.Object) configuration}, 
+ * even while a reload runs on another thread.</p>
+ *
+ * <p>Note that each link in a chain of configurators obtains its own snapshot. Use a
+ * {@link org.jconfigurations.configurators.SinglePassConfigurator} or a 
+ * {@link org.jconfigurations.configurators.CompilingConfigurator} if all of an object's
+ * fields must be configured from the same version.</p>
+ *
+ * <p>Registered {@link ConfigurationListener listeners} are notified every time the 
+ * configurations are replaced or fail to be reloaded. The changes to individual configurations
+ * are also published as a stream of {@link #events() events}. Notifications are delivered by one
+ * thread at a time, in increasing order of version, outside of any lock: a thread that replaces 
+ * the configurations while another one is delivering notifications returns right away, and its
+ * notifications are delivered by the other thread once the previous ones have been. A slow listener
+ * therefore delays notifications, but never the replacements themselves.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ReloadableConfigurationSource implements ConfigurationSource {
+  private final ErrorSupplier<? extends ConfigurationSource> loader;
+  private final AtomicReference<Snapshot> snapshot;
+  private final PriorityBlockingQueue<Delivery> pending = new PriorityBlockingQueue<>(
+          11, 
+          Comparator.comparingLong((Delivery d) -> d.version)
+  );
+  private final AtomicBoolean delivering = new AtomicBoolean();
+  private volatile long delivered;
+  private final List<ConfigurationListener> listeners = new CopyOnWriteArrayList<>();
+  private final ConfigurationEventPublisher events = new ConfigurationEventPublisher();
+
+  /**
+   * <p>The configurations are eagerly loaded and therefore {@link #configurations()} can be 
+   * called safely.</p>
+   * 
+   * @param loader produces a {@link ConfigurationSource source} with the current configurations
+   *     every time this source is {@link #reload() reloaded} (eg. 
+   *     {@code () -> new PropertiesConfigurationSource(readProperties())})
+   * @throws ConfigurationException if {@code loader} fails to load the initial configurations
+   * @throws NullPointerException if {@code loader} is {@code null}.
+   */
+  public ReloadableConfigurationSource(ErrorSupplier<? extends ConfigurationSource> loader) throws ConfigurationException {
+    this.loader = requireNonNull(loader, "null loader");
+    this.snapshot = new AtomicReference<>(new Snapshot(0, load(loader)));
+  }
+
+  /**
+   * The configurations are never reloaded, only {@link #publish(java.util.Map) published}.
+   * 
+   * @param configurations the initial configurations
+   * @throws NullPointerException if {@code configurations} is {@code null}.
+   */
+  public ReloadableConfigurationSource(Map<String, String> configurations) {
+    this.loader = null;
+    this.snapshot = new AtomicReference<>(new Snapshot(0, copy(requireNonNull(configurations, "null configurations"))));
+  }
+
+  /**
+   * 
+   * @return the current snapshot of the configurations
+   */
+  @Override
+  public Map<String, String> configurations() {
+    return snapshot.get().configurations;
+  }
+
+  /**
+   * 
+   * @return the version of the current snapshot of the configurations; it is {@code 0} 
+   *     initially and is incremented every time the configurations are replaced
+   */
+  public long version() {
+    return snapshot.get().version;
+  }
+
+  /**
+   * Replaces the current configurations with the ones produced by this source's loader. 
+   * The current configurations are kept if the loader fails. Exceptions thrown by listeners 
+   * are rethrown once all of them have been notified, unless another thread delivers the
+   * notification (see {@link ReloadableConfigurationSource above}).
+   * 
+   * @return the version of the new snapshot
+   * @throws ConfigurationException if the loader fails to load the configurations
+   * @throws UnsupportedOperationException if this source was not created with a loader
+   */
+  public long reload() throws ConfigurationException {
+    if(loader == null){
+      throw new UnsupportedOperationException("this source has no loader");
+    }
+
+    final Map<String, String> configurations;
+
+    try{
+      configurations = load(loader);
+    }catch(ConfigurationException e){
+      failed(e);
+      throw e;
+    }
+
+    return swap(configurations);
+  }
+
+  /**
+   * Replaces the current configurations with a copy of {@code configurations}.
+   * Exceptions thrown by listeners are rethrown once all of them have been notified,
+   * unless another thread delivers the notification (see {@link ReloadableConfigurationSource above}).
+   * 
+   * @param configurations the new configurations
+   * @return the version of the new snapshot
+   * @throws NullPointerException if {@code configurations} is {@code null}.
+   */
+  public long publish(Map<String, String> configurations) {
+    return swap(copy(requireNonNull(configurations, "null configurations")));
+  }
+
+  /**
+   * Same as {@link #publish(java.util.Map)}, but {@code configurations} is not copied. Meant
+   * for subclasses that build a new map for every snapshot; the map must not be modified afterwards.
+   * 
+   * @param configurations the new configurations
+   * @return the version of the new snapshot
+   * @throws NullPointerException if {@code configurations} is {@code null}.
+   */
+  protected long replace(Map<String, String> configurations) {
+    requireNonNull(configurations, "null configurations");
+
+    return swap(configurations instanceof CompactStringMap ? configurations : Collections.unmodifiableMap(configurations));
+  }
+
+  /**
+   * 
+   * @return the publisher of the changes to individual configurations, with the versions of
+   *     the snapshots that contain them
+   */
+  public ConfigurationEventPublisher events() {
+    return events;
+  }
+
+  /**
+   * Registers a {@link ConfigurationListener listener} to be notified of changes to the configurations.
+   * 
+   * @param listener the listener
+   * @throws NullPointerException if {@code listener} is {@code null}.
+   */
+  public void addListener(ConfigurationListener listener) {
+    listeners.add(requireNonNull(listener, "null listener"));
+  }
+
+  /**
+   * 
+   * @param listener the listener that will no longer be notified
+   * @return {@code true} if {@code listener} was registered
+   */
+  public boolean removeListener(ConfigurationListener listener) {
+    return listeners.remove(listener);
+  }
+
+  /**
+   * Notifies the {@link ConfigurationListener listeners} that the configurations could not
+   * be reloaded. Meant for subclasses that load configurations by other means than
+   * {@link #reload()}.
+   * 
+   * @param error the reason the configurations could not be reloaded
+   */
+  protected void failed(ConfigurationException error) {
+    for(ConfigurationListener listener : listeners){
+      listener.reloadFailed(error);
+    }
+  }
+
+  /*
+   * The snapshot is swapped with a compare-and-set and its notification is queued. Whichever
+   * thread finds no other one delivering then delivers all of the queued notifications whose 
+   * predecessors have been delivered; a notification whose predecessor has not been queued yet
+   * is left to the thread that queues the predecessor. Failures of notifications delivered on
+   * behalf of other threads go to the uncaught exception handler, since those threads are gone.
+   */
+  private long swap(Map<String, String> configurations) {
+    Snapshot current;
+    Snapshot next;
+
+    do{
+      current = snapshot.get();
+      next = new Snapshot(current.version + 1, configurations);
+    }while(!snapshot.compareAndSet(current, next));
+
+    pending.add(new Delivery(next.version, current.configurations, next.configurations));
+    RuntimeException failure = null;
+
+    while(isDeliverable() && delivering.compareAndSet(false, true)){
+      try{
+        Delivery delivery;
+
+        while((delivery = next()) != null){
+          try{
+            events.publish(delivery.version, delivery.previous, delivery.current);
+            notify(delivery.previous, delivery.current);
+          }catch(RuntimeException e){
+            if(delivery.version == next.version){
+              failure = e;
+            }else{
+              Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+            }
+          }
+        }
+      }finally{
+        delivering.set(false);
+      }
+    }
+
+    if(failure != null){
+      throw failure;
+    }
+
+    return next.version;
+  }
+
+  private boolean isDeliverable() {
+    final Delivery head = pending.peek();
+
+    return head != null && head.version == delivered + 1;
+  }
+
+  /*
+   * Only called by the delivering thread.
+   */
+  private Delivery next() {
+    if(!isDeliverable()){
+      return null;
+    }
+
+    final Delivery delivery = pending.poll();
+    delivered = delivery.version;
+
+    return delivery;
+  }
+
+  /*
+   * Every listener is notified even if some of them fail; the first failure is rethrown.
+   */
+  private void notify(Map<String, String> previous, Map<String, String> current) {
+    RuntimeException failure = null;
+
+    for(ConfigurationListener listener : listeners){
+      try{
+        listener.configurationsChanged(previous, current);
+      }catch(RuntimeException e){
+        if(failure == null){
+          failure = e;
+        }else{
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    if(failure != null){
+      throw failure;
+    }
+  }
+
+  private static Map<String, String> load(ErrorSupplier<? extends ConfigurationSource> loader) throws ConfigurationException {
+    final ConfigurationSource source = loader.get();
+
+    if(source == null){
+      throw new ConfigurationException("loader produced a null ConfigurationSource");
+    }
+
+    return copy(source.configurations());
+  }
+
+  private static Map<String, String> copy(Map<String, String> configurations) {
+    return CompactStringMap.copyOf(configurations);
+  }
+
+  private static final class Delivery {
+    private final long version;
+    private final Map<String, String> previous;
+    private final Map<String, String> current;
+
+    private Delivery(long version, Map<String, String> previous, Map<String, String> current) {
+      this.version = version;
+      this.previous = previous;
+      this.current = current;
+    }
+  }
+
+  private static final class Snapshot {
+    private final long version;
+    private final Map<String, String> configurations;
+
+    private Snapshot(long version, Map<String, String> configurations) {
+      this.version = version;
+      this.configurations = configurations;
+    }
+  }
+}
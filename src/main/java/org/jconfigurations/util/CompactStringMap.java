@@ -0,0 +1,288 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>An immutable {@link Map} of strings that takes a fraction of the heap of a {@link java.util.HashMap}.</p>
+ * 
+ * <p>Keys and values are kept in parallel arrays, in the order in which they were copied, and 
+ * are looked up through an open-addressing table of the keys' hash codes and their indexes into those arrays. 
+ * No object is allocated per entry, except by {@link #entrySet()}'s iterator.</p>
+ * 
+ * <p>Keys cannot be {@code null}; values can. Any attempt to modify the map throws an
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public final class CompactStringMap extends AbstractMap<String, String> {
+  private static final CompactStringMap EMPTY = new CompactStringMap(new String[0], new String[0]);
+  private final String[] keys;
+  private final String[] values;
+  private final int[] table;
+  private final int shift;
+  private Set<Map.Entry<String, String>> entrySet;
+
+  private CompactStringMap(String[] keys, String[] values) {
+    this.keys = keys;
+    this.values = values;
+    this.table = new int[capacity(keys.length) * 2];
+    this.shift = shift(table);
+
+    for(int i = 0; i < keys.length; i++){
+      insert(table, shift, requireNonNull(keys[i], "null key").hashCode(), i);
+    }
+  }
+
+  private CompactStringMap(String[] keys, String[] values, int[] table) {
+    this.keys = keys;
+    this.values = values;
+    this.table = table;
+    this.shift = shift(table);
+  }
+
+  /**
+   * 
+   * @param configurations the entries to copy
+   * @return an immutable copy of {@code configurations}, or {@code configurations} itself
+   * if it is already a {@link CompactStringMap}.
+   * @throws NullPointerException if {@code configurations} or any of its keys is {@code null}.
+   */
+  public static CompactStringMap copyOf(Map<String, String> configurations) {
+    if(requireNonNull(configurations, "null configurations") instanceof CompactStringMap){
+      return (CompactStringMap) configurations;
+    }
+
+    if(configurations.isEmpty()){
+      return EMPTY;
+    }
+
+    final String[] keys = new String[configurations.size()];
+    final String[] values = new String[keys.length];
+    int i = 0;
+
+    for(Map.Entry<String, String> entry : configurations.entrySet()){
+      keys[i] = entry.getKey();
+      values[i] = entry.getValue();
+      i++;
+    }
+
+    return new CompactStringMap(keys, values);
+  }
+
+  @Override
+  public String get(Object key) {
+    final int i = indexOf(key);
+
+    return i < 0 ? null : values[i];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super String> action) {
+    requireNonNull(action, "null action");
+
+    for(int i = 0; i < keys.length; i++){
+      action.accept(keys[i], values[i]);
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, String>> entrySet() {
+    if(entrySet == null){
+      entrySet = new AbstractSet<Map.Entry<String, String>>(){
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+          return new Iterator<Map.Entry<String, String>>(){
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+              return next < keys.length;
+            }
+
+            @Override
+            public Map.Entry<String, String> next() {
+              if(!hasNext()){
+                throw new NoSuchElementException();
+              }
+
+              final int i = next++;
+
+              return new AbstractMap.SimpleImmutableEntry<>(keys[i], values[i]);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return keys.length;
+        }
+      };
+    }
+
+    return entrySet;
+  }
+
+  private int indexOf(Object key) {
+    if(!(key instanceof String)){
+      return -1;
+    }
+
+    return indexOf(keys, table, shift, (String) key);
+  }
+
+  private static int indexOf(String[] keys, int[] table, int shift, String key) {
+    final int hash = key.hashCode();
+    final int mask = table.length - 1;
+
+    for(int slot = slot(table, shift, hash); table[slot + 1] != 0; slot = (slot + 2) & mask){
+      if(table[slot] == hash){
+        final int i = table[slot + 1] - 1;
+
+        if(keys[i] == key || keys[i].equals(key)){
+          return i;
+        }
+      }
+    }
+
+    return -1;
+  }
+
+  private static void insert(int[] table, int shift, int hash, int i) {
+    final int mask = table.length - 1;
+    int slot = slot(table, shift, hash);
+
+    while(table[slot + 1] != 0){
+      slot = (slot + 2) & mask;
+    }
+
+    table[slot] = hash;
+    table[slot + 1] = i + 1;
+  }
+
+  /*
+   * The smallest power of two that keeps the table at most three quarters full. Each slot of the table
+   * takes two ints: the hash code of a key, next to the index of the key plus one (0 if the slot is empty).
+   */
+  private static int capacity(int size) {
+    final int minimum = size + (size + 2) / 3;
+
+    return minimum <= 1 ? 1 : Integer.highestOneBit(minimum - 1) << 1;
+  }
+
+  /*
+   * Fibonacci hashing: the hash codes of similar strings, such as those of keys with a common 
+   * prefix, are close to each other and would otherwise cluster in the table.
+   */
+  private static int slot(int[] table, int shift, int hash) {
+    return ((hash * 0x9E3779B9) >>> shift << 1) & (table.length - 1);
+  }
+
+  private static int shift(int[] table) {
+    return Integer.numberOfLeadingZeros(table.length) + 2;
+  }
+
+  /**
+   * <p>Accumulates entries directly into the arrays of a {@link CompactStringMap}, so that large 
+   * maps can be built (eg. row by row from a database) without first being copied into another 
+   * {@link Map}.</p>
+   * 
+   * <p>Entries keep the order in which their keys were first put; putting a key again replaces
+   * its value. A builder must not be used after {@link #build()}.</p>
+   */
+  public static final class Builder {
+    private String[] keys = new String[8];
+    private String[] values = new String[8];
+    private int[] table = new int[capacity(8) * 2];
+    private int shift = shift(table);
+    private int size;
+
+    /**
+     * 
+     * @param key the key
+     * @param value the value, possibly {@code null}
+     * @return this builder
+     * @throws NullPointerException if {@code key} is {@code null}.
+     */
+    public Builder put(String key, String value) {
+      requireNonNull(key, "null key");
+      final int i = indexOf(keys, table, shift, key);
+
+      if(i >= 0){
+        values[i] = value;
+        return this;
+      }
+
+      if(size == keys.length){
+        grow();
+      }
+
+      keys[size] = key;
+      values[size] = value;
+      insert(table, shift, key.hashCode(), size++);
+
+      return this;
+    }
+
+    /**
+     * 
+     * @return a map of the entries put so far
+     */
+    public CompactStringMap build() {
+      if(size == 0){
+        return EMPTY;
+      }
+
+      return new CompactStringMap(Arrays.copyOf(keys, size), Arrays.copyOf(values, size), table);
+    }
+
+    private void grow() {
+      keys = Arrays.copyOf(keys, size * 2);
+      values = Arrays.copyOf(values, size * 2);
+      table = new int[capacity(keys.length) * 2];
+      shift = shift(table);
+
+      for(int i = 0; i < size; i++){
+        insert(table, shift, keys[i].hashCode(), i);
+      }
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.util;
+
+import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * <p>A delimiter that tokenizes strings exactly like {@link String#split(java.lang.String)} 
+ * does, minus the per-call costs.</p>
+ * 
+ * <p>Delimiters without regular expression metacharacters (eg. {@code ","} or {@code "::"}), 
+ * single escaped metacharacters (eg. {@code "\\|"}) and {@code "\\Q...\\E"} quotes are detected 
+ * as literals and tokenized with a plain index scan that doesn't allocate any intermediate arrays. 
+ * Any other delimiter is compiled into a {@link Pattern} only once.</p>
+ * 
+ * <p>Malformed regular expressions are not reported on construction but by 
+ * {@link #tokenize(java.lang.String)}, which is where {@link String#split(java.lang.String)} 
+ * would report them.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public final class Delimiter {
+  private static final String METACHARACTERS = ".$|()[{^?*+\\";
+  private final String delimiter;
+  private final String literal;
+  private final Pattern pattern;
+  private final PatternSyntaxException error;
+
+  /**
+   * 
+   * @param delimiter the delimiter, as it would be passed to {@link String#split(java.lang.String)}
+   * @throws NullPointerException if {@code delimiter} is {@code null}.
+   */
+  public Delimiter(String delimiter) {
+    this.delimiter = requireNonNull(delimiter, "null delimiter");
+    this.literal = literal(delimiter);
+
+    Pattern compiled = null;
+    PatternSyntaxException exception = null;
+
+    if(literal == null){
+      try{
+        compiled = Pattern.compile(delimiter);
+      }catch(PatternSyntaxException e){
+        exception = e;
+      }
+    }
+
+    this.pattern = compiled;
+    this.error = exception;
+  }
+
+  /**
+   * 
+   * @return the delimiter as given to the {@link #Delimiter(java.lang.String) constructor}
+   */
+  public String delimiter() {
+    return delimiter;
+  }
+
+  /**
+   * 
+   * @return whether this delimiter is tokenized with an index scan instead of a regular expression
+   */
+  public boolean isLiteral() {
+    return literal != null;
+  }
+
+  /**
+   * 
+   * @param value the string to tokenize
+   * @return a {@link Tokenizer} over the same tokens that {@link String#split(java.lang.String)} would return
+   * @throws NullPointerException if {@code value} is {@code null}.
+   * @throws PatternSyntaxException if the delimiter is a malformed regular expression.
+   */
+  public Tokenizer tokenize(String value) {
+    if(error != null){
+      throw error;
+    }
+
+    return new Tokenizer(this).reset(value);
+  }
+
+  private static String literal(String delimiter) {
+    if(delimiter.isEmpty()){
+      return null;
+    }
+
+    if(delimiter.length() == 2 
+            && delimiter.charAt(0) == '\\' 
+            && !Character.isLetterOrDigit(delimiter.charAt(1))
+            && delimiter.charAt(1) < 128){
+      return delimiter.substring(1);
+    }
+
+    if(delimiter.length() > 4 && delimiter.startsWith("\\Q") && delimiter.endsWith("\\E")){
+      final String quoted = delimiter.substring(2, delimiter.length() - 2);
+
+      return quoted.contains("\\E") ? null : quoted;
+    }
+
+    for(int i = 0; i < delimiter.length(); i++){
+      if(METACHARACTERS.indexOf(delimiter.charAt(i)) >= 0){
+        return null;
+      }
+    }
+
+    return delimiter;
+  }
+
+  /**
+   * <p>Iterates over the tokens of a string, with the same semantics as 
+   * {@link String#split(java.lang.String)}: the string itself is the only token if the 
+   * delimiter is not found, and trailing empty tokens are not included.</p>
+   * 
+   * <p>A tokenizer can be {@link #reset(java.lang.String) reset} to iterate over another
+   * string with the same delimiter.</p>
+   */
+  public static final class Tokenizer {
+    private final Delimiter delimiter;
+    private String value;
+    private String[] tokens;
+    private int position;
+    private int scan;
+    private boolean whole;
+
+    private Tokenizer(Delimiter delimiter) {
+      this.delimiter = delimiter;
+    }
+
+    /**
+     * 
+     * @param value the string to tokenize next
+     * @return this tokenizer
+     * @throws NullPointerException if {@code value} is {@code null}.
+     */
+    public Tokenizer reset(String value) {
+      this.value = requireNonNull(value, "null value");
+      this.position = 0;
+      this.scan = -1;
+
+      if(delimiter.literal == null){
+        this.tokens = delimiter.pattern.split(value);
+      }else{
+        this.whole = value.indexOf(delimiter.literal) < 0;
+      }
+
+      return this;
+    }
+
+    /**
+     * 
+     * @return whether there are more tokens
+     */
+    public boolean hasNext() {
+      if(tokens != null){
+        return position < tokens.length;
+      }
+
+      if(whole){
+        return position == 0;
+      }
+
+      if(position < 0){
+        return false;
+      }
+
+      if(scan < position){
+        scan = position;
+
+        while(value.startsWith(delimiter.literal, scan)){
+          scan += delimiter.literal.length();
+        }
+      }
+
+      return scan < value.length();
+    }
+
+    /**
+     * 
+     * @return the next token
+     * @throws NoSuchElementException if there are no more tokens
+     */
+    public String next() {
+      if(!hasNext()){
+        throw new NoSuchElementException();
+      }
+
+      if(tokens != null){
+        return tokens[position++];
+      }
+
+      if(whole){
+        position = -1;
+        return value;
+      }
+
+      final int index = value.indexOf(delimiter.literal, position);
+      final String token;
+
+      if(index < 0){
+        token = value.substring(position);
+        position = -1;
+      }else{
+        token = value.substring(position, index);
+        position = index + delimiter.literal.length();
+      }
+
+      return token;
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.util;
+
+import org.jconfigurations.ConfigurationException;
+
+/**
+ * A supplier that can throw an exception.
+ * 
+ * @author George Aristy (george.aristy@gmail.com)
+ * @param <T> the type of results supplied
+ */
+public interface ErrorSupplier<T> {
+  /**
+   * 
+   * @return the result
+   * @throws ConfigurationException if there is an error that impedes the supplier from producing {@code T}.
+   */
+  public T get() throws ConfigurationException;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.writers;
+
+import java.lang.reflect.Field;
+import org.jconfigurations.configurators.Configurator;
+
+/**
+ * <p>{@link FieldWriter}s are used by {@link Configurator configurators} to assign
+ * converted configuration values to an object's field.</p>
+ *
+ * <p>The primitive-specialized methods allow values to be written to primitive fields
+ * without boxing them first. Implementations must behave like the equivalent methods
+ * of {@link Field}, eg. {@link #setInt(java.lang.Object, int)} must behave like
+ * {@link Field#setInt(java.lang.Object, int)}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ * @see MethodHandleFieldWriter
+ * @see ReflectionFieldWriter
+ */
+public interface FieldWriter {
+  /**
+   * Same as {@link Field#set(java.lang.Object, java.lang.Object)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void set(Object object, Object value) throws IllegalAccessException;
+
+  /**
+   * Same as {@link Field#setInt(java.lang.Object, int)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void setInt(Object object, int value) throws IllegalAccessException;
+
+  /**
+   * Same as {@link Field#setLong(java.lang.Object, long)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void setLong(Object object, long value) throws IllegalAccessException;
+
+  /**
+   * Same as {@link Field#setFloat(java.lang.Object, float)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void setFloat(Object object, float value) throws IllegalAccessException;
+
+  /**
+   * Same as {@link Field#setDouble(java.lang.Object, double)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void setDouble(Object object, double value) throws IllegalAccessException;
+
+  /**
+   * Same as {@link Field#setBoolean(java.lang.Object, boolean)}.
+   *
+   * @param object the object whose field should be modified
+   * @param value the new value for the field
+   * @throws IllegalAccessException if the field is inaccessible
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to the field
+   */
+  public void setBoolean(Object object, boolean value) throws IllegalAccessException;
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.writers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>A {@link FieldWriter} that writes to the field through a {@link MethodHandle} setter
+ * that is created once, when the writer is instantiated, instead of going through the
+ * {@link Field}'s reflective access checks on every write.</p>
+ *
+ * <p>Primitive fields of type {@code int}, {@code long}, {@code float}, {@code double} and 
+ * {@code boolean} are written through a setter that is specialized for the field's type, so
+ * the primitive-specialized methods (eg. {@link #setInt(java.lang.Object, int)}) never box 
+ * their values. Any write that the setter cannot perform exactly as-is (eg. widening 
+ * conversions, {@code null}s for primitive fields or values of the wrong type) is handed 
+ * to the {@link Field} itself so that the outcome is the same as with reflection.</p>
+ *
+ * <p>The {@link Field} must be {@link Field#setAccessible(boolean) accessible}. Whether
+ * {@code final} fields can be written to through a method handle depends on the
+ * JVM; {@code static final} fields never can.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class MethodHandleFieldWriter implements FieldWriter {
+  private final Field field;
+  private final Class<?> type;
+  private final boolean isStatic;
+  private final MethodHandle setter;
+
+  /**
+   *
+   * @param field the field to write to
+   * @throws IllegalAccessException if a setter cannot be created for {@code field}, eg.
+   *     because it is inaccessible or {@code final}
+   * @throws NullPointerException if {@code field} is {@code null}.
+   */
+  public MethodHandleFieldWriter(Field field) throws IllegalAccessException {
+    this.field = requireNonNull(field, "null field");
+    this.type = field.getType();
+    this.isStatic = Modifier.isStatic(field.getModifiers());
+
+    MethodHandle handle = MethodHandles.lookup().unreflectSetter(field);
+
+    if(isStatic){
+      handle = MethodHandles.dropArguments(handle, 0, Object.class);
+    }
+
+    this.setter = handle.asType(
+            MethodType.methodType(void.class, Object.class, type.isPrimitive() ? type : Object.class)
+    );
+  }
+
+  @Override
+  public void set(Object object, Object value) throws IllegalAccessException {
+    if(type.isPrimitive()){
+      if(type == int.class && value instanceof Integer){
+        setInt(object, (Integer) value);
+      }else if(type == long.class && value instanceof Long){
+        setLong(object, (Long) value);
+      }else if(type == float.class && value instanceof Float){
+        setFloat(object, (Float) value);
+      }else if(type == double.class && value instanceof Double){
+        setDouble(object, (Double) value);
+      }else if(type == boolean.class && value instanceof Boolean){
+        setBoolean(object, (Boolean) value);
+      }else{
+        field.set(object, value);
+      }
+    }else if(isTarget(object) && (value == null || type.isInstance(value))){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.set(object, value);
+    }
+  }
+
+  @Override
+  public void setInt(Object object, int value) throws IllegalAccessException {
+    if(type == int.class && isTarget(object)){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.setInt(object, value);
+    }
+  }
+
+  @Override
+  public void setLong(Object object, long value) throws IllegalAccessException {
+    if(type == long.class && isTarget(object)){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.setLong(object, value);
+    }
+  }
+
+  @Override
+  public void setFloat(Object object, float value) throws IllegalAccessException {
+    if(type == float.class && isTarget(object)){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.setFloat(object, value);
+    }
+  }
+
+  @Override
+  public void setDouble(Object object, double value) throws IllegalAccessException {
+    if(type == double.class && isTarget(object)){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.setDouble(object, value);
+    }
+  }
+
+  @Override
+  public void setBoolean(Object object, boolean value) throws IllegalAccessException {
+    if(type == boolean.class && isTarget(object)){
+      try{
+        setter.invokeExact(object, value);
+      }catch(Throwable t){
+        throw rethrow(t);
+      }
+    }else{
+      field.setBoolean(object, value);
+    }
+  }
+
+  private boolean isTarget(Object object) {
+    return isStatic || field.getDeclaringClass().isInstance(object);
+  }
+
+  private static RuntimeException rethrow(Throwable t) {
+    if(t instanceof RuntimeException){
+      return (RuntimeException) t;
+    }else if(t instanceof Error){
+      throw (Error) t;
+    }else{
+      return new IllegalStateException(t);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.writers;
+
+import java.lang.reflect.Field;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link FieldWriter} that simply delegates to the {@link Field}'s own methods.
+ *
+ * <p>The {@link Field} must be {@link Field#setAccessible(boolean) accessible}.</p>
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ReflectionFieldWriter implements FieldWriter {
+  private final Field field;
+
+  /**
+   *
+   * @param field the field to write to
+   * @throws NullPointerException if {@code field} is {@code null}.
+   */
+  public ReflectionFieldWriter(Field field) {
+    this.field = requireNonNull(field, "null field");
+  }
+
+  @Override
+  public void set(Object object, Object value) throws IllegalAccessException {
+    field.set(object, value);
+  }
+
+  @Override
+  public void setInt(Object object, int value) throws IllegalAccessException {
+    field.setInt(object, value);
+  }
+
+  @Override
+  public void setLong(Object object, long value) throws IllegalAccessException {
+    field.setLong(object, value);
+  }
+
+  @Override
+  public void setFloat(Object object, float value) throws IllegalAccessException {
+    field.setFloat(object, value);
+  }
+
+  @Override
+  public void setDouble(Object object, double value) throws IllegalAccessException {
+    field.setDouble(object, value);
+  }
+
+  @Override
+  public void setBoolean(Object object, boolean value) throws IllegalAccessException {
+    field.setBoolean(object, value);
+  }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Name;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+import org.jconfigurations.source.ReloadableConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class BindingRegistryTest {
+  @Test
+  public void onlyChangedFieldsAreReconfigured() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a,b"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    final TestClass test = new TestClass();
+    registry.configure(test);
+    final List<String> list = test.list;
+    test.number = 100;
+    source.publish(configurations("1", "c"));
+
+    assertThat(test.number, is(100));
+    assertThat(test.list, is(Arrays.asList("c")));
+
+    source.publish(configurations("2", "c"));
+
+    assertThat(test.number, is(2));
+    assertThat(test.list, is(Arrays.asList("c")));
+    assertThat(list, is(Arrays.asList("a", "b")));
+  }
+
+  @Test
+  public void addedConfigurationsAreApplied() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(new HashMap<>());
+    final BindingRegistry registry = new BindingRegistry(source);
+    final TestClass test = new TestClass();
+    registry.configure(test);
+    source.publish(configurations("3", "a"));
+
+    assertThat(test.number, is(3));
+    assertThat(test.list, is(Arrays.asList("a")));
+  }
+
+  @Test
+  public void removedConfigurationsResetFields() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    final TestClass test = new TestClass();
+    registry.configure(test);
+    source.publish(new HashMap<>());
+
+    assertThat(test.number, is(0));
+    assertThat(test.list, is(nullValue()));
+  }
+
+  @Test
+  public void removedRequiredConfigurationsReported() throws Exception {
+    final Map<String, String> map = configurations("1", "a");
+    map.put("required", "r");
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map);
+    final BindingRegistry registry = new BindingRegistry(source);
+    final RequiredClass test = new RequiredClass();
+    registry.configure(test);
+    map.remove("required");
+    map.put("number", "2");
+
+    try{
+      source.publish(map);
+      fail("expected an IllegalStateException");
+    }catch(IllegalStateException e){
+      assertThat(
+          e.getCause().getMessage(), 
+          is("Required configuration not found for field 'required' in object of class '" + RequiredClass.class.getName() + "'")
+      );
+    }
+
+    assertThat(test.required, is("r"));
+    assertThat(test.number, is(2));
+  }
+
+  @Test
+  public void nestedFieldsAreReconfigured() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.pool.max", "10");
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map);
+    final BindingRegistry registry = new BindingRegistry(source);
+    final Service service = new Service();
+    registry.configure(service);
+    final Pool pool = service.pool;
+    map.put("db.pool.max", "20");
+    source.publish(map);
+
+    assertThat(service.pool, is(sameInstance(pool)));
+    assertThat(pool.max, is(20));
+    assertThat(registry.size(), is(2));
+  }
+
+  @Test
+  public void nestedObjectsCreatedWhenAdded() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map);
+    final BindingRegistry registry = new BindingRegistry(source);
+    final Service service = new Service();
+    registry.configure(service);
+
+    assertThat(service.pool, is(nullValue()));
+    assertThat(registry.size(), is(1));
+
+    map.put("db.pool.max", "10");
+    source.publish(map);
+
+    assertThat(service.pool.max, is(10));
+    assertThat(registry.size(), is(2));
+
+    map.put("db.pool.max", "20");
+    source.publish(map);
+
+    assertThat(service.pool.max, is(20));
+    assertThat(registry.remove(service), is(true));
+    assertThat(registry.size(), is(0));
+  }
+
+  @Test
+  public void cyclicNestedObjectsCreatedWhenAdded() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map);
+    final BindingRegistry registry = new BindingRegistry(source);
+    final Node node = new Node();
+    registry.configure(node);
+    map.put("child.child.value", "3");
+    source.publish(map);
+
+    assertThat(node.child.child.value, is(3));
+
+    map.put("child.child.value", "4");
+    source.publish(map);
+
+    assertThat(node.child.child.value, is(4));
+    assertThat(node.child.child.child, is(nullValue()));
+  }
+
+  @Test
+  public void removedObjectsAreNotReconfigured() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    final TestClass test = new TestClass();
+    registry.configure(test);
+    registry.configure(test);
+
+    assertThat(registry.size(), is(2));
+    assertThat(registry.remove(test), is(true));
+    assertThat(registry.size(), is(0));
+    source.publish(configurations("2", "a"));
+    assertThat(test.number, is(1));
+  }
+
+  @Test
+  public void equalObjectsRegisteredSeparately() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    final EqualClass first = new EqualClass();
+    final EqualClass second = new EqualClass();
+    registry.configure(first);
+    registry.configure(second);
+    registry.configure(first);
+
+    assertThat(registry.size(), is(2));
+    assertThat(registry.remove(first), is(true));
+    assertThat(registry.remove(first), is(false));
+    source.publish(configurations("2", "a"));
+    assertThat(first.number, is(1));
+    assertThat(second.number, is(2));
+  }
+
+  @Test
+  public void objectsAreHeldWeakly() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    registry.configure(new TestClass());
+
+    for(int i = 0; i < 100 && registry.size() > 0; i++){
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(registry.size(), is(0));
+  }
+
+  @Test
+  public void conversionErrorsDoNotStopOtherFields() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+    final TestClass test = new TestClass();
+    registry.configure(test);
+
+    try{
+      source.publish(configurations("not a number", "b"));
+      fail("expected an IllegalStateException");
+    }catch(IllegalStateException e){
+      assertThat(e.getCause() instanceof ConfigurationException, is(true));
+    }
+
+    assertThat(test.number, is(1));
+    assertThat(test.list, is(Arrays.asList("b")));
+  }
+
+  @Test
+  public void failedConfigurationIsNotRegistered() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("x", "a"));
+    final BindingRegistry registry = new BindingRegistry(source);
+
+    try{
+      registry.configure(new TestClass());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+
+    assertThat(registry.size(), is(0));
+  }
+
+  @Test
+  public void registersAsListener() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(new HashMap<>());
+    final BindingRegistry registry = new BindingRegistry(source);
+
+    assertThat(source.removeListener(registry), is(true));
+  }
+
+  @Test
+  public void closeRemovesListener() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(configurations("1", "a"));
+    final TestClass test = new TestClass();
+
+    try(BindingRegistry registry = new BindingRegistry(source)){
+      registry.configure(test);
+    }
+
+    source.publish(configurations("2", "a"));
+
+    assertThat(test.number, is(1));
+    assertThat(source.removeListener(new BindingRegistry(source)), is(true));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullSource() {
+    new BindingRegistry(null);
+  }
+
+  private static Map<String, String> configurations(String number, String list) {
+    final Map<String, String> map = new HashMap<>();
+    map.put("number", number);
+    map.put("custom.list", list);
+    return map;
+  }
+
+  private static class TestClass {
+    @Configuration
+    private int number;
+    @Name("custom.list")
+    @CollectionConfiguration
+    private List<String> list;
+  }
+
+  private static class EqualClass {
+    @Configuration
+    private int number;
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualClass;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
+  private static class RequiredClass {
+    @Configuration
+    private int number;
+    @Required
+    @Configuration
+    private String required;
+  }
+
+  private static class Service {
+    @Prefix("db.pool")
+    private Pool pool;
+    @Configuration
+    private String name;
+  }
+
+  private static class Pool {
+    @Configuration
+    private int max;
+  }
+
+  private static class Node {
+    @Configuration
+    private int value;
+    @Prefix("child")
+    private Node child;
+  }
+}
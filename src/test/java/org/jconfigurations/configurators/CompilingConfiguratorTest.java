@@ -0,0 +1,217 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ * Mirrors {@link BasicConfiguratorTest}, {@link RequiredConfiguratorTest} and
+ * {@link SinglePassConfiguratorTest}.
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class CompilingConfiguratorTest {
+  @Test
+  public void checkCorrectConfiguration() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("nonAnnotatedField", "some string");
+    map.put("intField", "4");
+    map.put("stringField", "another string");
+    map.put("fileField", ".");
+    final Configurator configurator = new CompilingConfigurator(new MapConfigurationSource(map));
+
+    for(int i = 0; i < 2; i++){
+      final BasicClass test = new BasicClass();
+      configurator.configure(test);
+      assertThat(test.nonAnnotatedField, is(nullValue()));
+      assertThat(test.intField, is(4));
+      assertThat(test.stringField, is("another string"));
+      assertThat(test.fileField, is(new File(".")));
+    }
+  }
+
+  @Test
+  public void absentConfigurationsAreSkipped() throws Exception {
+    final BasicClass test = new BasicClass();
+    test.stringField = "default";
+    new CompilingConfigurator(new MapConfigurationSource(new HashMap<>())).configure(test);
+    assertThat(test.stringField, is("default"));
+  }
+
+  @Test
+  public void noErrorWhenRequiredIsPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("nonRequiredField", "");
+    map.put("requiredField", "");
+    new CompilingConfigurator(new MapConfigurationSource(map)).configure(new RequiredClass());
+  }
+
+  @Test
+  public void noErrorWhenNonRequiredIsNotPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("requiredField", "");
+    new CompilingConfigurator(new MapConfigurationSource(map)).configure(new RequiredClass());
+  }
+
+  @Test
+  public void errorIfRequiredIsNotPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("nonRequiredField", "");
+
+    try{
+      new CompilingConfigurator(new MapConfigurationSource(map)).configure(new RequiredClass());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(
+          e.getMessage(),
+          is("Required configuration not found for field 'requiredField' in object of class '" + RequiredClass.class.getName() + "'")
+      );
+    }
+  }
+
+  @Test
+  public void sameResultAsSinglePass() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("required", "1");
+    map.put("basic", "some string");
+    map.put("list", "1,2,3");
+    map.put("custom.map", "a=1,b=2");
+    final ConfigurationSource source = new MapConfigurationSource(map);
+
+    final FullClass compiled = new FullClass();
+    new CompilingConfigurator(source).configure(compiled);
+    final FullClass singlePass = new FullClass();
+    new SinglePassConfigurator(source).configure(singlePass);
+
+    assertThat(compiled.required, is(1L));
+    assertThat(compiled.basic, is("some string"));
+    assertThat(compiled.list, is(Arrays.asList(1, 2, 3)));
+    assertThat(compiled.map.get("b"), is(2));
+    assertThat(compiled.list, is(singlePass.list));
+    assertThat(compiled.map, is(singlePass.map));
+  }
+
+  @Test
+  public void conversionErrorsAreWrapped() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("intField", "not a number");
+
+    try{
+      new CompilingConfigurator(new MapConfigurationSource(map)).configure(new BasicClass());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(
+          e.getMessage(),
+          is("Unable to configure field 'intField' of type 'int' in object of class '" + BasicClass.class.getName() + "'")
+      );
+    }
+  }
+
+  @Test
+  public void converterErrorOnlyThrownIfConfigurationIsPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    new CompilingConfigurator(new MapConfigurationSource(map)).configure(new UnknownTypeClass());
+    map.put("unknownType", "value");
+
+    try{
+      new CompilingConfigurator(new MapConfigurationSource(map)).configure(new UnknownTypeClass());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void nameErrorAlwaysThrown() throws Exception {
+    new CompilingConfigurator(new MapConfigurationSource(new HashMap<>())).configure(new InvalidNameClass());
+  }
+
+  @Test
+  public void noErrorIfNoAnnotatedFields() throws Exception {
+    new CompilingConfigurator(new MapConfigurationSource(new HashMap<>())).configure(new Object());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConfigurationSource(){
+    new CompilingConfigurator(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullObject() throws Exception {
+    new CompilingConfigurator(
+        () -> Collections.unmodifiableMap(new HashMap<>())
+    ).configure(null);
+  }
+
+  private static class BasicClass {
+    private String nonAnnotatedField;
+    @Configuration
+    private int intField;
+    @Configuration
+    private String stringField;
+    @Configuration
+    private File fileField;
+  }
+
+  private static class RequiredClass {
+    private int nonRequiredField;
+    @Required
+    private double requiredField;
+  }
+
+  private static class FullClass {
+    @Required
+    @Configuration
+    private long required;
+    @Configuration
+    private String basic;
+    @CollectionConfiguration
+    private List<Integer> list;
+    @Name("custom.map")
+    @MapConfiguration
+    private Map<String, Integer> map;
+  }
+
+  private static class UnknownTypeClass {
+    @Configuration
+    private Thread unknownType;
+  }
+
+  private static class InvalidNameClass {
+    @Name("")
+    @Configuration
+    private String field;
+  }
+}
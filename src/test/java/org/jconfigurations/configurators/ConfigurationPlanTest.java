@@ -0,0 +1,394 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Name;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.converters.BooleanConfigurationConverter;
+import org.jconfigurations.converters.DoubleConfigurationConverter;
+import org.jconfigurations.converters.FloatConfigurationConverter;
+import org.jconfigurations.converters.IntegerConfigurationConverter;
+import org.jconfigurations.converters.LongConfigurationConverter;
+import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfigurationPlanTest {
+  @Test
+  public void functionsInvokedOncePerField() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("intField", "4");
+    map.put("stringField", "string");
+    final AtomicInteger names = new AtomicInteger();
+    final AtomicInteger converters = new AtomicInteger();
+    final FieldConverterFunction converterFunction = new FieldConverterFunction();
+    final Configurator configurator = new BasicConfigurator(
+        new MapConfigurationSource(map),
+        new NoOpConfigurator(),
+        f -> {names.incrementAndGet(); return f.getName();},
+        f -> {converters.incrementAndGet(); return converterFunction.apply(f);}
+    );
+
+    for(int i = 0; i < 10; i++){
+      final TestClass test = new TestClass();
+      configurator.configure(test);
+      assertThat(test.intField, is(4));
+      assertThat(test.stringField, is("string"));
+    }
+
+    assertThat(names.get(), is(2));
+    assertThat(converters.get(), is(2));
+  }
+
+  @Test
+  public void nameErrorThrownOnEveryConfiguration() throws Exception {
+    final Configurator configurator = new BasicConfigurator(
+        new MapConfigurationSource(new HashMap<>()),
+        new NoOpConfigurator(),
+        new DefaultFieldNameFunction()
+    );
+
+    for(int i = 0; i < 2; i++){
+      try{
+        configurator.configure(new InvalidNameClass());
+        fail("expected a ConfigurationException");
+      }catch(ConfigurationException e){
+        //expected
+      }
+    }
+  }
+
+  @Test
+  public void converterErrorOnlyThrownIfConfigurationIsPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    new BasicConfigurator(new MapConfigurationSource(map)).configure(new UnknownTypeClass());
+    map.put("unknownType", "value");
+
+    try{
+      new BasicConfigurator(new MapConfigurationSource(map)).configure(new UnknownTypeClass());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+  }
+
+  @Test
+  public void overriddenConvertUsedForPrimitiveFields() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("intField", "4");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+    final Configurator[] configurators = {
+        new BasicConfigurator(source),
+        new SinglePassConfigurator(source),
+        new CompilingConfigurator(source)
+    };
+
+    for(Configurator configurator : configurators){
+      final OverriddenClass test = new OverriddenClass();
+      configurator.configure(test);
+      assertThat(test.intField, is(8));
+    }
+  }
+
+  @Test
+  public void primitiveFieldsAssignedWithoutBoxing() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("intField", "4");
+    map.put("longField", "5");
+    map.put("floatField", "1.5");
+    map.put("doubleField", "2.5");
+    map.put("booleanField", "true");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+    final Configurator[] configurators = {
+        new BasicConfigurator(source),
+        new SinglePassConfigurator(source),
+        new CompilingConfigurator(source)
+    };
+
+    for(Configurator configurator : configurators){
+      final PrimitiveClass test = new PrimitiveClass();
+      configurator.configure(test);
+      assertThat(test.intField, is(4));
+      assertThat(test.longField, is(5L));
+      assertThat(test.floatField, is(1.5f));
+      assertThat(test.doubleField, is(2.5d));
+      assertThat(test.booleanField, is(true));
+    }
+  }
+
+  @Test
+  public void nestedObjectsConfiguredFromPrefixedNames() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    map.put("db.pool.retry.count", "3");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+
+    for(Configurator configurator : new Configurator[]{new SinglePassConfigurator(source), new CompilingConfigurator(source)}){
+      final Service service = new Service();
+      final Pool pool = new Pool();
+      service.pool = pool;
+      configurator.configure(service);
+      assertThat(service.name, is("service"));
+      assertThat(service.pool, is(sameInstance(pool)));
+      assertThat(service.pool.max, is(10));
+      assertThat(service.pool.retry.count, is(3));
+    }
+  }
+
+  @Test
+  public void nestedObjectsOnlyCreatedIfConfigured() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.pool.max", "10");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+
+    for(Configurator configurator : new Configurator[]{new SinglePassConfigurator(source), new CompilingConfigurator(source)}){
+      final Service service = new Service();
+      configurator.configure(service);
+      assertThat(service.pool.max, is(10));
+      assertThat(service.pool.retry, is(nullValue()));
+    }
+  }
+
+  @Test
+  public void nestedPlansCompiledOncePerClass() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    map.put("db.pool.retry.count", "3");
+    final AtomicInteger names = new AtomicInteger();
+    final Configurator configurator = new SinglePassConfigurator(
+        new MapConfigurationSource(map),
+        new NoOpConfigurator(),
+        f -> {names.incrementAndGet(); return f.getName();}
+    );
+
+    for(int i = 0; i < 10; i++){
+      final Service service = new Service();
+      configurator.configure(service);
+      assertThat(service.pool.retry.count, is(3));
+    }
+
+    assertThat(names.get(), is(3));
+  }
+
+  @Test
+  public void cyclicPrefixWithoutNestedConfigurations() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("value", "1");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+
+    for(Configurator configurator : new Configurator[]{new SinglePassConfigurator(source), new CompilingConfigurator(source)}){
+      final Cyclic cyclic = new Cyclic();
+      configurator.configure(cyclic);
+      assertThat(cyclic.value, is(1));
+      assertThat(cyclic.child, is(nullValue()));
+    }
+  }
+
+  @Test
+  public void cyclicPrefixConfiguredLevelByLevel() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("value", "1");
+    map.put("child.child.value", "3");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+
+    for(Configurator configurator : new Configurator[]{new SinglePassConfigurator(source), new CompilingConfigurator(source)}){
+      for(int i = 0; i < 2; i++){
+        final Cyclic cyclic = new Cyclic();
+        configurator.configure(cyclic);
+        assertThat(cyclic.value, is(1));
+        assertThat(cyclic.child.value, is(0));
+        assertThat(cyclic.child.child.value, is(3));
+        assertThat(cyclic.child.child.child, is(nullValue()));
+      }
+    }
+  }
+
+  @Test
+  public void nestedConstructorErrorOnlyThrownIfConfigurationIsPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    new SinglePassConfigurator(new MapConfigurationSource(map)).configure(new NoDefaultConstructor());
+    map.put("nested.value", "1");
+
+    try{
+      new SinglePassConfigurator(new MapConfigurationSource(map)).configure(new NoDefaultConstructor());
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+  }
+
+  private static class TestClass {
+    @Configuration
+    private int intField;
+    @Configuration
+    private String stringField;
+  }
+
+  private static class InvalidNameClass {
+    @Name("")
+    @Configuration
+    private String field;
+  }
+
+  private static class PrimitiveClass {
+    @Configuration(converter = UnboxedInt.class)
+    private int intField;
+    @Configuration(converter = UnboxedLong.class)
+    private long longField;
+    @Configuration(converter = UnboxedFloat.class)
+    private float floatField;
+    @Configuration(converter = UnboxedDouble.class)
+    private double doubleField;
+    @Configuration(converter = UnboxedBoolean.class)
+    private boolean booleanField;
+  }
+
+  /*
+   * The following converters fail if values are converted through the boxed 
+   * ConfigurationConverter#convert(String), which delegates to the unboxed method.
+   */
+  public static class UnboxedInt extends IntegerConfigurationConverter {
+    @Override
+    public int convertInt(String value) throws ConfigurationException {
+      unboxed();
+      return super.convertInt(value);
+    }
+  }
+
+  public static class UnboxedLong extends LongConfigurationConverter {
+    @Override
+    public long convertLong(String value) throws ConfigurationException {
+      unboxed();
+      return super.convertLong(value);
+    }
+  }
+
+  public static class UnboxedFloat extends FloatConfigurationConverter {
+    @Override
+    public float convertFloat(String value) throws ConfigurationException {
+      unboxed();
+      return super.convertFloat(value);
+    }
+  }
+
+  public static class UnboxedDouble extends DoubleConfigurationConverter {
+    @Override
+    public double convertDouble(String value) throws ConfigurationException {
+      unboxed();
+      return super.convertDouble(value);
+    }
+  }
+
+  public static class UnboxedBoolean extends BooleanConfigurationConverter {
+    @Override
+    public boolean convertBoolean(String value) throws ConfigurationException {
+      unboxed();
+      return super.convertBoolean(value);
+    }
+  }
+
+  private static void unboxed() throws ConfigurationException {
+    final StackTraceElement[] stack = new Throwable().getStackTrace();
+    int caller = 0;
+
+    //skip this method and any accessors up to the unboxed method
+    while(!stack[caller].getMethodName().matches("convert\\w+")){
+      caller++;
+    }
+
+    if("convert".equals(stack[caller + 1].getMethodName())){
+      throw new ConfigurationException("boxed conversion");
+    }
+  }
+
+  private static class OverriddenClass {
+    @Configuration(converter = Doubled.class)
+    private int intField;
+  }
+
+  /*
+   * Only overrides the boxed method, so it must not be bypassed for int fields.
+   */
+  public static class Doubled extends IntegerConfigurationConverter {
+    @Override
+    public Integer convert(String value) throws ConfigurationException {
+      return 2 * super.convert(value);
+    }
+  }
+
+  private static class Service {
+    @Configuration
+    private String name;
+    @Prefix("db.pool")
+    private Pool pool;
+  }
+
+  private static class Pool {
+    @Configuration
+    private int max;
+    @Prefix("retry")
+    private Retry retry;
+  }
+
+  private static class Retry {
+    @Configuration
+    private int count;
+  }
+
+  private static class Cyclic {
+    @Configuration
+    private int value;
+    @Prefix("child")
+    private Cyclic child;
+  }
+
+  private static class NoDefaultConstructor {
+    @Prefix("nested")
+    private Nested nested;
+  }
+
+  private static class Nested {
+    @Configuration
+    private int value;
+
+    private Nested(int value) {
+      this.value = value;
+    }
+  }
+
+  private static class UnknownTypeClass {
+    @Configuration
+    private Thread unknownType;
+  }
+}
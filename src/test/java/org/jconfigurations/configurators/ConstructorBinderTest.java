@@ -0,0 +1,429 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.Required;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConstructorBinderTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void createsInstanceWithCanonicalConstructor() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("required", "1");
+    map.put("basic", "some string");
+    map.put("list", "1,2,3");
+    map.put("custom.map", "a=1,b=2");
+    map.put("ratio", "0.5");
+
+    final TestClass test = new ConstructorBinder(new MapConfigurationSource(map)).create(TestClass.class);
+
+    assertThat(test.required, is(1L));
+    assertThat(test.basic, is("some string"));
+    assertThat(test.list, is(Arrays.asList(1, 2, 3)));
+    assertThat(test.map.get("b"), is(2));
+    assertThat(test.ratio, is(0.5d));
+  }
+
+  @Test
+  public void defaultValuesIfNotPresent() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("required", "1");
+
+    final TestClass test = new ConstructorBinder(new MapConfigurationSource(map)).create(TestClass.class);
+
+    assertThat(test.basic, is(nullValue()));
+    assertThat(test.list, is(nullValue()));
+    assertThat(test.map, is(nullValue()));
+    assertThat(test.ratio, is(0d));
+  }
+
+  @Test
+  public void errorIfRequiredNotPresent() throws Exception {
+    try{
+      new ConstructorBinder(new MapConfigurationSource(new HashMap<>())).create(TestClass.class);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(
+          e.getMessage(),
+          is("Required configuration not found for field 'required' in object of class '" + TestClass.class.getName() + "'")
+      );
+    }
+  }
+
+  @Test
+  public void errorIfValueCannotBeConverted() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("required", "one");
+
+    try{
+      new ConstructorBinder(new MapConfigurationSource(map)).create(TestClass.class);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(
+          e.getMessage(),
+          is("Unable to configure field 'required' of type 'long' in object of class '" + TestClass.class.getName() + "'")
+      );
+    }
+  }
+
+  @Test
+  public void errorIfNoCanonicalConstructor() throws Exception {
+    try{
+      new ConstructorBinder(new MapConfigurationSource(new HashMap<>())).create(NoCanonicalConstructor.class);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(e.getMessage(), is("No canonical constructor found in class '" + NoCanonicalConstructor.class.getName() + "'"));
+    }
+  }
+
+  @Test
+  public void parametersMatchedByTypeInAnyOrder() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("host", "localhost");
+    map.put("port", "8080");
+
+    final Reordered test = new ConstructorBinder(new MapConfigurationSource(map)).create(Reordered.class);
+
+    assertThat(test.host, is("localhost"));
+    assertThat(test.port, is(8080));
+  }
+
+  @Test
+  public void errorIfParametersOfSameTypeWithoutNames() throws Exception {
+    assumeTrue(!SameType.class.getDeclaredConstructors()[0].getParameters()[0].isNamePresent());
+
+    try{
+      new ConstructorBinder(new MapConfigurationSource(new HashMap<>())).create(SameType.class);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(e.getMessage().startsWith("Ambiguous canonical constructor in class '" + SameType.class.getName() + "'"), is(true));
+    }
+  }
+
+  @Test
+  public void parametersOfSameTypeMatchedByName() throws Exception {
+    final File sources = folder.newFolder("sample");
+    final File classes = folder.newFolder("classes");
+    Files.write(
+        new File(sources, "Login.java").toPath(),
+        ("package sample;\n"
+            + "import org.jconfigurations.Configuration;\n"
+            + "public class Login {\n"
+            + "  @Configuration public final String host;\n"
+            + "  @Configuration public final String user;\n"
+            + "  public Login(String user, String host) { this.user = user; this.host = host; }\n"
+            + "}\n"
+        ).getBytes(StandardCharsets.UTF_8)
+    );
+    compile(sources, classes, "Login.java", "-parameters");
+
+    final Map<String, String> map = new HashMap<>();
+    map.put("host", "localhost");
+    map.put("user", "admin");
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Class<?> type = loader.loadClass("sample.Login");
+      final Object login = new ConstructorBinder(new MapConfigurationSource(map)).create(type);
+      assertThat(type.getField("host").get(login), is((Object) "localhost"));
+      assertThat(type.getField("user").get(login), is((Object) "admin"));
+    }
+  }
+
+  @Test
+  public void errorIfConstructorFails() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("port", "-1");
+
+    try{
+      new ConstructorBinder(new MapConfigurationSource(map)).create(Validated.class);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(e.getCause() instanceof IllegalArgumentException, is(true));
+    }
+  }
+
+  @Test
+  public void nestedObjectsCreatedFromPrefixedNames() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    final ConstructorBinder binder = new ConstructorBinder(new MapConfigurationSource(map));
+
+    final Service service = binder.create(Service.class);
+    assertThat(service.name, is("service"));
+    assertThat(service.pool.max, is(10));
+
+    map.remove("db.pool.max");
+    assertThat(binder.create(Service.class).pool, is(nullValue()));
+  }
+
+  @Test
+  public void cyclicPrefixCreatedOnlyWhileConfigured() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("value", "1");
+    final ConstructorBinder binder = new ConstructorBinder(new MapConfigurationSource(map));
+
+    assertThat(binder.create(Node.class).child, is(nullValue()));
+
+    map.put("child.child.value", "3");
+    final Node node = binder.create(Node.class);
+    assertThat(node.value, is(1));
+    assertThat(node.child.value, is(0));
+    assertThat(node.child.child.value, is(3));
+    assertThat(node.child.child.child, is(nullValue()));
+  }
+
+  @Test
+  public void factoryCompiledOncePerClass() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    final AtomicInteger names = new AtomicInteger();
+    final ConstructorBinder binder = new ConstructorBinder(
+        new MapConfigurationSource(map),
+        f -> {names.incrementAndGet(); return f.getName();}
+    );
+
+    for(int i = 0; i < 10; i++){
+      assertThat(binder.create(Service.class).pool.max, is(10));
+    }
+
+    assertThat(names.get(), is(2));
+  }
+
+  @Test
+  public void overriddenConvertUsedForPrimitiveParameters() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("max", "4");
+
+    assertThat(new ConstructorBinder(new MapConfigurationSource(map)).create(DoubledPool.class).max, is(8));
+  }
+
+  @Test
+  public void createsRecords() throws Exception {
+    assumeTrue(hasMethod(Class.class, "isRecord"));
+    final File sources = folder.newFolder("sample");
+    final File classes = folder.newFolder("classes");
+    Files.write(
+        new File(sources, "Endpoint.java").toPath(),
+        ("package sample;\n"
+            + "import org.jconfigurations.Configuration;\n"
+            + "public record Endpoint(@Configuration String host, @Configuration int port, String unbound) {}\n"
+        ).getBytes(StandardCharsets.UTF_8)
+    );
+    compile(sources, classes, "Endpoint.java");
+
+    final Map<String, String> map = new HashMap<>();
+    map.put("host", "localhost");
+    map.put("port", "8080");
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Class<?> type = loader.loadClass("sample.Endpoint");
+      final Object endpoint = new ConstructorBinder(new MapConfigurationSource(map)).create(type);
+      assertThat(type.getMethod("host").invoke(endpoint), is((Object) "localhost"));
+      assertThat(type.getMethod("port").invoke(endpoint), is((Object) 8080));
+      assertThat(type.getMethod("unbound").invoke(endpoint), is(nullValue()));
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConfigurationSource(){
+    new ConstructorBinder(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullType() throws Exception {
+    new ConstructorBinder(new MapConfigurationSource(new HashMap<>())).create(null);
+  }
+
+  private static void compile(File sources, File classes, String file, String... options) throws Exception {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final List<String> arguments = new ArrayList<>(Arrays.asList(
+        "-classpath", new File(Configuration.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath(),
+        "-d", classes.getPath()
+    ));
+    arguments.addAll(Arrays.asList(options));
+
+    try(StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)){
+      final boolean success = compiler.getTask(
+          null,
+          files,
+          null,
+          arguments,
+          null,
+          files.getJavaFileObjects(new File(sources, file))
+      ).call();
+      assertThat(success, is(true));
+    }
+  }
+
+  private static boolean hasMethod(Class<?> type, String name) {
+    try{
+      type.getMethod(name);
+      return true;
+    }catch(NoSuchMethodException e){
+      return false;
+    }
+  }
+
+  private static class TestClass {
+    @Required
+    @Configuration
+    private final long required;
+    @Configuration
+    private final String basic;
+    @CollectionConfiguration
+    private final List<Integer> list;
+    @Name("custom.map")
+    @MapConfiguration
+    private final Map<String, Integer> map;
+    @Configuration
+    private final double ratio;
+    private final String unbound = "unbound";
+
+    private TestClass(long required, String basic, List<Integer> list, Map<String, Integer> map, double ratio) {
+      this.required = required;
+      this.basic = basic;
+      this.list = list;
+      this.map = map;
+      this.ratio = ratio;
+    }
+  }
+
+  private static class NoCanonicalConstructor {
+    @Configuration
+    private final int value;
+
+    private NoCanonicalConstructor() {
+      this.value = 0;
+    }
+  }
+
+  private static class Reordered {
+    @Configuration
+    private final String host;
+    @Configuration
+    private final int port;
+
+    private Reordered(int port, String host) {
+      this.host = host;
+      this.port = port;
+    }
+  }
+
+  private static class SameType {
+    @Configuration
+    private final String host;
+    @Configuration
+    private final String user;
+
+    private SameType(String user, String host) {
+      this.host = host;
+      this.user = user;
+    }
+  }
+
+  private static class Validated {
+    @Configuration
+    private final int port;
+
+    private Validated(int port) {
+      if(port < 0){
+        throw new IllegalArgumentException("negative port");
+      }
+
+      this.port = port;
+    }
+  }
+
+  private static class Service {
+    @Configuration
+    private final String name;
+    @Prefix("db.pool")
+    private final Pool pool;
+
+    private Service(String name, Pool pool) {
+      this.name = name;
+      this.pool = pool;
+    }
+  }
+
+  private static class Pool {
+    @Configuration
+    private final int max;
+
+    private Pool(int max) {
+      this.max = max;
+    }
+  }
+
+  private static class DoubledPool {
+    @Configuration(converter = ConfigurationPlanTest.Doubled.class)
+    private final int max;
+
+    private DoubledPool(int max) {
+      this.max = max;
+    }
+  }
+
+  private static class Node {
+    @Configuration
+    private final int value;
+    @Prefix("child")
+    private final Node child;
+
+    private Node(int value, Node child) {
+      this.value = value;
+      this.child = child;
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import static org.hamcrest.CoreMatchers.is;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ParallelConfiguratorTest {
+  private ForkJoinPool pool;
+
+  @Before
+  public void before() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @After
+  public void after() {
+    pool.shutdown();
+  }
+
+  @Test
+  public void configuresAllObjects() throws Exception {
+    final List<Object> objects = new ArrayList<>();
+
+    for(int i = 0; i < 1000; i++){
+      objects.add(i % 2 == 0 ? new First() : new Second());
+    }
+
+    new ParallelConfigurator(new SinglePassConfigurator(new MapConfigurationSource(configurations())), pool)
+            .configureAll(objects);
+
+    for(Object object : objects){
+      if(object instanceof First){
+        assertThat(((First) object).number, is(1));
+      }else{
+        assertThat(((Second) object).text, is("text"));
+      }
+    }
+  }
+
+  @Test
+  public void configuresStreams() throws Exception {
+    final List<First> objects = new ArrayList<>();
+    IntStream.range(0, 100).forEach(i -> objects.add(new First()));
+
+    new ParallelConfigurator(new SinglePassConfigurator(new MapConfigurationSource(configurations())))
+            .configureAll(objects.stream());
+
+    objects.forEach(o -> assertThat(o.number, is(1)));
+  }
+
+  @Test
+  public void plansCompiledOncePerClass() throws Exception {
+    final AtomicInteger names = new AtomicInteger();
+    final Configurator configurator = new BasicConfigurator(
+        new MapConfigurationSource(configurations()),
+        new NoOpConfigurator(),
+        f -> {names.incrementAndGet(); return f.getName();}
+    );
+    final List<Object> objects = new ArrayList<>();
+
+    for(int i = 0; i < 1000; i++){
+      objects.add(i % 2 == 0 ? new First() : new Second());
+    }
+
+    new ParallelConfigurator(configurator, pool).configureAll(objects);
+
+    assertThat(names.get(), is(2));
+  }
+
+  @Test
+  public void errorsAggregated() throws Exception {
+    final Map<String, String> map = configurations();
+    map.put("number", "not a number");
+    final List<Object> objects = new ArrayList<>();
+
+    for(int i = 0; i < 10; i++){
+      objects.add(new First());
+      objects.add(new Second());
+    }
+
+    try{
+      new ParallelConfigurator(new SinglePassConfigurator(new MapConfigurationSource(map))).configureAll(objects);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(e.getMessage(), is("Unable to configure 10 of 20 objects"));
+      assertThat(e.getSuppressed().length, is(10));
+    }
+
+    objects.stream()
+            .filter(o -> o instanceof Second)
+            .forEach(o -> assertThat(((Second) o).text, is("text")));
+  }
+
+  @Test
+  public void emptyCollection() throws Exception {
+    new ParallelConfigurator(new NoOpConfigurator()).configureAll(Collections.emptyList());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullElement() throws Exception {
+    new ParallelConfigurator(new NoOpConfigurator()).configureAll(Arrays.asList(new First(), null));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConfigurator() {
+    new ParallelConfigurator(null);
+  }
+
+  private static Map<String, String> configurations() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("number", "1");
+    map.put("text", "text");
+
+    return map;
+  }
+
+  private static class First {
+    @Configuration
+    private int number;
+  }
+
+  private static class Second {
+    @Configuration
+    private String text;
+  }
+}
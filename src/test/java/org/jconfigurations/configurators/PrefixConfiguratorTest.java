@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.HashMap;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.Prefix;
+import org.jconfigurations.source.PrefixIndexedConfigurationSource;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class PrefixConfiguratorTest {
+  @Test
+  public void configuresNestedObjects() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    map.put("db.pool.retry.count", "3");
+    final Service service = new Service();
+
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(map)).configure(service);
+
+    assertThat(service.name, is("service"));
+    assertThat(service.pool.max, is(10));
+    assertThat(service.pool.retry.count, is(3));
+  }
+
+  @Test
+  public void configuresExistingNestedObjects() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.pool.max", "10");
+    final Service service = new Service();
+    final Pool pool = new Pool();
+    service.pool = pool;
+
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(map)).configure(service);
+
+    assertThat(service.pool, is(sameInstance(pool)));
+    assertThat(pool.max, is(10));
+  }
+
+  @Test
+  public void nestedObjectsNotCreatedForEmptyNamespaces() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.pool.max", "10");
+    final Service service = new Service();
+
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(map)).configure(service);
+
+    assertThat(service.pool.retry, is(nullValue()));
+  }
+
+  @Test
+  public void customConfigurator() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("name", "service");
+    map.put("db.pool.max", "10");
+    final Service service = new Service();
+
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(map), BasicConfigurator::new).configure(service);
+
+    assertThat(service.name, is("service"));
+    assertThat(service.pool.max, is(10));
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfNoDefaultConstructor() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("nested.value", "1");
+
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(map)).configure(new NoDefaultConstructor());
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfEmptyPrefix() throws Exception {
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(new HashMap<>())).configure(new EmptyPrefix());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullSource() {
+    new PrefixConfigurator(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullObject() throws Exception {
+    new PrefixConfigurator(new PrefixIndexedConfigurationSource(new HashMap<>())).configure(null);
+  }
+
+  private static class Service {
+    @Configuration
+    private String name;
+    @Prefix("db.pool")
+    private Pool pool;
+  }
+
+  private static class Pool {
+    @Configuration
+    private int max;
+    @Prefix("retry")
+    private Retry retry;
+  }
+
+  private static class Retry {
+    @Configuration
+    private int count;
+  }
+
+  private static class NoDefaultConstructor {
+    @Prefix("nested")
+    private Nested nested;
+  }
+
+  private static class Nested {
+    @Configuration
+    private int value;
+
+    private Nested(int value) {
+      this.value = value;
+    }
+  }
+
+  private static class EmptyPrefix {
+    @Prefix("")
+    private Retry retry;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.configurators;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import org.jconfigurations.source.ConfigurationSource;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class SinglePassConfiguratorTest {
+  @Test
+  public void sameResultAsChain() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("required", "1");
+    map.put("basic", "some string");
+    map.put("list", "1,2,3");
+    map.put("custom.map", "a=1,b=2");
+    final ConfigurationSource source = new MapConfigurationSource(map);
+
+    final TestClass fused = new TestClass();
+    new SinglePassConfigurator(source).configure(fused);
+    final TestClass chained = new TestClass();
+    new RequiredConfigurator(
+        source,
+        new BasicConfigurator(
+            source,
+            new CollectionConfigurator(source, new MapConfigurator(source))
+        )
+    ).configure(chained);
+
+    assertThat(fused.required, is(1L));
+    assertThat(fused.basic, is("some string"));
+    assertThat(fused.list, is(Arrays.asList(1, 2, 3)));
+    assertThat(fused.map.get("b"), is(2));
+    assertThat(fused.required, is(chained.required));
+    assertThat(fused.basic, is(chained.basic));
+    assertThat(fused.list, is(chained.list));
+    assertThat(fused.map, is(chained.map));
+  }
+
+  @Test
+  public void requiredCheckedBeforeAssigningFields() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("basic", "some string");
+    final TestClass test = new TestClass();
+
+    try{
+      new SinglePassConfigurator(new MapConfigurationSource(map)).configure(test);
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(
+          e.getMessage(),
+          is("Required configuration not found for field 'required' in object of class '" + TestClass.class.getName() + "'")
+      );
+    }
+
+    assertThat(test.basic, is(nullValue()));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConfigurationSource(){
+    new SinglePassConfigurator(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullObject() throws Exception {
+    new SinglePassConfigurator(new MapConfigurationSource(new HashMap<>())).configure(null);
+  }
+
+  private static class TestClass {
+    @Required
+    @Configuration
+    private long required;
+    @Configuration
+    private String basic;
+    @CollectionConfiguration
+    private List<Integer> list;
+    @Name("custom.map")
+    @MapConfiguration
+    private Map<String, Integer> map;
+  }
+}
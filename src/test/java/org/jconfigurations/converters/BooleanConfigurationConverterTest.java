@@ -56,4 +56,21 @@ public class BooleanConfigurationConverterTest {
     Boolean result = instance.convert(value);
     assertEquals(expResult, result);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testConvertBoolean() throws Exception {
+    System.out.println("convertBoolean");
+    String value = "TRUE";
+    BooleanConfigurationConverter instance = new BooleanConfigurationConverter();
+    boolean result = instance.convertBoolean(value);
+    assertTrue(result);
+  }
+
+  @Test
+  public void testConvertBooleanUnrecognized() throws Exception {
+    System.out.println("convertBooleanUnrecognized");
+    BooleanConfigurationConverter instance = new BooleanConfigurationConverter();
+    assertFalse(instance.convertBoolean("yes"));
+    assertFalse(instance.convertBoolean(null));
+  }
+}
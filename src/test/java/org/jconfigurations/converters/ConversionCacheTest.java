@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.ConfigurationException;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConversionCacheTest {
+  @Test
+  public void convertsOncePerConverterAndValue() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final AtomicInteger conversions = new AtomicInteger();
+    final ConfigurationConverter<BigDecimal> converter = v -> {conversions.incrementAndGet(); return new BigDecimal(v);};
+    final BigDecimal first = cache.convert(converter, "1.50");
+
+    assertThat(cache.convert(converter, "1.50"), is(sameInstance(first)));
+    assertThat(cache.convert(converter, "2.50"), is(new BigDecimal("2.50")));
+    assertThat(conversions.get(), is(2));
+    assertThat(cache.size(), is(2));
+  }
+
+  @Test
+  public void convertersDoNotShareResults() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+
+    assertThat(cache.convert(new IntegerConfigurationConverter(), "1"), is(1));
+    assertThat(cache.convert(new StringConfigurationConverter(), "1"), is("1"));
+    assertThat(cache.size(), is(2));
+  }
+
+  @Test
+  public void sizeIsBounded() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final ConfigurationConverter<Integer> converter = new IntegerConfigurationConverter();
+
+    for(int i = 0; i < 1000; i++){
+      assertThat(cache.convert(converter, String.valueOf(i)), is(i));
+    }
+
+    assertThat(cache.size(), is(100));
+    cache.clear();
+    assertThat(cache.size(), is(0));
+  }
+
+  @Test
+  public void leastRecentlyUsedEvicted() throws Exception {
+    final ConversionCache cache = new ConversionCache(1);
+    final AtomicInteger conversions = new AtomicInteger();
+    final ConfigurationConverter<String> converter = v -> {conversions.incrementAndGet(); return v;};
+    cache.convert(converter, "a");
+    cache.convert(converter, "a");
+    cache.convert(converter, "b");
+    cache.convert(converter, "a");
+
+    assertThat(conversions.get(), is(3));
+  }
+
+  @Test
+  public void knownCollectionsCopied() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final ListConfigurationConverter<Integer> converter = new ListConfigurationConverter<>(new IntegerConfigurationConverter(), ",");
+    final Collection<Integer> first = cache.convert(converter, "1,2,3");
+    first.add(4);
+    final Collection<Integer> second = cache.convert(converter, "1,2,3");
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second instanceof ArrayList, is(true));
+    assertThat(second, is((Collection<Integer>) Arrays.asList(1, 2, 3)));
+  }
+
+  @Test
+  public void otherCollectionsUnmodifiable() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final ConfigurationConverter<List<String>> converter = v -> new CopyOnWriteArrayList<>(v.split(","));
+    final List<String> list = cache.convert(converter, "a,b");
+
+    assertThat(list, is(Arrays.asList("a", "b")));
+
+    try{
+      list.add("c");
+      fail("expected an UnsupportedOperationException");
+    }catch(UnsupportedOperationException e){
+      //expected
+    }
+  }
+
+  @Test
+  public void arraysCopied() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final ConfigurationConverter<int[]> converter = v -> new int[]{Integer.parseInt(v)};
+    final int[] first = cache.convert(converter, "1");
+    first[0] = 2;
+
+    assertThat(cache.convert(converter, "1")[0], is(1));
+  }
+
+  @Test
+  public void failuresAndNullsNotCached() throws Exception {
+    final ConversionCache cache = new ConversionCache(100);
+    final AtomicInteger conversions = new AtomicInteger();
+    final ConfigurationConverter<String> converter = v -> {
+      if(conversions.incrementAndGet() == 1){
+        throw new ConfigurationException("first");
+      }
+
+      return v.isEmpty() ? null : v;
+    };
+
+    try{
+      cache.convert(converter, "a");
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+
+    assertThat(cache.convert(converter, "a"), is("a"));
+    assertThat(cache.convert(converter, ""), is(nullValue()));
+    assertThat(cache.convert(converter, ""), is(nullValue()));
+    assertThat(conversions.get(), is(4));
+    assertThat(cache.size(), is(1));
+  }
+
+  @Test
+  public void concurrentConversions() throws Exception {
+    final ConversionCache cache = new ConversionCache(256);
+    final ConfigurationConverter<Integer> converter = new IntegerConfigurationConverter();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try{
+      final List<Future<Boolean>> results = new ArrayList<>();
+
+      for(int t = 0; t < 4; t++){
+        results.add(executor.submit(() -> {
+          for(int i = 0; i < 10_000; i++){
+            if(cache.convert(converter, String.valueOf(i % 512)) != i % 512){
+              return false;
+            }
+          }
+
+          return true;
+        }));
+      }
+
+      for(Future<Boolean> result : results){
+        assertThat(result.get(), is(true));
+      }
+    }finally{
+      executor.shutdown();
+    }
+
+    assertThat(cache.size() <= 256, is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfSizeNotPositive(){
+    new ConversionCache(0);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConverter() throws Exception {
+    new ConversionCache(1).convert(null, "value");
+  }
+}
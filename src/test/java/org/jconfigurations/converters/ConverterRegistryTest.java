@@ -0,0 +1,298 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.functions.CollectionFieldConverterFunction;
+import org.jconfigurations.functions.DefaultCollectionTypeConverterFunction;
+import org.jconfigurations.functions.DefaultMapTypeConverterFunction;
+import org.jconfigurations.functions.DefaultTypeConverterFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.MapFieldConverterFunction;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConverterRegistryTest {
+  @Test
+  public void sameInstanceForSameTypeAndParameters() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final ConfigurationConverter element = registry.get(IntegerConfigurationConverter.class, IntegerConfigurationConverter::new);
+
+    assertThat(
+        registry.get(IntegerConfigurationConverter.class, IntegerConfigurationConverter::new),
+        is(sameInstance(element))
+    );
+    assertThat(
+        registry.get(
+            ListConfigurationConverter.class, 
+            () -> new ListConfigurationConverter(element, ","), 
+            element, 
+            ","
+        ),
+        is(sameInstance(
+            registry.get(
+                ListConfigurationConverter.class, 
+                () -> new ListConfigurationConverter(element, ","), 
+                element, 
+                ","
+            )
+        ))
+    );
+  }
+
+  @Test
+  public void differentInstancesForDifferentParameters() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final ConfigurationConverter element = registry.get(IntegerConfigurationConverter.class, IntegerConfigurationConverter::new);
+
+    assertThat(
+        registry.get(
+            ListConfigurationConverter.class, 
+            () -> new ListConfigurationConverter(element, ","), 
+            element, 
+            ","
+        ),
+        is(not(sameInstance(
+            registry.get(
+                ListConfigurationConverter.class, 
+                () -> new ListConfigurationConverter(element, ";"), 
+                element, 
+                ";"
+            )
+        )))
+    );
+  }
+
+  @Test
+  public void factoryInvokedOnceUnderContention() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final AtomicInteger instances = new AtomicInteger();
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    final List<Future<ConfigurationConverter>> results = new ArrayList<>();
+
+    try{
+      for(int i = 0; i < 8; i++){
+        results.add(executor.submit((Callable<ConfigurationConverter>) () -> {
+          start.await();
+          return registry.get(
+              StringConfigurationConverter.class, 
+              () -> {instances.incrementAndGet(); return new StringConfigurationConverter();}
+          );
+        }));
+      }
+
+      start.countDown();
+
+      for(Future<ConfigurationConverter> result : results){
+        assertThat(result.get(), is(sameInstance(results.get(0).get())));
+      }
+    }finally{
+      executor.shutdown();
+    }
+
+    assertThat(instances.get(), is(1));
+  }
+
+  @Test
+  public void factoryErrorIsPropagatedAndNotCached() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final ConfigurationException error = new ConfigurationException("test");
+
+    try{
+      registry.get(StringConfigurationConverter.class, () -> {throw error;});
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(e, is(sameInstance(error)));
+    }
+
+    assertThat(
+        registry.get(StringConfigurationConverter.class, StringConfigurationConverter::new).convert("test"),
+        is("test")
+    );
+  }
+
+  @Test
+  public void functionsShareConverters() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final FieldConverterFunction basic = new FieldConverterFunction(
+        new DefaultTypeConverterFunction(), 
+        registry
+    );
+    final CollectionFieldConverterFunction collection = new CollectionFieldConverterFunction(
+        new DefaultTypeConverterFunction(), 
+        new DefaultCollectionTypeConverterFunction(), 
+        registry
+    );
+    final MapFieldConverterFunction map = new MapFieldConverterFunction(
+        new DefaultTypeConverterFunction(), 
+        new DefaultMapTypeConverterFunction(), 
+        registry
+    );
+
+    assertThat(
+        basic.apply(TestClass.class.getDeclaredField("first")),
+        is(sameInstance(basic.apply(TestClass.class.getDeclaredField("second"))))
+    );
+    assertThat(
+        collection.apply(TestClass.class.getDeclaredField("firstList")),
+        is(sameInstance(collection.apply(TestClass.class.getDeclaredField("secondList"))))
+    );
+    assertThat(
+        collection.apply(TestClass.class.getDeclaredField("firstList")),
+        is(not(sameInstance(collection.apply(TestClass.class.getDeclaredField("otherList")))))
+    );
+    assertThat(
+        map.apply(TestClass.class.getDeclaredField("firstMap")),
+        is(sameInstance(map.apply(TestClass.class.getDeclaredField("secondMap"))))
+    );
+  }
+
+  @Test
+  public void clearForgetsConverters() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final StringConfigurationConverter converter = registry.get(StringConfigurationConverter.class, StringConfigurationConverter::new);
+    registry.clear();
+
+    assertThat(
+        registry.get(StringConfigurationConverter.class, StringConfigurationConverter::new), 
+        is(not(sameInstance(converter)))
+    );
+  }
+
+  @Test
+  public void convertersDoNotPinClassLoaders() throws Exception {
+    final ConverterRegistry registry = new ConverterRegistry();
+    final WeakReference<ClassLoader> loader = register(registry);
+
+    for(int i = 0; i < 100 && loader.get() != null; i++){
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(loader.get() == null, is(true));
+  }
+
+  /*
+   * Registers a converter of a class loaded by a child class loader, both on its own and as 
+   * the parameter of another converter.
+   */
+  private static WeakReference<ClassLoader> register(ConverterRegistry registry) throws Exception {
+    final ClassLoader loader = new ChildLoader(ChildConverter.class.getName());
+    @SuppressWarnings("unchecked")
+    final Class<? extends ConfigurationConverter> type = 
+        (Class<? extends ConfigurationConverter>) loader.loadClass(ChildConverter.class.getName());
+    final ConfigurationConverter instance = type.getConstructor().newInstance();
+    final ConfigurationConverter child = registry.get(type, () -> instance);
+    registry.get(StringConfigurationConverter.class, StringConfigurationConverter::new, child);
+
+    assertThat(type == ChildConverter.class, is(false));
+    return new WeakReference<>(loader);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullType() throws Exception {
+    new ConverterRegistry().get(null, StringConfigurationConverter::new);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullFactory() throws Exception {
+    new ConverterRegistry().get(StringConfigurationConverter.class, null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfFactoryReturnsNull() throws Exception {
+    new ConverterRegistry().get(StringConfigurationConverter.class, () -> null);
+  }
+
+  public static class ChildConverter extends StringConfigurationConverter {
+  }
+
+  /*
+   * Loads its own copy of one class.
+   */
+  private static final class ChildLoader extends ClassLoader {
+    private final String name;
+
+    private ChildLoader(String name) {
+      super(ConverterRegistryTest.class.getClassLoader());
+      this.name = name;
+    }
+
+    @Override
+    protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+      if(!className.equals(name)){
+        return super.loadClass(className, resolve);
+      }
+
+      try(InputStream in = getParent().getResourceAsStream(className.replace('.', '/') + ".class")){
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+
+        while((read = in.read(buffer)) > 0){
+          bytes.write(buffer, 0, read);
+        }
+
+        return defineClass(className, bytes.toByteArray(), 0, bytes.size());
+      }catch(IOException e){
+        throw new ClassNotFoundException(className, e);
+      }
+    }
+  }
+
+  private static class TestClass {
+    @Configuration
+    private Integer first;
+    @Configuration
+    private Integer second;
+    @CollectionConfiguration
+    private List<Integer> firstList;
+    @CollectionConfiguration
+    private List<Integer> secondList;
+    @CollectionConfiguration(delimiter = ";")
+    private List<Integer> otherList;
+    @MapConfiguration
+    private Map<String, Integer> firstMap;
+    @MapConfiguration
+    private Map<String, Integer> secondMap;
+  }
+}
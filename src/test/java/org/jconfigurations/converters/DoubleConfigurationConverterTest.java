@@ -15,6 +15,7 @@
  */
 package org.jconfigurations.converters;
 
+import org.jconfigurations.ConfigurationException;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -56,5 +57,20 @@ public class DoubleConfigurationConverterTest {
     Double result = instance.convert(value);
     assertEquals(expResult, result);
   }
-  
+
+  @Test
+  public void testConvertDouble() throws Exception {
+    System.out.println("convertDouble");
+    String value = String.valueOf(Double.MIN_VALUE);
+    DoubleConfigurationConverter instance = new DoubleConfigurationConverter();
+    double result = instance.convertDouble(value);
+    assertEquals(Double.MIN_VALUE, result, 0d);
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void testConvertDoubleInvalid() throws Exception {
+    System.out.println("convertDoubleInvalid");
+    DoubleConfigurationConverter instance = new DoubleConfigurationConverter();
+    instance.convertDouble("1.0d.0");
+  }
 }
@@ -15,6 +15,7 @@
  */
 package org.jconfigurations.converters;
 
+import org.jconfigurations.ConfigurationException;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -56,4 +57,20 @@ public class FloatConfigurationConverterTest {
     Float result = instance.convert(value);
     assertEquals(expResult, result);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testConvertFloat() throws Exception {
+    System.out.println("convertFloat");
+    String value = String.valueOf(-Float.MAX_VALUE);
+    FloatConfigurationConverter instance = new FloatConfigurationConverter();
+    float result = instance.convertFloat(value);
+    assertEquals(-Float.MAX_VALUE, result, 0f);
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void testConvertFloatInvalid() throws Exception {
+    System.out.println("convertFloatInvalid");
+    FloatConfigurationConverter instance = new FloatConfigurationConverter();
+    instance.convertFloat("1.0f.0");
+  }
+}
@@ -72,6 +72,38 @@ public class HashMapConfigurationConverterTest {
     assertEquals(new Integer(5), test.annotatedStringIntMap.get("five"));
   }
 
+  @Test
+  public void sameEntriesAsSplit() throws Exception {
+    final Map<String, String> map = new HashMapConfigurationConverter<>(
+        new StringConfigurationConverter(),
+        new StringConfigurationConverter(),
+        ",",
+        "="
+    ).convert("a=1,b=,c,d=2=3,e==4,,");
+
+    assertEquals(5, map.size());
+    assertEquals("1", map.get("a"));
+    assertNull(map.get("b"));
+    assertNull(map.get("c"));
+    assertEquals("2", map.get("d"));
+    assertEquals("", map.get("e"));
+  }
+
+  @Test
+  public void regexDelimiters() throws Exception {
+    final Map<String, String> map = new HashMapConfigurationConverter<>(
+        new StringConfigurationConverter(),
+        new StringConfigurationConverter(),
+        "[,;]\\s*",
+        "\\s*=\\s*"
+    ).convert("a = 1, b=2;  c =3");
+
+    assertEquals(3, map.size());
+    assertEquals("1", map.get("a"));
+    assertEquals("2", map.get("b"));
+    assertEquals("3", map.get("c"));
+  }
+
   private static class TestClass {
     private Map<Integer, String> nonAnnotatedIntStringMap;
     @MapConfiguration
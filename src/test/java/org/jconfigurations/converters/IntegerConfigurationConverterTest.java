@@ -15,6 +15,7 @@
  */
 package org.jconfigurations.converters;
 
+import org.jconfigurations.ConfigurationException;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -56,4 +57,20 @@ public class IntegerConfigurationConverterTest {
     Integer result = instance.convert(value);
     assertEquals(expResult, result);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testConvertInt() throws Exception {
+    System.out.println("convertInt");
+    String value = String.valueOf(Integer.MIN_VALUE);
+    IntegerConfigurationConverter instance = new IntegerConfigurationConverter();
+    int result = instance.convertInt(value);
+    assertEquals(Integer.MIN_VALUE, result);
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void testConvertIntInvalid() throws Exception {
+    System.out.println("convertIntInvalid");
+    IntegerConfigurationConverter instance = new IntegerConfigurationConverter();
+    instance.convertInt("2147483648");
+  }
+}
@@ -15,6 +15,7 @@
  */
 package org.jconfigurations.converters;
 
+import org.jconfigurations.ConfigurationException;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -55,4 +56,20 @@ public class LongConfigurationConverterTest {
     Long result = instance.convert(value);
     assertEquals(expResult, result);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testConvertLong() throws Exception {
+    System.out.println("convertLong");
+    String value = String.valueOf(Long.MIN_VALUE);
+    LongConfigurationConverter instance = new LongConfigurationConverter();
+    long result = instance.convertLong(value);
+    assertEquals(Long.MIN_VALUE, result);
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void testConvertLongInvalid() throws Exception {
+    System.out.println("convertLongInvalid");
+    LongConfigurationConverter instance = new LongConfigurationConverter();
+    instance.convertLong("9223372036854775808");
+  }
+}
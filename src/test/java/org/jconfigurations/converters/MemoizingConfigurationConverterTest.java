@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.converters;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.configurators.Configurator;
+import org.jconfigurations.configurators.NoOpConfigurator;
+import org.jconfigurations.configurators.SinglePassConfigurator;
+import org.jconfigurations.functions.CollectionFieldConverterFunction;
+import org.jconfigurations.functions.DefaultFieldNameFunction;
+import org.jconfigurations.functions.FieldConverterFunction;
+import org.jconfigurations.functions.MapFieldConverterFunction;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class MemoizingConfigurationConverterTest {
+  @Test
+  public void convertsOncePerValue() throws Exception {
+    final AtomicInteger conversions = new AtomicInteger();
+    final MemoizingConfigurationConverter<Integer> converter = new MemoizingConfigurationConverter<>(
+        v -> {conversions.incrementAndGet(); return Integer.valueOf(v);},
+        new ConversionCache(10)
+    );
+
+    for(int i = 0; i < 10; i++){
+      assertThat(converter.convert("5"), is(5));
+    }
+
+    assertThat(conversions.get(), is(1));
+  }
+
+  @Test
+  public void objectsShareConversions() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("list", "1,2,3");
+    map.put("map", "a=1,b=2");
+    final ConversionCache cache = new ConversionCache(10);
+    final CollectionFieldConverterFunction collections = new CollectionFieldConverterFunction();
+    final MapFieldConverterFunction maps = new MapFieldConverterFunction();
+    final Configurator configurator = new SinglePassConfigurator(
+        new MapConfigurationSource(map),
+        new NoOpConfigurator(),
+        new DefaultFieldNameFunction(),
+        new FieldConverterFunction(),
+        f -> MemoizingConfigurationConverter.collection(collections.apply(f), cache),
+        f -> MemoizingConfigurationConverter.map(maps.apply(f), cache)
+    );
+    final TestClass first = new TestClass();
+    final TestClass second = new TestClass();
+    configurator.configure(first);
+    configurator.configure(second);
+
+    assertThat(first.list, is(Arrays.asList(1, 2, 3)));
+    assertThat(second.list, is(first.list));
+    assertThat(second.list, is(not(sameInstance(first.list))));
+    assertThat(second.map.get("b"), is(2));
+    assertThat(second.map, is(not(sameInstance(first.map))));
+    assertThat(cache.size(), is(2));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConverter(){
+    new MemoizingConfigurationConverter<>(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullCache(){
+    new MemoizingConfigurationConverter<>(new IntegerConfigurationConverter(), null);
+  }
+
+  private static class TestClass {
+    @CollectionConfiguration
+    private List<Integer> list;
+    @MapConfiguration
+    private Map<String, Integer> map;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.functions;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import org.jconfigurations.CollectionConfiguration;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.MapConfiguration;
+import org.jconfigurations.Name;
+import org.jconfigurations.Required;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfigurationNamesFunctionTest {
+  @Test
+  public void namesOfAnnotatedFields() throws Exception {
+    assertThat(
+        new ArrayList<>(new ConfigurationNamesFunction().apply(TestClass.class)),
+        is(Arrays.asList("required", "basic", "custom.list", "map"))
+    );
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfNameCannotBeProduced() throws Exception {
+    new ConfigurationNamesFunction().apply(InvalidNameClass.class);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullFieldNameFunction() {
+    new ConfigurationNamesFunction(null);
+  }
+
+  private static class TestClass {
+    @Required
+    private String required;
+    @Configuration
+    private String basic;
+    @Name("custom.list")
+    @CollectionConfiguration
+    private List<String> list;
+    @MapConfiguration
+    private Map<String, String> map;
+    private String notConfigured;
+  }
+
+  private static class InvalidNameClass {
+    @Name("")
+    @Configuration
+    private String field;
+  }
+}
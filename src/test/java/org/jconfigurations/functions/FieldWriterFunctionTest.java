@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.functions;
+
+import java.lang.reflect.Field;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import org.jconfigurations.writers.FieldWriter;
+import org.jconfigurations.writers.MethodHandleFieldWriter;
+import org.jconfigurations.writers.ReflectionFieldWriter;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class FieldWriterFunctionTest {
+  @Test
+  public void methodHandleWriterForNonFinalFields() throws Exception {
+    assertThat(writer("string"), instanceOf(MethodHandleFieldWriter.class));
+  }
+
+  @Test
+  public void reflectionWriterForStaticFinalFields() throws Exception {
+    assertThat(writer("STATIC_FINAL"), instanceOf(ReflectionFieldWriter.class));
+  }
+
+  private static FieldWriter writer(String name) throws Exception {
+    final Field field = TestClass.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return new FieldWriterFunction().apply(field);
+  }
+
+  private static class TestClass {
+    private String string;
+    private static final String STATIC_FINAL = "final";
+  }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.processor;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeSet;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import static org.hamcrest.CoreMatchers.is;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.configurators.ConfigurationProxies;
+import org.jconfigurations.configurators.ConfiguratorFactory;
+import org.jconfigurations.configurators.JConfigurator;
+import org.jconfigurations.configurators.SinglePassConfigurator;
+import org.jconfigurations.source.MapConfigurationSource;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfiguratorProcessorTest {
+  private static final String SETTINGS = String.join("\n",
+      "package sample;",
+      "import java.util.List;",
+      "import java.util.Map;",
+      "import org.jconfigurations.*;",
+      "public class Settings {",
+      "  @Required @Configuration int port;",
+      "  @Name(\"server.host\") @Configuration String host;",
+      "  @CollectionConfiguration List<Integer> ids;",
+      "  @MapConfiguration(entryDelimiter = \";\") Map<String, Long> limits;",
+      "  @Configuration boolean untouched = true;",
+      "  public static class Nested {",
+      "    @Configuration double ratio;",
+      "  }",
+      "}"
+  );
+  private static final String PRIVATE_FIELDS = String.join("\n",
+      "package sample;",
+      "import org.jconfigurations.*;",
+      "public class PrivateFields {",
+      "  @Configuration private int port;",
+      "}"
+  );
+  private static final String PREFIXED = String.join("\n",
+      "package sample;",
+      "import org.jconfigurations.*;",
+      "public class Prefixed {",
+      "  @Configuration int port;",
+      "  @Prefix(\"db\") Settings.Nested db;",
+      "}"
+  );
+  private static final String DATABASE = String.join("\n",
+      "package sample;",
+      "import java.util.List;",
+      "import org.jconfigurations.*;",
+      "public interface Database {",
+      "  @Name(\"db.url\") String dbUrl();",
+      "  @Name(\"db.pool.max\") int maxConnections();",
+      "  @CollectionConfiguration List<Integer> ports();",
+      "  long timeout();",
+      "  @Required @Name(\"db.user\") String user() throws ConfigurationException;",
+      "  default String describe() { return dbUrl() + \"/\" + maxConnections(); }",
+      "}"
+  );
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+  private File classes;
+  private DiagnosticCollector<JavaFileObject> diagnostics;
+
+  @Before
+  public void setUp() throws Exception {
+    final File sources = new File(folder.getRoot(), "sample");
+    sources.mkdirs();
+    Files.write(new File(sources, "Settings.java").toPath(), SETTINGS.getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(sources, "PrivateFields.java").toPath(), PRIVATE_FIELDS.getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(sources, "Prefixed.java").toPath(), PREFIXED.getBytes(StandardCharsets.UTF_8));
+    Files.write(new File(sources, "Database.java").toPath(), DATABASE.getBytes(StandardCharsets.UTF_8));
+    classes = folder.newFolder("classes");
+    diagnostics = new DiagnosticCollector<>();
+
+    assertThat(
+        diagnostics.getDiagnostics().toString(),
+        compile(
+            new File(sources, "Settings.java"), 
+            new File(sources, "PrivateFields.java"), 
+            new File(sources, "Prefixed.java"),
+            new File(sources, "Database.java")
+        ), 
+        is(true)
+    );
+  }
+
+  @Test
+  public void generatesConfiguratorsAndServiceIndex() throws Exception {
+    assertThat(new File(classes, "sample/Settings_JConfigurator.class").exists(), is(true));
+    assertThat(new File(classes, "sample/Settings_Nested_JConfigurator.class").exists(), is(true));
+    assertThat(
+        new TreeSet<>(Files.readAllLines(new File(classes, ConfiguratorProcessor.SERVICE_INDEX).toPath())),
+        is(new TreeSet<>(Arrays.asList(
+            "sample.Settings_JConfigurator$Factory",
+            "sample.Settings_Nested_JConfigurator$Factory"
+        )))
+    );
+  }
+
+  @Test
+  public void skipsClassesWithPrivateFields() throws Exception {
+    assertThat(new File(classes, "sample/PrivateFields_JConfigurator.class").exists(), is(false));
+    assertThat(
+        diagnostics.getDiagnostics().stream().anyMatch(d -> d.getMessage(null).contains("sample.PrivateFields")),
+        is(true)
+    );
+  }
+
+  @Test
+  public void skipsClassesWithPrefixFields() throws Exception {
+    assertThat(new File(classes, "sample/Prefixed_JConfigurator.class").exists(), is(false));
+    assertThat(
+        diagnostics.getDiagnostics().stream().anyMatch(d -> d.getMessage(null).contains("sample.Prefixed")),
+        is(true)
+    );
+  }
+
+  @Test
+  public void sameResultAsSinglePass() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("port", "8080");
+    map.put("server.host", "localhost");
+    map.put("ids", "1,2,3");
+    map.put("limits", "a=1;b=2");
+    map.put("ratio", "0.5");
+    final MapConfigurationSource source = new MapConfigurationSource(map);
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Class<?> settingsClass = loader.loadClass("sample.Settings");
+      final Class<?> nestedClass = loader.loadClass("sample.Settings$Nested");
+      final Map<Class<?>, ConfiguratorFactory> factories = new HashMap<>();
+      ServiceLoader.load(ConfiguratorFactory.class, loader).forEach(f -> factories.put(f.type(), f));
+      assertThat(factories.keySet(), is(new java.util.HashSet<>(Arrays.asList(settingsClass, nestedClass))));
+
+      final Object generated = settingsClass.newInstance();
+      factories.get(settingsClass).create(source).configure(generated);
+      final Object reflective = settingsClass.newInstance();
+      new SinglePassConfigurator(source).configure(reflective);
+
+      for(String field : Arrays.asList("port", "host", "ids", "limits", "untouched")){
+        assertThat(field, get(generated, field), is(get(reflective, field)));
+      }
+
+      assertThat(get(generated, "port"), is((Object) 8080));
+      assertThat(get(generated, "ids"), is((Object) Arrays.asList(1, 2, 3)));
+      assertThat(((Map<?, ?>) get(generated, "limits")).get("b"), is((Object) 2L));
+    }
+  }
+
+  @Test
+  public void jconfiguratorUsesGeneratedConfigurators() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("ratio", "0.5");
+    final Thread thread = Thread.currentThread();
+    final ClassLoader previous = thread.getContextClassLoader();
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      thread.setContextClassLoader(loader);
+      final Object nested = loader.loadClass("sample.Settings$Nested").newInstance();
+      new JConfigurator(new MapConfigurationSource(map)).configure(nested);
+      assertThat(get(nested, "ratio"), is((Object) 0.5));
+    }finally{
+      thread.setContextClassLoader(previous);
+    }
+  }
+
+  @Test
+  public void jconfiguratorIgnoresStaleIndexEntries() throws Exception {
+    final Map<String, String> map = new HashMap<>();
+    map.put("ratio", "0.5");
+    Files.write(
+        new File(classes, ConfiguratorProcessor.SERVICE_INDEX).toPath(), 
+        "sample.Removed_JConfigurator$Factory\n".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND
+    );
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Object nested = loader.loadClass("sample.Settings$Nested").newInstance();
+      new JConfigurator(new MapConfigurationSource(map)).configure(nested);
+      assertThat(get(nested, "ratio"), is((Object) 0.5));
+    }
+  }
+
+  @Test
+  public void staleIndexEntriesDroppedOnRecompilation() throws Exception {
+    Files.write(
+        new File(classes, ConfiguratorProcessor.SERVICE_INDEX).toPath(), 
+        "sample.Removed_JConfigurator$Factory\n".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND
+    );
+    for(String generated : new String[]{".java", ".class", "$Factory.class"}){
+      new File(classes, "sample/Settings_Nested_JConfigurator" + generated).delete();
+    }
+
+    assertThat(compile(new File(folder.getRoot(), "sample/Prefixed.java")), is(true));
+    assertThat(
+        new TreeSet<>(Files.readAllLines(new File(classes, ConfiguratorProcessor.SERVICE_INDEX).toPath())),
+        is(new TreeSet<>(Arrays.asList("sample.Settings_JConfigurator$Factory")))
+    );
+  }
+
+  @Test
+  public void overriddenConvertUsedForPrimitiveFields() throws Exception {
+    final File sources = new File(folder.getRoot(), "sample");
+    Files.write(
+        new File(sources, "Doubled.java").toPath(),
+        String.join("\n",
+            "package sample;",
+            "import org.jconfigurations.*;",
+            "import org.jconfigurations.converters.IntegerConfigurationConverter;",
+            "public class Doubled {",
+            "  @Configuration(converter = Converter.class) int port;",
+            "  public static class Converter extends IntegerConfigurationConverter {",
+            "    @Override public Integer convert(String value) throws ConfigurationException {",
+            "      return 2 * super.convert(value);",
+            "    }",
+            "  }",
+            "}"
+        ).getBytes(StandardCharsets.UTF_8)
+    );
+    assertThat(diagnostics.getDiagnostics().toString(), compile(new File(sources, "Doubled.java")), is(true));
+    final Map<String, String> map = new HashMap<>();
+    map.put("port", "4");
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Class<?> doubledClass = loader.loadClass("sample.Doubled");
+      final Object doubled = doubledClass.newInstance();
+      factory(loader, doubledClass).create(new MapConfigurationSource(map)).configure(doubled);
+      assertThat(get(doubled, "port"), is((Object) 8));
+    }
+  }
+
+  @Test
+  public void sameErrorsAsSinglePass() throws Exception {
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Class<?> settingsClass = loader.loadClass("sample.Settings");
+      final ConfiguratorFactory factory = factory(loader, settingsClass);
+      final Map<String, String> map = new HashMap<>();
+      assertThat(
+          message(factory, new MapConfigurationSource(map), settingsClass.newInstance()),
+          is(message(null, new MapConfigurationSource(map), settingsClass.newInstance()))
+      );
+      map.put("port", "not a number");
+      assertThat(
+          message(factory, new MapConfigurationSource(map), settingsClass.newInstance()),
+          is(message(null, new MapConfigurationSource(map), settingsClass.newInstance()))
+      );
+    }
+  }
+
+  @Test
+  public void proxiesResolveConfigurationsOnFirstCall() throws Throwable {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.url", "jdbc:h2:mem:");
+    map.put("ports", "1,2");
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      assertThat(new File(classes, "sample/Database" + ConfigurationProxies.SUFFIX + ".class").exists(), is(true));
+      final Object proxy = ConfigurationProxies.create(loader.loadClass("sample.Database"), new MapConfigurationSource(map));
+      map.put("db.pool.max", "10");
+
+      assertThat(call(proxy, "dbUrl"), is((Object) "jdbc:h2:mem:"));
+      assertThat(call(proxy, "maxConnections"), is((Object) 10));
+      assertThat(call(proxy, "ports"), is((Object) Arrays.asList(1, 2)));
+      assertThat(call(proxy, "timeout"), is((Object) 0L));
+      assertThat(call(proxy, "describe"), is((Object) "jdbc:h2:mem:/10"));
+
+      map.put("db.url", "changed");
+      map.put("db.pool.max", "20");
+      assertThat(call(proxy, "dbUrl"), is((Object) "jdbc:h2:mem:"));
+      assertThat(call(proxy, "maxConnections"), is((Object) 10));
+    }
+  }
+
+  @Test
+  public void proxiesThrowDeclaredOrUncheckedErrors() throws Throwable {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.pool.max", "not a number");
+
+    try(URLClassLoader loader = new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader())){
+      final Object proxy = ConfigurationProxies.create(loader.loadClass("sample.Database"), new MapConfigurationSource(map));
+
+      try{
+        call(proxy, "user");
+        fail("expected a ConfigurationException");
+      }catch(ConfigurationException e){
+        assertThat(e.getMessage(), is("Required configuration not found for method 'user' in interface 'sample.Database'"));
+      }
+
+      try{
+        call(proxy, "maxConnections");
+        fail("expected an IllegalStateException");
+      }catch(IllegalStateException e){
+        assertThat(
+            e.getCause().getMessage(),
+            is("Unable to configure method 'maxConnections' of type 'int' in interface 'sample.Database'")
+        );
+      }
+
+      map.put("db.user", "sa");
+      map.put("db.pool.max", "5");
+      assertThat(call(proxy, "user"), is((Object) "sa"));
+      assertThat(call(proxy, "maxConnections"), is((Object) 5));
+    }
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfNoProxyGenerated() throws Exception {
+    ConfigurationProxies.create(Runnable.class, new MapConfigurationSource(new HashMap<>()));
+  }
+
+  private boolean compile(File... sources) throws Exception {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+    try(StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)){
+      return compiler.getTask(
+          null,
+          files,
+          diagnostics,
+          Arrays.asList(
+              "-classpath", 
+              new File(ConfigurationException.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath()
+                  + File.pathSeparator + classes.getPath(),
+              "-processor", ConfiguratorProcessor.class.getName(),
+              "-d", classes.getPath()
+          ),
+          null,
+          files.getJavaFileObjects(sources)
+      ).call();
+    }
+  }
+
+  private static Object call(Object proxy, String method) throws Throwable {
+    try{
+      return proxy.getClass().getMethod(method).invoke(proxy);
+    }catch(InvocationTargetException e){
+      throw e.getCause();
+    }
+  }
+
+  private static ConfiguratorFactory factory(ClassLoader loader, Class<?> type) {
+    for(ConfiguratorFactory factory : ServiceLoader.load(ConfiguratorFactory.class, loader)){
+      if(factory.type() == type){
+        return factory;
+      }
+    }
+
+    throw new AssertionError("no factory for " + type);
+  }
+
+  private static String message(ConfiguratorFactory factory, MapConfigurationSource source, Object object) {
+    try{
+      if(factory != null){
+        factory.create(source).configure(object);
+      }else{
+        new SinglePassConfigurator(source).configure(object);
+      }
+
+      fail("expected a ConfigurationException");
+      return null;
+    }catch(ConfigurationException e){
+      return e.getMessage();
+    }
+  }
+
+  private static Object get(Object object, String name) throws Exception {
+    final Field field = object.getClass().getDeclaredField(name);
+    field.setAccessible(true);
+    return field.get(object);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class CompositeConfigurationSourceTest {
+  @Test
+  public void laterLayersTakePrecedence() {
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(
+        new MapConfigurationSource(map("a", "defaults", "b", "defaults", "c", "defaults")),
+        new MapConfigurationSource(map("b", "file", "c", "file")),
+        new MapConfigurationSource(map("c", "overrides"))
+    );
+
+    assertThat(source.configurations().get("a"), is("defaults"));
+    assertThat(source.configurations().get("b"), is("file"));
+    assertThat(source.configurations().get("c"), is("overrides"));
+    assertThat(source.configurations(), is(sameInstance(source.configurations())));
+  }
+
+  @Test
+  public void recomputesWhenReloadableLayerChanges() {
+    final ReloadableConfigurationSource file = new ReloadableConfigurationSource(map("b", "file", "c", "file"));
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(
+        new MapConfigurationSource(map("a", "defaults", "b", "defaults")),
+        file,
+        new MapConfigurationSource(map("c", "overrides"))
+    );
+    final AtomicInteger notifications = new AtomicInteger();
+    source.addListener((p, c) -> notifications.incrementAndGet());
+
+    file.publish(map("a", "file", "c", "changed", "d", "file"));
+
+    assertThat(source.configurations().get("a"), is("file"));
+    assertThat(source.configurations().get("b"), is("defaults"));
+    assertThat(source.configurations().get("c"), is("overrides"));
+    assertThat(source.configurations().get("d"), is("file"));
+    assertThat(source.version(), is(1L));
+    assertThat(notifications.get(), is(1));
+
+    file.publish(map());
+
+    assertThat(source.configurations().get("a"), is("defaults"));
+    assertThat(source.configurations().containsKey("d"), is(false));
+    assertThat(source.version(), is(2L));
+  }
+
+  @Test
+  public void nothingPublishedIfLayerChangeIsEmpty() {
+    final ReloadableConfigurationSource file = new ReloadableConfigurationSource(map("a", "1"));
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(file);
+    file.publish(map("a", "1"));
+
+    assertThat(source.version(), is(0L));
+  }
+
+  @Test
+  public void closeStopsListening() {
+    final ReloadableConfigurationSource file = new ReloadableConfigurationSource(map("a", "1"));
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(file);
+    source.close();
+    file.publish(map("a", "2"));
+
+    assertThat(source.configurations().get("a"), is("1"));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullLayer() {
+    new CompositeConfigurationSource(new MapConfigurationSource(map()), null);
+  }
+
+  private static Map<String, String> map(String... entries) {
+    final Map<String, String> map = new HashMap<>();
+
+    for(int i = 0; i < entries.length; i += 2){
+      map.put(entries[i], entries[i + 1]);
+    }
+
+    return map;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfigurationDiffTest {
+  @Test
+  public void addedRemovedAndChanged() {
+    final Map<String, String> previous = new HashMap<>();
+    previous.put("same", "1");
+    previous.put("changed", "1");
+    previous.put("removed", "1");
+    previous.put("nullToValue", null);
+    final Map<String, String> current = new HashMap<>();
+    current.put("same", "1");
+    current.put("changed", "2");
+    current.put("added", "1");
+    current.put("nullToValue", "1");
+    final ConfigurationDiff diff = ConfigurationDiff.of(previous, current);
+
+    assertThat(diff.added(), is(Collections.singleton("added")));
+    assertThat(diff.removed(), is(Collections.singleton("removed")));
+    assertThat(diff.changed().size(), is(2));
+    assertThat(diff.changed().contains("changed"), is(true));
+    assertThat(diff.changed().contains("nullToValue"), is(true));
+    assertThat(diff.affects("same"), is(false));
+    assertThat(diff.affects("removed"), is(true));
+    assertThat(diff.isEmpty(), is(false));
+  }
+
+  @Test
+  public void emptyIfEqual() {
+    final Map<String, String> previous = new HashMap<>();
+    previous.put("a", "1");
+    previous.put("b", null);
+
+    assertThat(ConfigurationDiff.of(previous, new HashMap<>(previous)).isEmpty(), is(true));
+    assertThat(ConfigurationDiff.of(previous, previous).isEmpty(), is(true));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullPrevious() {
+    ConfigurationDiff.of(null, new HashMap<>());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullCurrent() {
+    ConfigurationDiff.of(new HashMap<>(), null);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import org.jconfigurations.source.ConfigurationEvent.Type;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfigurationEventPublisherTest {
+  @Test
+  public void publishesChangesWithVersions() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "1", "b", "2"));
+    final Recorder recorder = new Recorder(Long.MAX_VALUE);
+    source.events().subscribe(recorder);
+
+    source.publish(map("a", "1", "b", "3", "c", "4"));
+    source.publish(map("b", "3", "c", "4"));
+
+    assertThat(recorder.events, is(Arrays.asList(
+        new ConfigurationEvent(Type.ADDED, "c", null, "4", 1),
+        new ConfigurationEvent(Type.UPDATED, "b", "2", "3", 1),
+        new ConfigurationEvent(Type.REMOVED, "a", "1", null, 2)
+    )));
+  }
+
+  @Test
+  public void deliversOnlyRequestedEvents() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map());
+    final Recorder recorder = new Recorder(1);
+    source.events().subscribe(recorder);
+
+    source.publish(map("a", "1"));
+    source.publish(map("a", "1", "b", "2"));
+    assertThat(recorder.events.size(), is(1));
+
+    recorder.subscription.request(5);
+    assertThat(recorder.events, is(Arrays.asList(
+        new ConfigurationEvent(Type.ADDED, "a", null, "1", 1),
+        new ConfigurationEvent(Type.ADDED, "b", null, "2", 2)
+    )));
+  }
+
+  @Test
+  public void coalescesPendingEvents() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "1", "c", "1", "d", "1"));
+    final Recorder recorder = new Recorder(0);
+    source.events().subscribe(recorder);
+
+    source.publish(map("a", "2", "b", "1", "d", "2"));
+    source.publish(map("a", "3", "c", "1", "d", "1"));
+
+    recorder.subscription.request(Long.MAX_VALUE);
+    assertThat(recorder.events, is(Arrays.asList(
+        new ConfigurationEvent(Type.UPDATED, "a", "1", "3", 2)
+    )));
+  }
+
+  @Test
+  public void completesAfterPendingEvents() throws Exception {
+    final List<ConfigurationSource> sources = new ArrayList<>();
+    final ReloadableConfigurationSource layer = new ReloadableConfigurationSource(map());
+    sources.add(layer);
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(sources);
+    final Recorder recorder = new Recorder(0);
+    source.events().subscribe(recorder);
+
+    layer.publish(map("a", "1"));
+    source.close();
+    assertThat(recorder.completed, is(false));
+
+    recorder.subscription.request(1);
+    assertThat(recorder.events.size(), is(1));
+    assertThat(recorder.completed, is(true));
+  }
+
+  @Test
+  public void laterSubscribersCompletedImmediately() throws Exception {
+    final CompositeConfigurationSource source = new CompositeConfigurationSource(new MapConfigurationSource(map()));
+    source.close();
+    final Recorder recorder = new Recorder(0);
+
+    source.events().subscribe(recorder);
+
+    assertThat(recorder.completed, is(true));
+    assertThat(source.events().hasSubscribers(), is(false));
+  }
+
+  @Test
+  public void errorIfNonPositiveRequest() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map());
+    final Recorder recorder = new Recorder(0);
+    source.events().subscribe(recorder);
+
+    recorder.subscription.request(0);
+
+    assertThat(recorder.error, instanceOf(IllegalArgumentException.class));
+    assertThat(source.events().hasSubscribers(), is(false));
+  }
+
+  @Test
+  public void errorIfSubscriberFails() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map());
+    final Recorder recorder = new Recorder(Long.MAX_VALUE){
+      @Override
+      public void onNext(ConfigurationEvent event) {
+        throw new IllegalStateException();
+      }
+    };
+    source.events().subscribe(recorder);
+
+    source.publish(map("a", "1"));
+
+    assertThat(recorder.error, instanceOf(IllegalStateException.class));
+    assertThat(source.events().hasSubscribers(), is(false));
+  }
+
+  @Test
+  public void olderVersionsIgnored() {
+    final ConfigurationEventPublisher publisher = new ConfigurationEventPublisher();
+    final Recorder pending = new Recorder(0);
+    final Recorder delivered = new Recorder(Long.MAX_VALUE);
+    publisher.subscribe(pending);
+    publisher.subscribe(delivered);
+
+    publisher.publish(2, map("a", "1"), map("a", "2"));
+    publisher.publish(1, map("a", "0"), map("a", "1"));
+    publisher.publish(2, map("a", "1"), map("a", "0"));
+
+    pending.subscription.request(Long.MAX_VALUE);
+    assertThat(pending.events, is(Arrays.asList(
+        new ConfigurationEvent(Type.UPDATED, "a", "1", "2", 2)
+    )));
+    assertThat(delivered.events, is(pending.events));
+  }
+
+  @Test
+  public void noEventsAfterCancel() {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map());
+    final Recorder recorder = new Recorder(Long.MAX_VALUE);
+    source.events().subscribe(recorder);
+
+    recorder.subscription.cancel();
+    source.publish(map("a", "1"));
+
+    assertThat(recorder.events.isEmpty(), is(true));
+    assertThat(source.events().hasSubscribers(), is(false));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullSubscriber() {
+    new ReloadableConfigurationSource(map()).events().subscribe(null);
+  }
+
+  private static Map<String, String> map(String... entries) {
+    final Map<String, String> map = new HashMap<>();
+
+    for(int i = 0; i < entries.length; i += 2){
+      map.put(entries[i], entries[i + 1]);
+    }
+
+    return map;
+  }
+
+  private static class Recorder implements ConfigurationEventPublisher.Subscriber {
+    private final long initial;
+    private final List<ConfigurationEvent> events = new ArrayList<>();
+    private ConfigurationEventPublisher.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    private Recorder(long initial) {
+      this.initial = initial;
+    }
+
+    @Override
+    public void onSubscribe(ConfigurationEventPublisher.Subscription subscription) {
+      this.subscription = subscription;
+
+      if(initial > 0){
+        subscription.request(initial);
+      }
+    }
+
+    @Override
+    public void onNext(ConfigurationEvent event) {
+      events.add(event);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+      this.error = error;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
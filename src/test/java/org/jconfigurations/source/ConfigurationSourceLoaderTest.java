@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import org.jconfigurations.ConfigurationException;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ConfigurationSourceLoaderTest {
+  @Test
+  public void loadsSourcesConcurrently() throws Exception {
+    final CyclicBarrier barrier = new CyclicBarrier(3);
+
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      final ConfigurationSource source = loader.loadAll(
+          () -> {barrier.await(10, TimeUnit.SECONDS); return source("a", "1");},
+          () -> {barrier.await(10, TimeUnit.SECONDS); return source("b", "2");},
+          () -> {barrier.await(10, TimeUnit.SECONDS); return source("c", "3");}
+      ).get(10, TimeUnit.SECONDS);
+
+      assertThat(source.configurations().get("a"), is("1"));
+      assertThat(source.configurations().get("b"), is("2"));
+      assertThat(source.configurations().get("c"), is("3"));
+    }
+  }
+
+  @Test
+  public void laterSourcesTakePrecedence() throws Exception {
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      final ConfigurationSource source = loader.loadAll(
+          () -> source("name", "defaults"),
+          () -> source("name", "overrides")
+      ).get(10, TimeUnit.SECONDS);
+
+      assertThat(source.configurations().get("name"), is("overrides"));
+    }
+  }
+
+  @Test
+  public void errorsWrappedInConfigurationException() throws Exception {
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      loader.load(() -> {throw new SQLException("connection refused");}).get(10, TimeUnit.SECONDS);
+      fail("expected an ExecutionException");
+    }catch(ExecutionException e){
+      assertThat(e.getCause(), instanceOf(ConfigurationException.class));
+      assertThat(e.getCause().getCause(), instanceOf(SQLException.class));
+    }
+  }
+
+  @Test
+  public void loadedSourcesClosedIfAnyFails() throws Exception {
+    final CountDownLatch failed = new CountDownLatch(1);
+    final ClosableSource closable = new ClosableSource();
+
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      loader.loadAll(
+          () -> {failed.await(10, TimeUnit.SECONDS); return closable;},
+          () -> {
+            try{
+              throw new IOException("no such file");
+            }finally{
+              failed.countDown();
+            }
+          }
+      ).get(10, TimeUnit.SECONDS);
+      fail("expected an ExecutionException");
+    }catch(ExecutionException e){
+      assertThat(e.getCause(), instanceOf(ConfigurationException.class));
+    }
+
+    assertThat(closable.closed.get(), is(true));
+  }
+
+  @Test
+  public void otherErrorsSuppressed() throws Exception {
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      loader.loadAll(
+          () -> {throw new IOException("no such file");},
+          () -> source("a", "1"),
+          () -> {throw new SQLException("connection refused");}
+      ).get(10, TimeUnit.SECONDS);
+      fail("expected an ExecutionException");
+    }catch(ExecutionException e){
+      assertThat(e.getCause().getCause(), instanceOf(IOException.class));
+      assertThat(e.getCause().getSuppressed().length, is(1));
+      assertThat(e.getCause().getSuppressed()[0].getCause(), instanceOf(SQLException.class));
+    }
+  }
+
+  @Test
+  public void loadedSourcesClosedIfNotMerged() throws Exception {
+    final ClosableSource closable = new ClosableSource();
+
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      loader.loadAll(
+          () -> closable,
+          () -> () -> {throw new IllegalStateException("broken source");}
+      ).get(10, TimeUnit.SECONDS);
+      fail("expected an ExecutionException");
+    }catch(ExecutionException e){
+      assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    assertThat(closable.closed.get(), is(true));
+  }
+
+  @Test
+  public void givenExecutorNotShutDown() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    try{
+      try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader(executor)){
+        assertThat(loader.load(() -> source("a", "1")).get(10, TimeUnit.SECONDS).configurations().get("a"), is("1"));
+      }
+
+      assertThat(executor.isShutdown(), is(false));
+    }finally{
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void errorIfLoadedAfterClose() throws Exception {
+    final ConfigurationSourceLoader loader = new ConfigurationSourceLoader();
+    loader.close();
+
+    try{
+      loader.load(() -> source("a", "1")).get(10, TimeUnit.SECONDS);
+      fail("expected an ExecutionException");
+    }catch(ExecutionException e){
+      assertThat(e.getCause(), instanceOf(ConfigurationException.class));
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullExecutor(){
+    new ConfigurationSourceLoader(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullTask(){
+    try(ConfigurationSourceLoader loader = new ConfigurationSourceLoader()){
+      loader.load(null);
+    }
+  }
+
+  private static ConfigurationSource source(String name, String value) {
+    final Map<String, String> map = new HashMap<>();
+    map.put(name, value);
+    return new MapConfigurationSource(map);
+  }
+
+  private static class ClosableSource implements ConfigurationSource, Closeable {
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Override
+    public Map<String, String> configurations() {
+      return Collections.emptyMap();
+    }
+
+    @Override
+    public void close() {
+      closed.set(true);
+    }
+  }
+}
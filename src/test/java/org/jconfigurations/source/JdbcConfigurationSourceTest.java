@@ -16,10 +16,19 @@
 
 package org.jconfigurations.source;
 
+import com.mockrunner.jdbc.PreparedStatementResultSetHandler;
+import com.mockrunner.mock.jdbc.MockConnection;
+import com.mockrunner.mock.jdbc.MockPreparedStatement;
 import com.mockrunner.mock.jdbc.MockResultSet;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import org.junit.After;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -63,4 +72,148 @@ public class JdbcConfigurationSourceTest {
         is(String.valueOf(VALUES[0]))
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void closesStatementAndSetsFetchSize() throws Exception {
+    final MockConnection conn = new MockConnection();
+    final PreparedStatementResultSetHandler handler = conn.getPreparedStatementResultSetHandler();
+    handler.prepareResultSet("SELECT name, value FROM settings", mock);
+    final JdbcConfigurationSource source = new JdbcConfigurationSource(conn, "SELECT name, value FROM settings", 100);
+    final MockPreparedStatement stmt = handler.getPreparedStatements().get(0);
+
+    assertThat(source.configurations().size(), is(KEYS.length));
+    assertThat(stmt.getFetchSize(), is(100));
+    assertThat(stmt.isClosed(), is(true));
+  }
+
+  @Test
+  public void loadsKeysInBatches() throws Exception {
+    final MockConnection conn = new MockConnection();
+    final PreparedStatementResultSetHandler handler = conn.getPreparedStatementResultSetHandler();
+    final MockResultSet first = new MockResultSet("first");
+    first.addColumn("name", new String[]{"a", "b"});
+    first.addColumn("value", new String[]{"1", "2"});
+    final MockResultSet second = new MockResultSet("second");
+    second.addColumn("name", new String[]{"c"});
+    second.addColumn("value", new String[]{"3"});
+    handler.prepareResultSet("name IN (?, ?)", first, new Object[]{"tenant", "a", "b"});
+    handler.prepareResultSet("name IN (?)", second, new Object[]{"tenant", "c"});
+    final Map<String, String> configurations = new JdbcConfigurationSource(
+        conn, 
+        "SELECT name, value FROM settings WHERE tenant = ? AND name IN (%s)", 
+        Arrays.asList("a", "b", "c"), 
+        2, 
+        "tenant"
+    ).configurations();
+
+    assertThat(configurations.size(), is(3));
+    assertThat(configurations.get("a"), is("1"));
+    assertThat(configurations.get("c"), is("3"));
+    assertThat(handler.getPreparedStatements().size(), is(2));
+    assertThat(handler.getPreparedStatements().get(0).getFetchSize(), is(2));
+    assertThat(handler.getPreparedStatements().get(0).isClosed(), is(true));
+    assertThat(handler.getPreparedStatements().get(1).isClosed(), is(true));
+  }
+
+  @Test
+  public void percentSignsInSqlLeftAsIs() throws Exception {
+    final MockConnection conn = new MockConnection();
+    final PreparedStatementResultSetHandler handler = conn.getPreparedStatementResultSetHandler();
+    final MockResultSet result = new MockResultSet("result");
+    result.addColumn("name", new String[]{"db.a"});
+    result.addColumn("value", new String[]{"1"});
+    handler.prepareResultSet("name LIKE 'db.%' AND name IN (?)", result, new Object[]{"db.a"});
+    final Map<String, String> configurations = new JdbcConfigurationSource(
+        conn, 
+        "SELECT name, value FROM settings WHERE name LIKE 'db.%' AND name IN (%s)", 
+        Arrays.asList("db.a"), 
+        10
+    ).configurations();
+
+    assertThat(configurations.get("db.a"), is("1"));
+    assertThat(
+        handler.getPreparedStatements().get(0).getSQL(), 
+        is("SELECT name, value FROM settings WHERE name LIKE 'db.%' AND name IN (?)")
+    );
+  }
+
+  @Test
+  public void callerFetchSizeLeftAsIs() throws Exception {
+    final MockConnection conn = new MockConnection();
+    conn.getPreparedStatementResultSetHandler().prepareResultSet("SELECT name, value FROM settings", mock);
+    final PreparedStatement stmt = conn.prepareStatement("SELECT name, value FROM settings");
+    stmt.setFetchSize(50);
+
+    assertThat(new JdbcConfigurationSource(stmt).configurations().size(), is(KEYS.length));
+    assertThat(stmt.getFetchSize(), is(50));
+    assertThat(stmt.isClosed(), is(false));
+  }
+
+  @Test
+  public void duplicateKeysKeepLastValue() throws Exception {
+    final MockResultSet result = new MockResultSet("result");
+    result.addColumn("name", new String[]{"a", "b", "a"});
+    result.addColumn("value", new String[]{"1", "2", "3"});
+    final Map<String, String> configurations = new JdbcConfigurationSource(result).configurations();
+
+    assertThat(configurations.size(), is(2));
+    assertThat(configurations.get("a"), is("3"));
+  }
+
+  @Test(expected = SQLException.class)
+  public void errorIfNullName() throws Exception {
+    final MockResultSet result = new MockResultSet("result");
+    result.addColumn("name", new String[]{"a", null});
+    result.addColumn("value", new String[]{"1", "2"});
+    new JdbcConfigurationSource(result);
+  }
+
+  @Test
+  public void nullNameErrorNamesSql() throws Exception {
+    final MockConnection conn = new MockConnection();
+    final MockResultSet result = new MockResultSet("result");
+    result.addColumn("name", new String[]{null});
+    result.addColumn("value", new String[]{"1"});
+    conn.getPreparedStatementResultSetHandler().prepareResultSet("SELECT name, value FROM settings", result);
+
+    try{
+      new JdbcConfigurationSource(conn, "SELECT name, value FROM settings");
+      fail("expected an SQLException");
+    }catch(SQLException e){
+      assertThat(e.getMessage(), is("Null configuration name returned by 'SELECT name, value FROM settings'"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfNoKeysPlaceholder() throws Exception {
+    new JdbcConfigurationSource(new MockConnection(), "SELECT name, value FROM settings", Arrays.asList("a"), 10);
+  }
+
+  @Test
+  public void noQueryIfNoKeys() throws Exception {
+    final MockConnection conn = new MockConnection();
+
+    assertThat(
+        new JdbcConfigurationSource(conn, "SELECT name, value FROM settings WHERE name IN (%s)", Collections.emptyList(), 10)
+            .configurations()
+            .isEmpty(),
+        is(true)
+    );
+    assertThat(conn.getPreparedStatementResultSetHandler().getPreparedStatements().isEmpty(), is(true));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfNegativeFetchSize() throws Exception {
+    new JdbcConfigurationSource(new MockConnection(), "SELECT name, value FROM settings", -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfBatchSizeNotPositive() throws Exception {
+    new JdbcConfigurationSource(new MockConnection(), "SELECT name, value FROM settings WHERE name IN (%s)", Arrays.asList("a"), 0);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void unmodifiableConfigurations() throws Exception {
+    new JdbcConfigurationSource(mock).configurations().put("e", "5");
+  }
+}
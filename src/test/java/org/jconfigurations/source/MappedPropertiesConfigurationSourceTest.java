@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.ConfigurationException;
+import static org.junit.Assert.assertThat;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class MappedPropertiesConfigurationSourceTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void sameConfigurationsAsProperties() throws Exception {
+    final String contents = "# comment\n"
+            + "! another comment \\\n"
+            + "\n"
+            + "   a=1\n"
+            + "b = 2\r\n"
+            + "c:3\r"
+            + "d    4\n"
+            + "e\n"
+            + "f=\n"
+            + "g = multi \\\n"
+            + "    line \\\r\n"
+            + "\tvalue\n"
+            + "h\\ i\\=j = escaped\\tkey\n"
+            + "k = \\u0041\\u00e9\\n\\\\\n"
+            + "a = overridden\n"
+            + "l = = : value\n"
+            + "m = \\\n"
+            + "   continued\n"
+            + "\u00e9 = latin\n"
+            + "last = no newline";
+    final Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(contents.getBytes(StandardCharsets.ISO_8859_1)));
+    final Map<String, String> expected = new HashMap<>();
+
+    for(String name : properties.stringPropertyNames()){
+      expected.put(name, properties.getProperty(name));
+    }
+
+    final Map<String, String> configurations = new MappedPropertiesConfigurationSource(write(contents)).configurations();
+
+    for(Map.Entry<String, String> entry : expected.entrySet()){
+      assertThat(entry.getKey(), configurations.get(entry.getKey()), is(entry.getValue()));
+    }
+
+    assertThat(configurations.size(), is(expected.size()));
+    assertThat(configurations.equals(expected), is(true));
+    assertThat(new HashMap<>(configurations), is(expected));
+  }
+
+  @Test
+  public void missingConfigurations() throws Exception {
+    final Map<String, String> configurations = new MappedPropertiesConfigurationSource(write("a=1\n")).configurations();
+
+    assertThat(configurations.get("b"), is(nullValue()));
+    assertThat(configurations.get("a "), is(nullValue()));
+    assertThat(configurations.get(1), is(nullValue()));
+    assertThat(configurations.containsKey("a"), is(true));
+    assertThat(configurations.containsKey("b"), is(false));
+  }
+
+  @Test
+  public void emptyFile() throws Exception {
+    assertThat(new MappedPropertiesConfigurationSource(write("")).configurations().isEmpty(), is(true));
+  }
+
+  @Test
+  public void manyConfigurations() throws Exception {
+    final StringBuilder contents = new StringBuilder();
+
+    for(int i = 0; i < 1000; i++){
+      contents.append("key").append(i).append('=').append(i).append('\n');
+    }
+
+    final Map<String, String> configurations = new MappedPropertiesConfigurationSource(write(contents.toString())).configurations();
+
+    assertThat(configurations.size(), is(1000));
+
+    for(int i = 0; i < 1000; i++){
+      assertThat(configurations.get("key" + i), is(String.valueOf(i)));
+    }
+  }
+
+  @Test
+  public void manyEscapedKeys() throws Exception {
+    final StringBuilder contents = new StringBuilder();
+
+    for(int i = 0; i < 100; i++){
+      if(i % 3 == 0){
+        contents.append("key").append(i).append('=').append(i).append('\n');
+      }else{
+        contents.append("key\\ ").append(i).append('=').append(i).append('\n');
+      }
+    }
+
+    contents.append("key\\ 1=overridden\n");
+    final Map<String, String> configurations = new MappedPropertiesConfigurationSource(write(contents.toString())).configurations();
+    final Properties properties = new Properties();
+    properties.load(new ByteArrayInputStream(contents.toString().getBytes(StandardCharsets.ISO_8859_1)));
+
+    assertThat(configurations.size(), is(100));
+    assertThat(configurations.get("key 1"), is("overridden"));
+    assertThat(configurations.get("key\\ 1"), is(nullValue()));
+    assertThat(new HashMap<>(configurations), is(new HashMap<>(properties)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void configurationsAreReadOnly() throws Exception {
+    new MappedPropertiesConfigurationSource(write("a=1\n")).configurations().put("b", "2");
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfMalformedUnicodeEscape() throws Exception {
+    new MappedPropertiesConfigurationSource(write("a=\\u00g1\n"));
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfFileNotFound() throws Exception {
+    new MappedPropertiesConfigurationSource(new File(folder.getRoot(), "missing.properties").toPath());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullFile() throws Exception {
+    new MappedPropertiesConfigurationSource(null);
+  }
+
+  private Path write(String contents) throws Exception {
+    final Path file = folder.newFile().toPath();
+    Files.write(file, contents.getBytes(StandardCharsets.ISO_8859_1));
+
+    return file;
+  }
+}
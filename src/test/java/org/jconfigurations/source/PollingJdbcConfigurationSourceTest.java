@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import com.mockrunner.jdbc.PreparedStatementResultSetHandler;
+import com.mockrunner.mock.jdbc.MockDataSource;
+import com.mockrunner.mock.jdbc.MockConnection;
+import com.mockrunner.mock.jdbc.MockResultSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.ConfigurationException;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class PollingJdbcConfigurationSourceTest {
+  private static final String SQL = "SELECT name, value, version FROM settings WHERE version > ?";
+  private MockDataSource dataSource;
+  private PreparedStatementResultSetHandler handler;
+
+  @Before
+  public void before() {
+    final MockConnection conn = new MockConnection();
+    dataSource = new MockDataSource();
+    dataSource.setupConnection(conn);
+    handler = conn.getPreparedStatementResultSetHandler();
+    handler.prepareResultSet(
+        SQL, 
+        rows("initial", new String[]{"a", "b"}, new String[]{"1", "2"}, new Long[]{1L, 2L}), 
+        new Object[]{0L}
+    );
+  }
+
+  @Test
+  public void loadsAllRowsInitially() throws Exception {
+    try(PollingJdbcConfigurationSource source = source()){
+      assertThat(source.configurations().get("a"), is("1"));
+      assertThat(source.configurations().get("b"), is("2"));
+      assertThat(source.version(), is(0L));
+    }
+  }
+
+  @Test
+  public void mergesChangedRowsAndTombstones() throws Exception {
+    handler.prepareResultSet(
+        SQL, 
+        rows("changes", new String[]{"a", "b", "c"}, new String[]{"10", null, "3"}, new Long[]{3L, 4L, 5L}), 
+        new Object[]{2L}
+    );
+
+    try(PollingJdbcConfigurationSource source = source()){
+      final AtomicReference<Map<String, String>> previous = new AtomicReference<>();
+      source.addListener((p, c) -> previous.set(p));
+
+      assertThat(source.poll(), is(1L));
+      assertThat(source.configurations().get("a"), is("10"));
+      assertThat(source.configurations().containsKey("b"), is(false));
+      assertThat(source.configurations().get("c"), is("3"));
+      assertThat(previous.get().get("a"), is("1"));
+      assertThat(handler.getParametersForExecutedStatement(SQL).getNumberParameterSets(), is(2));
+    }
+  }
+
+  @Test
+  public void numericVersionsComparedByValue() throws Exception {
+    handler.clearResultSets();
+    handler.prepareResultSet(
+        SQL, 
+        rows("integers", new String[]{"a", "b"}, new String[]{"1", "2"}, new Integer[]{1, 2}), 
+        new Object[]{0L}
+    );
+    handler.prepareResultSet(
+        SQL, 
+        rows("changes", new String[]{"a"}, new String[]{"10"}, new Integer[]{3}), 
+        new Object[]{2}
+    );
+
+    try(PollingJdbcConfigurationSource source = source()){
+      assertThat(source.configurations().get("b"), is("2"));
+      assertThat(source.poll(), is(1L));
+      assertThat(source.configurations().get("a"), is("10"));
+    }
+  }
+
+  @Test
+  public void nothingPublishedIfNoRowsChanged() throws Exception {
+    handler.prepareResultSet(SQL, rows("empty", new String[0], new String[0], new Long[0]), new Object[]{2L});
+
+    try(PollingJdbcConfigurationSource source = source()){
+      final AtomicReference<Map<String, String>> current = new AtomicReference<>();
+      source.addListener((p, c) -> current.set(c));
+
+      assertThat(source.poll(), is(0L));
+      assertThat(current.get(), is(nullValue()));
+    }
+  }
+
+  @Test
+  public void failedPollKeepsConfigurations() throws Exception {
+    handler.prepareThrowsSQLException(SQL, new Object[]{2L});
+
+    try(PollingJdbcConfigurationSource source = source()){
+      final AtomicReference<ConfigurationException> error = new AtomicReference<>();
+      source.addListener(new ConfigurationListener() {
+        @Override
+        public void configurationsChanged(Map<String, String> previous, Map<String, String> current) {
+        }
+
+        @Override
+        public void reloadFailed(ConfigurationException e) {
+          error.set(e);
+        }
+      });
+
+      try{
+        source.poll();
+        fail("expected a ConfigurationException");
+      }catch(ConfigurationException e){
+        assertThat(error.get(), is(e));
+      }
+
+      assertThat(source.configurations().get("a"), is("1"));
+    }
+  }
+
+  @Test
+  public void nullNameRejectsWholeDelta() throws Exception {
+    try(PollingJdbcConfigurationSource source = source()){
+      handler.clearResultSets();
+      handler.prepareResultSet(
+          SQL,
+          rows("null name", new String[]{"a", null}, new String[]{"10", "3"}, new Long[]{3L, 4L}),
+          new Object[]{2L}
+      );
+
+      try{
+        source.poll();
+        fail("expected a ConfigurationException");
+      }catch(ConfigurationException e){
+        //expected
+      }
+
+      assertThat(source.configurations().get("a"), is("1"));
+      assertThat(source.version(), is(0L));
+
+      handler.clearResultSets();
+      handler.prepareResultSet(
+          SQL,
+          rows("fixed", new String[]{"a", "c"}, new String[]{"10", "3"}, new Long[]{3L, 4L}),
+          new Object[]{2L}
+      );
+
+      assertThat(source.poll(), is(1L));
+      assertThat(source.configurations().get("a"), is("10"));
+      assertThat(source.configurations().get("c"), is("3"));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfIntervalNotPositive() throws Exception {
+    new PollingJdbcConfigurationSource(dataSource, SQL, 0L, 0, 0, TimeUnit.SECONDS);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullDataSource() throws Exception {
+    new PollingJdbcConfigurationSource(null, SQL, 0L, 0, 1, TimeUnit.SECONDS);
+  }
+
+  private PollingJdbcConfigurationSource source() throws ConfigurationException {
+    return new PollingJdbcConfigurationSource(
+        dataSource, 
+        SQL, 
+        0L, 
+        100, 
+        1, 
+        TimeUnit.HOURS, 
+        row -> row.getString(2) == null
+    );
+  }
+
+  private static MockResultSet rows(String id, String[] names, String[] values, Object[] versions) {
+    final MockResultSet rows = new MockResultSet(id);
+    rows.addColumn("name", names);
+    rows.addColumn("value", values);
+    rows.addColumn("version", versions);
+    return rows;
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.HashMap;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class PrefixIndexedConfigurationSourceTest {
+  @Test
+  public void sameConfigurationsAsIndexedMap() {
+    final Map<String, String> map = configurations();
+
+    assertThat(new PrefixIndexedConfigurationSource(map).configurations(), is(map));
+  }
+
+  @Test
+  public void subsetStripsPrefix() {
+    final Map<String, String> expected = new HashMap<>();
+    expected.put("max", "10");
+    expected.put("min", "1");
+    expected.put("retry.count", "3");
+
+    final Map<String, String> subset = new PrefixIndexedConfigurationSource(configurations()).subset("db.pool").configurations();
+
+    assertThat(subset, is(expected));
+    assertThat(subset.get("max"), is("10"));
+    assertThat(subset.get("db.pool.max"), is(nullValue()));
+    assertThat(subset.containsKey("retry.count"), is(true));
+    assertThat(subset.size(), is(3));
+  }
+
+  @Test
+  public void subsetWithTrailingSeparator() {
+    final PrefixIndexedConfigurationSource source = new PrefixIndexedConfigurationSource(configurations());
+
+    assertThat(source.subset("db.pool.").configurations(), is(source.subset("db.pool").configurations()));
+  }
+
+  @Test
+  public void subsetOfSubset() {
+    final PrefixIndexedConfigurationSource source = new PrefixIndexedConfigurationSource(configurations());
+
+    assertThat(source.subset("db").subset("pool").configurations(), is(source.subset("db.pool").configurations()));
+    assertThat(source.subset("db").subset("pool").subset("retry").configurations().get("count"), is("3"));
+  }
+
+  @Test
+  public void subsetExcludesSiblingsSharingPrefix() {
+    final Map<String, String> subset = new PrefixIndexedConfigurationSource(configurations()).subset("db").configurations();
+
+    assertThat(subset.containsKey("pool.max"), is(true));
+    assertThat(subset.containsKey("url"), is(true));
+    assertThat(subset.containsKey("Size"), is(false));
+    assertThat(subset.size(), is(5));
+  }
+
+  @Test
+  public void emptySubset() {
+    assertThat(new PrefixIndexedConfigurationSource(configurations()).subset("missing").configurations().isEmpty(), is(true));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void configurationsAreReadOnly() {
+    new PrefixIndexedConfigurationSource(configurations()).subset("db").configurations().put("a", "1");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfEmptyPrefix() {
+    new PrefixIndexedConfigurationSource(configurations()).subset("");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullPrefix() {
+    new PrefixIndexedConfigurationSource(configurations()).subset(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullConfigurations() {
+    new PrefixIndexedConfigurationSource((Map<String, String>) null);
+  }
+
+  private static Map<String, String> configurations() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("db.url", "jdbc:h2:mem:");
+    map.put("db.pool.max", "10");
+    map.put("db.pool.min", "1");
+    map.put("db.pool.retry.count", "3");
+    map.put("db.poolSize", "5");
+    map.put("dbSize", "6");
+    map.put("cache.ttl", "60");
+
+    return map;
+  }
+}
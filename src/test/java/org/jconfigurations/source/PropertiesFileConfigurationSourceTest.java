@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import org.jconfigurations.ConfigurationException;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class PropertiesFileConfigurationSourceTest {
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void loadsFileEagerly() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\nb=2\n");
+
+    try(PropertiesFileConfigurationSource source = new PropertiesFileConfigurationSource(file)){
+      assertThat(source.configurations().get("a"), is("1"));
+      assertThat(source.configurations().get("b"), is("2"));
+      assertThat(source.version(), is(0L));
+    }
+  }
+
+  @Test
+  public void reloadsWhenFileChanges() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\n");
+
+    try(PropertiesFileConfigurationSource source = new PropertiesFileConfigurationSource(file, 50, TimeUnit.MILLISECONDS)){
+      final CountDownLatch latch = new CountDownLatch(1);
+      source.addListener((previous, current) -> {
+        if("3".equals(current.get("a"))){
+          latch.countDown();
+        }
+      });
+
+      write(file, "a=2\n");
+      write(file, "a=3\n");
+
+      assertTrue("file was not reloaded", latch.await(30, TimeUnit.SECONDS));
+      assertThat(source.configurations().get("a"), is("3"));
+    }
+  }
+
+  @Test
+  public void ignoresOtherFiles() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\n");
+
+    try(PropertiesFileConfigurationSource source = new PropertiesFileConfigurationSource(file, 10, TimeUnit.MILLISECONDS)){
+      final CountDownLatch latch = new CountDownLatch(1);
+      source.addListener((previous, current) -> latch.countDown());
+      write(new File(folder.getRoot(), "other.properties").toPath(), "a=2\n");
+      write(file, "a=3\n");
+
+      assertTrue("file was not reloaded", latch.await(30, TimeUnit.SECONDS));
+      assertThat(source.configurations().get("a"), is("3"));
+    }
+  }
+
+  @Test
+  public void otherFilesDoNotExtendDebounce() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\n");
+    final Path other = new File(folder.getRoot(), "other.properties").toPath();
+
+    try(PropertiesFileConfigurationSource source = new PropertiesFileConfigurationSource(file, 500, TimeUnit.MILLISECONDS)){
+      final CountDownLatch latch = new CountDownLatch(1);
+      source.addListener((previous, current) -> latch.countDown());
+      final Thread writer = new Thread(() -> {
+        try{
+          for(int i = 0; i < 600 && latch.getCount() > 0; i++){
+            write(other, "a=" + i + "\n");
+            Thread.sleep(50);
+          }
+        }catch(Exception e){
+          //stop writing
+        }
+      });
+      writer.start();
+
+      try{
+        write(file, "a=2\n");
+
+        assertTrue("reload was delayed by other files", latch.await(10, TimeUnit.SECONDS));
+        assertThat(source.configurations().get("a"), is("2"));
+      }finally{
+        writer.interrupt();
+        writer.join();
+      }
+    }
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfFileDoesNotExist() throws Exception {
+    new PropertiesFileConfigurationSource(new File(folder.getRoot(), "missing.properties").toPath()).close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfNegativeDebounce() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\n");
+    new PropertiesFileConfigurationSource(file, -1, TimeUnit.MILLISECONDS).close();
+  }
+
+  @Test
+  public void closedSourceKeepsConfigurations() throws Exception {
+    final Path file = write(new File(folder.getRoot(), "test.properties").toPath(), "a=1\n");
+    final PropertiesFileConfigurationSource source = new PropertiesFileConfigurationSource(file);
+    source.close();
+    final Map<String, String> configurations = source.configurations();
+
+    assertThat(configurations, is(notNullValue()));
+    assertThat(configurations.get("a"), is("1"));
+  }
+
+  private static Path write(Path file, String contents) throws Exception {
+    return Files.write(file, contents.getBytes(StandardCharsets.ISO_8859_1));
+  }
+}
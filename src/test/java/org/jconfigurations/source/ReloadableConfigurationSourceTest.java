@@ -0,0 +1,333 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.source;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import org.jconfigurations.Configuration;
+import org.jconfigurations.ConfigurationException;
+import org.jconfigurations.configurators.SinglePassConfigurator;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class ReloadableConfigurationSourceTest {
+  @Test
+  public void reloadSwapsSnapshot() throws Exception {
+    final AtomicInteger loads = new AtomicInteger();
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(
+        () -> new MapConfigurationSource(map("a", String.valueOf(loads.incrementAndGet())))
+    );
+    final Map<String, String> first = source.configurations();
+
+    assertThat(source.version(), is(0L));
+    assertThat(source.reload(), is(1L));
+    assertThat(source.version(), is(1L));
+    assertThat(source.configurations().get("a"), is("2"));
+    assertThat(first.get("a"), is("1"));
+  }
+
+  @Test
+  public void publishCopiesConfigurations() throws Exception {
+    final Map<String, String> map = map("a", "1");
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map);
+    map.put("a", "2");
+
+    assertThat(source.configurations().get("a"), is("1"));
+    assertThat(source.publish(map), is(1L));
+    map.remove("a");
+    assertThat(source.configurations().get("a"), is("2"));
+  }
+
+  @Test
+  public void failedReloadKeepsSnapshot() throws Exception {
+    final AtomicBoolean failing = new AtomicBoolean();
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(() -> {
+      if(failing.get()){
+        throw new ConfigurationException("test");
+      }
+
+      return new MapConfigurationSource(map("a", "1"));
+    });
+    failing.set(true);
+
+    try{
+      source.reload();
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      //expected
+    }
+
+    assertThat(source.version(), is(0L));
+    assertThat(source.configurations().get("a"), is("1"));
+  }
+
+  @Test
+  public void readersSeeConsistentSnapshots() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(versioned(0));
+    final AtomicReference<String> inconsistency = new AtomicReference<>();
+    final AtomicBoolean done = new AtomicBoolean();
+    final Thread reader = new Thread(() -> {
+      final SinglePassConfigurator configurator = new SinglePassConfigurator(source);
+
+      while(!done.get()){
+        final TestClass test = new TestClass();
+
+        try{
+          configurator.configure(test);
+        }catch(ConfigurationException e){
+          inconsistency.set(e.getMessage());
+          return;
+        }
+
+        if(!test.a.equals(test.b) || !test.b.equals(test.c)){
+          inconsistency.set(test.a + "/" + test.b + "/" + test.c);
+          return;
+        }
+      }
+    });
+    reader.start();
+
+    for(int i = 1; i <= 10000; i++){
+      source.publish(versioned(i));
+    }
+
+    done.set(true);
+    reader.join();
+
+    assertThat(inconsistency.get(), is(nullValue()));
+    assertThat(source.version(), is(10000L));
+  }
+
+  @Test
+  public void concurrentReplacementsPublishedInVersionOrder() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "0"));
+    final AtomicReference<Map<String, String>> last = new AtomicReference<>(source.configurations());
+    final AtomicInteger outOfOrder = new AtomicInteger();
+    final List<Long> versions = new ArrayList<>();
+    source.addListener((p, c) -> {
+      if(!last.compareAndSet(p, c)){
+        outOfOrder.incrementAndGet();
+      }
+    });
+    source.events().subscribe(new ConfigurationEventPublisher.Subscriber() {
+      @Override
+      public void onSubscribe(ConfigurationEventPublisher.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+      }
+
+      @Override
+      public void onNext(ConfigurationEvent event) {
+        versions.add(event.version());
+      }
+
+      @Override
+      public void onError(Throwable error) {
+      }
+
+      @Override
+      public void onComplete() {
+      }
+    });
+    final Thread[] threads = new Thread[4];
+
+    for(int t = 0; t < threads.length; t++){
+      final int thread = t;
+      threads[t] = new Thread(() -> {
+        for(int i = 1; i <= 2000; i++){
+          source.publish(map("a", thread + "-" + i));
+        }
+      });
+      threads[t].start();
+    }
+
+    for(Thread thread : threads){
+      thread.join();
+    }
+
+    assertThat(outOfOrder.get(), is(0));
+    assertThat(last.get(), is(source.configurations()));
+    assertThat(versions.size(), is(8000));
+
+    for(int i = 0; i < versions.size(); i++){
+      assertThat(versions.get(i), is(i + 1L));
+    }
+  }
+
+  @Test
+  public void blockingListenerDoesNotBlockReplacements() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "0"));
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    final List<String> values = new CopyOnWriteArrayList<>();
+    source.addListener((p, c) -> {
+      values.add(c.get("a"));
+
+      if("1".equals(c.get("a"))){
+        entered.countDown();
+
+        try{
+          release.await();
+        }catch(InterruptedException e){
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    final Thread blocked = new Thread(() -> source.publish(map("a", "1")));
+    blocked.start();
+
+    try{
+      assertTrue("listener was not notified", entered.await(10, TimeUnit.SECONDS));
+      final FutureTask<Long> publish = new FutureTask<>(() -> source.publish(map("a", "2")));
+      new Thread(publish).start();
+
+      assertThat(publish.get(10, TimeUnit.SECONDS), is(2L));
+      assertThat(source.configurations().get("a"), is("2"));
+      assertThat(values, is(Arrays.asList("1")));
+    }finally{
+      release.countDown();
+      blocked.join();
+    }
+
+    assertThat(values, is(Arrays.asList("1", "2")));
+  }
+
+  @Test
+  public void listenersNotifiedOfChanges() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "1"));
+    final AtomicReference<Map<String, String>> previous = new AtomicReference<>();
+    final AtomicReference<Map<String, String>> current = new AtomicReference<>();
+    final ConfigurationListener listener = (p, c) -> {previous.set(p); current.set(c);};
+    source.addListener(listener);
+    source.publish(map("a", "2"));
+
+    assertThat(previous.get().get("a"), is("1"));
+    assertThat(current.get(), is(source.configurations()));
+    assertThat(source.removeListener(listener), is(true));
+    source.publish(map("a", "3"));
+    assertThat(current.get().get("a"), is("2"));
+  }
+
+  @Test
+  public void listenersNotifiedOfFailedReloads() throws Exception {
+    final AtomicBoolean failing = new AtomicBoolean();
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(() -> {
+      if(failing.get()){
+        throw new ConfigurationException("test");
+      }
+
+      return new MapConfigurationSource(map("a", "1"));
+    });
+    final AtomicReference<ConfigurationException> error = new AtomicReference<>();
+    source.addListener(new ConfigurationListener() {
+      @Override
+      public void configurationsChanged(Map<String, String> previous, Map<String, String> current) {
+      }
+
+      @Override
+      public void reloadFailed(ConfigurationException e) {
+        error.set(e);
+      }
+    });
+    failing.set(true);
+
+    try{
+      source.reload();
+      fail("expected a ConfigurationException");
+    }catch(ConfigurationException e){
+      assertThat(error.get(), is(e));
+    }
+  }
+
+  @Test
+  public void allListenersNotifiedIfOneFails() throws Exception {
+    final ReloadableConfigurationSource source = new ReloadableConfigurationSource(map("a", "1"));
+    final AtomicInteger notified = new AtomicInteger();
+    source.addListener((p, c) -> {throw new IllegalStateException("test");});
+    source.addListener((p, c) -> notified.incrementAndGet());
+
+    try{
+      source.publish(map("a", "2"));
+      fail("expected an IllegalStateException");
+    }catch(IllegalStateException e){
+      //expected
+    }
+
+    assertThat(notified.get(), is(1));
+    assertThat(source.configurations().get("a"), is("2"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void unmodifiableConfigurations() throws Exception {
+    new ReloadableConfigurationSource(map("a", "1")).configurations().put("b", "2");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void errorIfReloadWithoutLoader() throws Exception {
+    new ReloadableConfigurationSource(map("a", "1")).reload();
+  }
+
+  @Test(expected = ConfigurationException.class)
+  public void errorIfLoaderProducesNull() throws Exception {
+    new ReloadableConfigurationSource(() -> null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullMap() throws Exception {
+    new ReloadableConfigurationSource((Map<String, String>) null);
+  }
+
+  private static Map<String, String> map(String key, String value) {
+    final Map<String, String> map = new HashMap<>();
+    map.put(key, value);
+    return map;
+  }
+
+  private static Map<String, String> versioned(int version) {
+    final Map<String, String> map = new HashMap<>();
+    map.put("a", String.valueOf(version));
+    map.put("b", String.valueOf(version));
+    map.put("c", String.valueOf(version));
+    return map;
+  }
+
+  private static class TestClass {
+    @Configuration
+    private String a;
+    @Configuration
+    private String b;
+    @Configuration
+    private String c;
+  }
+}
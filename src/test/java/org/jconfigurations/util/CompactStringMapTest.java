@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class CompactStringMapTest {
+  @Test
+  public void sameMappingsAsCopiedMap() {
+    final Map<String, String> map = new HashMap<>();
+
+    for(int i = 0; i < 1000; i++){
+      map.put("key" + i, "value" + i);
+    }
+
+    final CompactStringMap compact = CompactStringMap.copyOf(map);
+
+    assertThat(compact.size(), is(1000));
+    assertThat(compact, is(map));
+    assertThat(map, is((Map<String, String>) compact));
+    assertThat(compact.hashCode(), is(map.hashCode()));
+
+    for(int i = 0; i < 1000; i++){
+      assertThat(compact.get("key" + i), is("value" + i));
+    }
+  }
+
+  @Test
+  public void builderSameMappingsAsPutMap() {
+    final Map<String, String> map = new LinkedHashMap<>();
+    final CompactStringMap.Builder builder = new CompactStringMap.Builder();
+
+    for(int i = 0; i < 1000; i++){
+      map.put("key" + i, "value" + i);
+      builder.put("key" + i, "value" + i);
+    }
+
+    map.put("key7", "replaced");
+    builder.put("key7", "replaced");
+    final CompactStringMap compact = builder.build();
+
+    assertThat(compact.size(), is(1000));
+    assertThat(compact, is(map));
+    assertThat(compact.keySet().iterator().next(), is("key0"));
+    assertThat(compact.get("key7"), is("replaced"));
+    assertThat(compact.get("key1000"), is(nullValue()));
+  }
+
+  @Test
+  public void emptyBuilder() {
+    assertThat(new CompactStringMap.Builder().build().isEmpty(), is(true));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullKeyInBuilder() {
+    new CompactStringMap.Builder().put(null, "a");
+  }
+
+  @Test
+  public void missingKeys() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("a", "1");
+    final CompactStringMap compact = CompactStringMap.copyOf(map);
+
+    assertThat(compact.get("b"), is(nullValue()));
+    assertThat(compact.get(1), is(nullValue()));
+    assertThat(compact.get(null), is(nullValue()));
+    assertThat(compact.containsKey("a"), is(true));
+    assertThat(compact.containsKey("b"), is(false));
+  }
+
+  @Test
+  public void collidingKeys() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("Aa", "1");
+    map.put("BB", "2");
+    final CompactStringMap compact = CompactStringMap.copyOf(map);
+
+    assertThat("Aa".hashCode(), is("BB".hashCode()));
+    assertThat(compact.get("Aa"), is("1"));
+    assertThat(compact.get("BB"), is("2"));
+  }
+
+  @Test
+  public void nullValues() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("a", null);
+    final CompactStringMap compact = CompactStringMap.copyOf(map);
+
+    assertThat(compact.get("a"), is(nullValue()));
+    assertThat(compact.containsKey("a"), is(true));
+  }
+
+  @Test
+  public void iteratesInCopiedOrder() {
+    final Map<String, String> map = new LinkedHashMap<>();
+    map.put("c", "3");
+    map.put("a", "1");
+    map.put("b", "2");
+    final Iterator<Map.Entry<String, String>> entries = CompactStringMap.copyOf(map).entrySet().iterator();
+
+    assertThat(entries.next().getKey(), is("c"));
+    assertThat(entries.next().getKey(), is("a"));
+    assertThat(entries.next().getKey(), is("b"));
+    assertThat(entries.hasNext(), is(false));
+  }
+
+  @Test
+  public void emptyMap() {
+    final CompactStringMap compact = CompactStringMap.copyOf(new HashMap<>());
+
+    assertThat(compact.isEmpty(), is(true));
+    assertThat(compact.get("a"), is(nullValue()));
+  }
+
+  @Test
+  public void copyOfCompactMapIsSameInstance() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("a", "1");
+    final CompactStringMap compact = CompactStringMap.copyOf(map);
+
+    assertThat(CompactStringMap.copyOf(compact), is(sameInstance(compact)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void errorIfModified() {
+    CompactStringMap.copyOf(new HashMap<>()).put("a", "1");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void errorIfModifiedThroughEntries() {
+    final Map<String, String> map = new HashMap<>();
+    map.put("a", "1");
+
+    CompactStringMap.copyOf(map).entrySet().iterator().next().setValue("2");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullKey() {
+    final Map<String, String> map = new HashMap<>();
+    map.put(null, "1");
+
+    CompactStringMap.copyOf(map);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullMap() {
+    CompactStringMap.copyOf(null);
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.regex.PatternSyntaxException;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class DelimiterTest {
+  private static final List<String> DELIMITERS = Arrays.asList(
+      ",", ";", "::", "aa", "=", "\\|", "\\.", "\\Q.*\\E", "[,;]", ",\\s*", "\\s+", "|", ""
+  );
+  private static final List<String> VALUES = Arrays.asList(
+      "", ",", ",,", "a", "a,b", ",a", "a,", "a,,b,,", ",,a,,", "a, b,  c", "a;b,c", "aaa", "aaaa", "baab",
+      "x::y::", "::x", "a=b=c", "=", "a=", "=b", "a|b|", "a.b.", "a.*b.*", " a  b ", "::::", "a::::b"
+  );
+
+  @Test
+  public void sameTokensAsSplit() {
+    for(String delimiter : DELIMITERS){
+      for(String value : VALUES){
+        assertThat(delimiter + " / " + value, tokens(delimiter, value), is(Arrays.asList(value.split(delimiter))));
+      }
+    }
+  }
+
+  @Test
+  public void sameTokensAsSplitForRandomValues() {
+    final Random random = new Random(42);
+    final char[] alphabet = {',', ';', ':', 'a', 'b', '=', ' '};
+
+    for(int i = 0; i < 10000; i++){
+      final char[] value = new char[random.nextInt(12)];
+
+      for(int j = 0; j < value.length; j++){
+        value[j] = alphabet[random.nextInt(alphabet.length)];
+      }
+
+      for(String delimiter : DELIMITERS){
+        final String string = new String(value);
+        assertThat(delimiter + " / " + string, tokens(delimiter, string), is(Arrays.asList(string.split(delimiter))));
+      }
+    }
+  }
+
+  @Test
+  public void literalDetection() {
+    assertThat(new Delimiter(",").isLiteral(), is(true));
+    assertThat(new Delimiter("::").isLiteral(), is(true));
+    assertThat(new Delimiter("\\|").isLiteral(), is(true));
+    assertThat(new Delimiter("\\Q.*\\E").isLiteral(), is(true));
+    assertThat(new Delimiter("|").isLiteral(), is(false));
+    assertThat(new Delimiter("\\s").isLiteral(), is(false));
+    assertThat(new Delimiter("[,;]").isLiteral(), is(false));
+    assertThat(new Delimiter("").isLiteral(), is(false));
+  }
+
+  @Test
+  public void tokenizerCanBeReset() {
+    final Delimiter.Tokenizer tokenizer = new Delimiter(",").tokenize("a,b");
+    tokenizer.next();
+    tokenizer.reset("c,d,e");
+    final List<String> tokens = new ArrayList<>();
+
+    while(tokenizer.hasNext()){
+      tokens.add(tokenizer.next());
+    }
+
+    assertThat(tokens, is(Arrays.asList("c", "d", "e")));
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void errorIfNoMoreTokens() {
+    final Delimiter.Tokenizer tokenizer = new Delimiter(",").tokenize("a,");
+    tokenizer.next();
+    tokenizer.next();
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void malformedRegexReportedOnTokenize() {
+    new Delimiter("[").tokenize("a");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullDelimiter() {
+    new Delimiter(null);
+  }
+
+  private static List<String> tokens(String delimiter, String value) {
+    final Delimiter.Tokenizer tokenizer = new Delimiter(delimiter).tokenize(value);
+    final List<String> tokens = new ArrayList<>();
+
+    while(tokenizer.hasNext()){
+      tokens.add(tokenizer.next());
+    }
+
+    return tokens;
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017 George Aristy (george.aristy@gmail.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jconfigurations.writers;
+
+import java.lang.reflect.Field;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author George Aristy (george.aristy@gmail.com)
+ */
+public class MethodHandleFieldWriterTest {
+  @Test
+  public void setReference() throws Exception {
+    final TestClass test = new TestClass();
+    writer("string").set(test, "value");
+    assertThat(test.string, is("value"));
+    writer("string").set(test, null);
+    assertThat(test.string, is(nullValue()));
+  }
+
+  @Test
+  public void setPrimitives() throws Exception {
+    final TestClass test = new TestClass();
+    writer("i").setInt(test, 1);
+    writer("l").setLong(test, 2L);
+    writer("f").setFloat(test, 3.5f);
+    writer("d").setDouble(test, 4.5);
+    writer("b").setBoolean(test, true);
+    assertThat(test.i, is(1));
+    assertThat(test.l, is(2L));
+    assertThat(test.f, is(3.5f));
+    assertThat(test.d, is(4.5));
+    assertThat(test.b, is(true));
+  }
+
+  @Test
+  public void setBoxedPrimitives() throws Exception {
+    final TestClass test = new TestClass();
+    writer("i").set(test, 1);
+    writer("l").set(test, 2L);
+    writer("b").set(test, Boolean.TRUE);
+    assertThat(test.i, is(1));
+    assertThat(test.l, is(2L));
+    assertThat(test.b, is(true));
+  }
+
+  @Test
+  public void wideningConversions() throws Exception {
+    final TestClass test = new TestClass();
+    writer("l").set(test, 5);
+    writer("d").setInt(test, 6);
+    assertThat(test.l, is(5L));
+    assertThat(test.d, is(6.0));
+  }
+
+  @Test
+  public void setStatic() throws Exception {
+    writer("STATIC").set(null, "static");
+    assertThat(TestClass.STATIC, is("static"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfWrongValueType() throws Exception {
+    writer("string").set(new TestClass(), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfNullPrimitive() throws Exception {
+    writer("i").set(new TestClass(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void errorIfWrongObject() throws Exception {
+    writer("string").set(new Object(), "value");
+  }
+
+  @Test(expected = IllegalAccessException.class)
+  public void errorIfStaticFinal() throws Exception {
+    writer("STATIC_FINAL");
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void errorIfNullField() throws Exception {
+    new MethodHandleFieldWriter(null);
+  }
+
+  private static MethodHandleFieldWriter writer(String name) throws Exception {
+    final Field field = TestClass.class.getDeclaredField(name);
+    field.setAccessible(true);
+    return new MethodHandleFieldWriter(field);
+  }
+
+  private static class TestClass {
+    private static String STATIC;
+    private String string;
+    private static final String STATIC_FINAL = "final";
+    private int i;
+    private long l;
+    private float f;
+    private double d;
+    private boolean b;
+  }
+}